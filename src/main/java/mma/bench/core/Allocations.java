@@ -0,0 +1,74 @@
+package mma.bench.core;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Reads the number of bytes allocated by the current thread, through the HotSpot extension of the
+ * {@link ThreadMXBean} (<code>com.sun.management.ThreadMXBean.getThreadAllocatedBytes</code>).
+ * <p>
+ * The counter is updated by the JVM on each TLAB refill and each allocation outside the TLABs, so it is exact
+ * over the duration of an iteration, but not for a single small call. As the read itself may allocate (e.g. the
+ * ids array of the JDK 8 implementation), its cost is measured once and subtracted by {@link #since(long)}.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class Allocations {
+  
+  private static final com.sun.management.ThreadMXBean BEAN;
+  private static final long                            OVERHEAD;
+  
+  static {
+    com.sun.management.ThreadMXBean b = null;
+    try {
+      final ThreadMXBean tb = ManagementFactory.getThreadMXBean();
+      if (tb instanceof com.sun.management.ThreadMXBean
+          && ((com.sun.management.ThreadMXBean) tb).isThreadAllocatedMemorySupported()) {
+        b = (com.sun.management.ThreadMXBean) tb;
+        b.setThreadAllocatedMemoryEnabled(true);
+      }
+    } catch (final RuntimeException | LinkageError e) {
+      b = null;
+    }
+    BEAN = b;
+    long o = 0;
+    if (BEAN != null) {
+      o = Long.MAX_VALUE;
+      for (int i = 0; i < 100; i++) {
+        final long a = current();
+        o = Math.min(o, current() - a);
+      }
+    }
+    OVERHEAD = o;
+  }
+  
+  private Allocations() {
+    // no instances
+  }
+  
+  /**
+   * @return true if the allocated bytes can be read on this JVM
+   */
+  public static boolean supported() {
+    return BEAN != null;
+  }
+  
+  /**
+   * @return the number of bytes allocated by the current thread since its start, -1 if not supported
+   */
+  public static long current() {
+    return BEAN == null ? -1 : BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+  
+  /**
+   * @param aStart a value previously returned by {@link #current()}
+   * @return the number of bytes allocated by the current thread since then (without the reads cost), -1 if not
+   *         supported
+   */
+  public static long since(final long aStart) {
+    return BEAN == null ? -1 : Math.max(0, current() - aStart - OVERHEAD);
+  }
+}
@@ -0,0 +1,63 @@
+package mma.bench.core;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Reads the time spent by the JIT compilers, through the {@link CompilationMXBean}, as a hint of compilations
+ * occurring during the measurement iterations instead of the warmup ones.
+ * <p>
+ * The time is JVM wide: the sum of the compilation times of all the compiler threads, whatever the compiled code
+ * (the measured one or not, e.g. the code of another thread), read in milliseconds, so the short compilations
+ * (usually C1 ones) may be missed. It neither names the compiled methods nor tells the OSR or C2 compilations:
+ * they are given by the JFR jdk.Compilation events (see <code>mma.bench.jfr.JfrAnalyzer</code>) or by
+ * -XX:+PrintCompilation.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class Compilations {
+  
+  private static final CompilationMXBean BEAN;
+  
+  static {
+    CompilationMXBean b = null;
+    try {
+      b = ManagementFactory.getCompilationMXBean();
+      if (b != null && !b.isCompilationTimeMonitoringSupported()) {
+        b = null;
+      }
+    } catch (final RuntimeException | LinkageError e) {
+      b = null;
+    }
+    BEAN = b;
+  }
+  
+  private Compilations() {
+    // no instances
+  }
+  
+  /**
+   * @return true if the compilation time can be read on this JVM (false e.g. in interpreted mode)
+   */
+  public static boolean supported() {
+    return BEAN != null;
+  }
+  
+  /**
+   * @return the total compilation time since the JVM start, in ms, -1 if not supported
+   */
+  public static long current() {
+    return BEAN == null ? -1 : BEAN.getTotalCompilationTime();
+  }
+  
+  /**
+   * @param aStart a value previously returned by {@link #current()}
+   * @return the compilation time since then, in ms, -1 if not supported
+   */
+  public static long since(final long aStart) {
+    return BEAN == null ? -1 : BEAN.getTotalCompilationTime() - aStart;
+  }
+}
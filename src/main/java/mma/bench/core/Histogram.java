@@ -0,0 +1,168 @@
+package mma.bench.core;
+
+/**
+ * Records latencies (in nanoseconds) and computes their statistics.
+ * <p>
+ * The samples are not kept but counted in buckets of a fixed size log-linear layout: the values under
+ * {@value #SUB} have their own bucket, the bigger ones are split in {@value #SUB} buckets per power of 2, so the
+ * percentiles are given with a relative precision of 1 / {@value #SUB} (about 3 %), whatever the number of
+ * samples, in a bounded memory (about 15 KB when all the buckets are used). The min, max and mean are exact.<br>
+ * The buckets rows (a row per power of 2) are either allocated at construction, so that the recording does not
+ * allocate (for the allocation measurements), or on their first sample (for the per thread histograms of the
+ * contention measurements, which may have thousands of threads).
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class Histogram {
+  
+  /** The number of bits of the sub bucket index */
+  private static final int SUB_BITS = 5;
+  /** The number of buckets per power of 2 */
+  private static final int SUB      = 1 << SUB_BITS;
+  /** The number of rows (the values under SUB, then the powers of 2 from SUB to 2^62) */
+  private static final int ROWS     = 64 - SUB_BITS;
+  
+  private final long[][]   rows     = new long[ROWS][];
+  private long             count;
+  private long             min      = Long.MAX_VALUE;
+  private long             max;
+  private double           sum;
+  
+  /**
+   * Constructor, allocating all the buckets.
+   */
+  public Histogram() {
+    this(true);
+  }
+  
+  /**
+   * Constructor.
+   *
+   * @param aPreallocate true to allocate all the buckets, false to allocate them on their first sample
+   */
+  Histogram(final boolean aPreallocate) {
+    if (aPreallocate) {
+      for (int r = 0; r < ROWS; r++) {
+        rows[r] = new long[SUB];
+      }
+    }
+  }
+  
+  /**
+   * Records a sample.
+   *
+   * @param aNanos the latency in nanoseconds
+   */
+  public void record(final long aNanos) {
+    record(aNanos, 1);
+  }
+  
+  /**
+   * Records several samples of the same value (e.g. the mean latency of a batch of calls, for each call).
+   *
+   * @param aNanos the latency in nanoseconds (0 if negative)
+   * @param aCount the number of samples
+   */
+  public void record(final long aNanos, final long aCount) {
+    if (aCount <= 0) {
+      return;
+    }
+    final long v = Math.max(0, aNanos);
+    final int e = 63 - Long.numberOfLeadingZeros(v);
+    final int r = e < SUB_BITS ? 0 : e - SUB_BITS + 1;
+    final int s = r == 0 ? (int) v : (int) (v >>> (r - 1)) - SUB;
+    long[] row = rows[r];
+    if (row == null) {
+      row = new long[SUB];
+      rows[r] = row;
+    }
+    row[s] += aCount;
+    count += aCount;
+    sum += (double) v * aCount;
+    min = Math.min(min, v);
+    max = Math.max(max, v);
+  }
+  
+  /**
+   * Records all the samples of another histogram.
+   *
+   * @param aOther the other histogram
+   */
+  public void add(final Histogram aOther) {
+    if (aOther.count == 0) {
+      return;
+    }
+    for (int r = 0; r < ROWS; r++) {
+      final long[] o = aOther.rows[r];
+      if (o != null) {
+        if (rows[r] == null) {
+          rows[r] = new long[SUB];
+        }
+        for (int s = 0; s < SUB; s++) {
+          rows[r][s] += o[s];
+        }
+      }
+    }
+    count += aOther.count;
+    sum += aOther.sum;
+    min = Math.min(min, aOther.min);
+    max = Math.max(max, aOther.max);
+  }
+  
+  /**
+   * @return the number of samples
+   */
+  public long count() {
+    return count;
+  }
+  
+  /**
+   * @param aPct the percentile, between 0 and 100
+   * @return the upper bound of the bucket of the smallest sample greater or equal than the given percentage of the
+   *         samples (within the min and the max), 0 if none
+   */
+  public long percentile(final double aPct) {
+    if (count == 0) {
+      return 0;
+    }
+    final long rank = Math.min(Math.max((long) Math.ceil((aPct / 100.0) * count), 1), count);
+    long n = 0;
+    for (int r = 0; r < ROWS; r++) {
+      final long[] row = rows[r];
+      if (row != null) {
+        for (int s = 0; s < SUB; s++) {
+          n += row[s];
+          if (n >= rank) {
+            final long up = r == 0 ? s : ((long) (SUB + s + 1) << (r - 1)) - 1;
+            return Math.min(Math.max(up, min), max);
+          }
+        }
+      }
+    }
+    return max;
+  }
+  
+  /**
+   * @return the smallest sample
+   */
+  public long min() {
+    return count == 0 ? 0 : min;
+  }
+  
+  /**
+   * @return the biggest sample
+   */
+  public long max() {
+    return max;
+  }
+  
+  /**
+   * @return the samples mean
+   */
+  public double mean() {
+    return count == 0 ? 0 : sum / count;
+  }
+}
@@ -0,0 +1,44 @@
+package mma.bench.core;
+
+/**
+ * Listener of the iterations run by the {@link Runner}, e.g. to mark them in a profiler recording.
+ * <p>
+ * The probes are loaded by name (see {@link Runner}), so that the implementations depending on recent JDK
+ * APIs do not prevent this package from being compiled and run with older JDKs.<br>
+ * The calls are made by the thread running the workloads, a begin always being followed by its end.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public interface Probe {
+  
+  /** The warmup phase */
+  String WARMUP      = "warmup";
+  /** The measurement phase */
+  String MEASUREMENT = "measurement";
+  
+  /**
+   * Called before an iteration.
+   *
+   * @param aProgram the program name
+   * @param aGroup the group of the measured method
+   * @param aMethod the measured method
+   * @param aThreads the number of threads calling the workload
+   * @param aVirtual true if the threads are virtual threads
+   * @param aPhase the phase ({@link #WARMUP} or {@link #MEASUREMENT})
+   * @param aIteration the iteration number in the phase
+   */
+  void begin(String aProgram, String aGroup, String aMethod, int aThreads, boolean aVirtual, String aPhase,
+      int aIteration);
+  
+  /**
+   * Called after an iteration.
+   *
+   * @param aCalls the number of calls of the workload
+   * @param aNsPerOp the mean time of an operation
+   * @param aResult the sum of the values returned by the workload
+   */
+  void end(long aCalls, double aNsPerOp, long aResult);
+}
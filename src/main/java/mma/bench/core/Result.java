@@ -0,0 +1,162 @@
+package mma.bench.core;
+
+import java.util.Locale;
+
+/**
+ * The result of the measurement of a workload.
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class Result {
+  
+  /** The columns separator */
+  public static final String SEP    = ";";
+  
+  /** The header line (starting with '#'), naming the columns of {@link #toLine()} */
+  public static final String HEADER = "#program;jdk;group;method;threads;opsPerCall;opUnit;callsPerIter;iterations;"
+      + "nsPerOp;callP50Ns;callP99Ns;callMaxNs;allocBytesPerOp;cpuPct;jitMs;iterNsPerOp";
+  
+  /** The program name */
+  public final String        program;
+  /** The group of the measured method */
+  public final String        group;
+  /** The measured method */
+  public final String        method;
+  /** The number of threads calling the workload concurrently */
+  public final int           threads;
+  /** The number of elementary operations performed by a call of the workload */
+  public final long          opsPerCall;
+  /** The unit of the operations ({@link Runner#UNIT_LOOP} or {@link Runner#UNIT_ELEMENT}) */
+  public final String        opUnit;
+  /** The calibrated number of calls per iteration (of all the threads, in the last iteration, if threaded) */
+  public final long          callsPerIter;
+  /**
+   * The mean time of an operation for each measurement iteration (if threaded, the iteration wall time divided
+   * by the operations of all the threads, i.e. the inverse of the throughput)
+   */
+  public final double[]      iterNsPerOp;
+  /**
+   * The latencies of the calls of all the measurement iterations (the mean of their batch when the calls are timed
+   * by batches, see {@link Runner})
+   */
+  public final Histogram     callLatencies;
+  /** The mean number of bytes allocated by an operation during the measurement iterations, -1 if unknown */
+  public final double        allocBytesPerOp;
+  /**
+   * The mean CPU utilization of the threads executing the workload during the measurement iterations, in
+   * percents of their number (the carrier threads for the virtual threads), -1 if unknown (not threaded)
+   */
+  public final double        cpuPct;
+  /**
+   * The time spent by the JIT compilers during the measurement iterations, in ms, -1 if unknown (see
+   * {@link Compilations}, JVM wide, so for any code): when positive, the warmup may not have ended the
+   * compilations of the measured code, the JFR analyzer telling which methods were compiled
+   */
+  public final long          jitMs;
+  
+  /**
+   * Constructor.
+   *
+   * @param aProgram the program name
+   * @param aGroup the group of the measured method
+   * @param aMethod the measured method
+   * @param aThreads the number of threads calling the workload concurrently
+   * @param aOpsPerCall the number of elementary operations performed by a call of the workload
+   * @param aOpUnit the unit of the operations
+   * @param aCallsPerIter the calibrated number of calls per iteration
+   * @param aIterNsPerOp the mean time of an operation for each measurement iteration
+   * @param aCallLatencies the latencies of the calls
+   * @param aAllocBytesPerOp the mean number of bytes allocated by an operation, -1 if unknown
+   * @param aCpuPct the mean CPU utilization of the executing threads, -1 if unknown
+   * @param aJitMs the time spent by the JIT compilers during the measurement iterations, -1 if unknown
+   */
+  public Result(final String aProgram, final String aGroup, final String aMethod, final int aThreads,
+      final long aOpsPerCall, final String aOpUnit, final long aCallsPerIter, final double[] aIterNsPerOp,
+      final Histogram aCallLatencies, final double aAllocBytesPerOp, final double aCpuPct, final long aJitMs) {
+    program = aProgram;
+    group = aGroup;
+    method = aMethod;
+    threads = aThreads;
+    opsPerCall = aOpsPerCall;
+    opUnit = aOpUnit;
+    callsPerIter = aCallsPerIter;
+    iterNsPerOp = aIterNsPerOp;
+    callLatencies = aCallLatencies;
+    allocBytesPerOp = aAllocBytesPerOp;
+    cpuPct = aCpuPct;
+    jitMs = aJitMs;
+  }
+  
+  /**
+   * @return true if the JIT compilers (JVM wide) were busy during the measurement iterations
+   */
+  public boolean contaminated() {
+    return jitMs > 0;
+  }
+  
+  /**
+   * @return the mean time of an operation over all the measurement iterations
+   */
+  public double nsPerOp() {
+    double s = 0;
+    for (final double d : iterNsPerOp) {
+      s += d;
+    }
+    return iterNsPerOp.length == 0 ? 0 : s / iterNsPerOp.length;
+  }
+  
+  /**
+   * @return the mean number of operations per second (of all the threads if threaded)
+   */
+  public double opsPerSec() {
+    final double ns = nsPerOp();
+    return ns <= 0 ? 0 : 1e9 / ns;
+  }
+  
+  /**
+   * @return the result as a line with the columns of {@link #HEADER}, the per iteration times being separated
+   *         by commas
+   */
+  public String toLine() {
+    final StringBuilder sb = new StringBuilder(256);
+    sb.append(program).append(SEP).append(System.getProperty("java.version")).append(SEP);
+    sb.append(group).append(SEP).append(method).append(SEP).append(threads).append(SEP);
+    sb.append(opsPerCall).append(SEP).append(opUnit).append(SEP).append(callsPerIter).append(SEP);
+    sb.append(iterNsPerOp.length).append(SEP);
+    sb.append(fmt(nsPerOp())).append(SEP);
+    sb.append(callLatencies.percentile(50)).append(SEP).append(callLatencies.percentile(99)).append(SEP);
+    sb.append(callLatencies.max()).append(SEP);
+    sb.append(fmt(allocBytesPerOp)).append(SEP).append(fmt(cpuPct)).append(SEP);
+    sb.append(jitMs).append(SEP);
+    for (int i = 0; i < iterNsPerOp.length; i++) {
+      if (i > 0) {
+        sb.append(',');
+      }
+      sb.append(fmt(iterNsPerOp[i]));
+    }
+    return sb.toString();
+  }
+  
+  /**
+   * @return a human readable summary
+   */
+  @Override
+  public String toString() {
+    return method + (threads > 1 ? " x " + threads + " threads" : "") + " : " + fmt(nsPerOp())
+        + " ns/op ; call p50 = " + (callLatencies.percentile(50) / 1000) + " us, p99 = "
+        + (callLatencies.percentile(99) / 1000) + " us, max = " + (callLatencies.max() / 1000) + " us, alloc = "
+        + (allocBytesPerOp < 0 ? "?" : fmt(allocBytesPerOp)) + " B/op" + (cpuPct < 0 ? "" : ", cpu = "
+        + fmt(cpuPct) + " %") + (contaminated() ? ", JIT during measurement = " + jitMs + " ms" : "") + " ("
+        + callsPerIter + " calls x " + iterNsPerOp.length + " iterations)";
+  }
+  
+  /**
+   * @param aVal a double
+   * @return the double with 3 decimals, with a '.' whatever the default locale
+   */
+  static String fmt(final double aVal) {
+    return String.format(Locale.ROOT, "%.3f", Double.valueOf(aVal));
+  }
+}
@@ -0,0 +1,138 @@
+package mma.bench.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A results file (written by the {@link Runner} or merged by the matrix), read as rows of columns named by its
+ * '#' header line, so that the readers do not depend on the columns order.
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class ResultsTable {
+  
+  private final File           file;
+  private final List<String>   columns = new ArrayList<>();
+  private final List<String[]> rows    = new ArrayList<>();
+  
+  /**
+   * Constructor, reading the file.
+   *
+   * @param aFile the results file
+   * @throws IOException if the file cannot be read
+   */
+  public ResultsTable(final File aFile) throws IOException {
+    file = aFile;
+    for (final String l : Files.readAllLines(aFile.toPath(), StandardCharsets.UTF_8)) {
+      if (l.startsWith("#")) {
+        if (columns.isEmpty()) {
+          Collections.addAll(columns, l.substring(1).split(Result.SEP, -1));
+        }
+      } else if (!l.trim().isEmpty()) {
+        rows.add(l.split(Result.SEP, -1));
+      }
+    }
+  }
+  
+  /**
+   * @return the rows
+   */
+  public List<String[]> rows() {
+    return rows;
+  }
+  
+  /**
+   * @param aName a column name
+   * @return true if the file has the column
+   */
+  public boolean has(final String aName) {
+    return columns.contains(aName);
+  }
+  
+  /**
+   * @param aName a column name
+   * @return the column index
+   * @throws IllegalArgumentException if the file has not the column
+   */
+  public int column(final String aName) {
+    final int i = columns.indexOf(aName);
+    if (i < 0) {
+      throw new IllegalArgumentException("No column " + aName + " in " + file + " (columns " + columns + ")");
+    }
+    return i;
+  }
+  
+  /**
+   * @param aRow a row
+   * @param aName a column name
+   * @return the value of the column in the row, "" if the row is too short
+   */
+  public String get(final String[] aRow, final String aName) {
+    final int i = column(aName);
+    return i < aRow.length ? aRow[i] : "";
+  }
+  
+  /**
+   * @param aRow a row
+   * @return the JDK of the row: the JDK name of the fork for a merged file, the java.version otherwise
+   */
+  public String jdk(final String[] aRow) {
+    return has("fork") ? get(aRow, "fork").split("/")[0] : get(aRow, "jdk");
+  }
+  
+  /**
+   * @param aRow a row
+   * @return the fork of the row: the fork identifier for a merged file, the file name otherwise
+   */
+  public String fork(final String[] aRow) {
+    return has("fork") ? get(aRow, "fork") : file.getName();
+  }
+  
+  /**
+   * @param aRow a row
+   * @return the program/group/method key of the row, suffixed by @&lt;threads&gt;t for the contention results
+   */
+  public String key(final String[] aRow) {
+    final String t = has("threads") ? get(aRow, "threads") : "1";
+    return get(aRow, "program") + "/" + get(aRow, "group") + "/" + get(aRow, "method")
+        + ("1".equals(t) ? "" : "@" + t + "t");
+  }
+  
+  /**
+   * @param aRow a row
+   * @param aName a column name
+   * @return the numeric value of the column in the row, NaN if empty or not a number
+   */
+  public double getDouble(final String[] aRow, final String aName) {
+    try {
+      return Double.parseDouble(get(aRow, aName));
+    } catch (final NumberFormatException e) {
+      return Double.NaN;
+    }
+  }
+  
+  /**
+   * @param aRow a row
+   * @param aName a column name
+   * @return the numeric values of a comma separated list column in the row (e.g. iterNsPerOp)
+   */
+  public double[] getDoubles(final String[] aRow, final String aName) {
+    final String v = get(aRow, aName);
+    if (v.isEmpty()) {
+      return new double[0];
+    }
+    final String[] s = v.split(",");
+    final double[] d = new double[s.length];
+    for (int i = 0; i < s.length; i++) {
+      d[i] = Double.parseDouble(s[i]);
+    }
+    return d;
+  }
+}
@@ -0,0 +1,551 @@
+package mma.bench.core;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Measures workloads with nanoTime based timings, in warmup and measurement phases.
+ * <p>
+ * For each workload:
+ * <ul>
+ * <li>the garbage collector is run (if not disabled)
+ * <li>the warmup iterations are run, each one calibrating the number of calls of the next one so that an
+ * iteration lasts about the configured time
+ * <li>the measurement iterations are run with the last calibrated number of calls, timed by batches of calls
+ * (at most {@link #BATCHES} batches per iteration, so a batch of one call for the slow workloads, the call latency
+ * being the mean of its batch otherwise, so that the cheap workloads are not dominated by the timer cost), and
+ * the bytes allocated by each iteration being read (see {@link Allocations}), as the time spent by the JIT
+ * compilers during the iterations (JVM wide, see {@link Compilations}), which marks the result as possibly
+ * contaminated by compilations the warmup did not finish (the compiled methods being given by JFR)
+ * <li>the values returned by the calls are consumed by a {@link Sink}
+ * <li>the result is printed on the standard output and appended to the results file (if configured)
+ * </ul>
+ * The configuration is read from the following system properties:
+ * <ul>
+ * <li>bench.warmup: the number of warmup iterations (default 5, at least 1)
+ * <li>bench.iterations: the number of measurement iterations (default 10)
+ * <li>bench.time: the target duration of an iteration, in ms (default 200)
+ * <li>bench.gc: false to not run the garbage collector before each workload (default true)
+ * <li>bench.groups: the comma separated list of the groups to run (default all)
+ * <li>bench.threads: the comma separated list of the numbers of threads of the contention measurements (default
+ * 1,2,4,8)
+ * <li>bench.vthreads: the comma separated list of the numbers of virtual threads of the contention measurements
+ * (default 1000,10000)
+ * <li>bench.sizes: the comma separated list of the data sizes of the sized workloads, with an optional k, m or g
+ * (1024 based) suffix (default given by the program, see {@link #sizes(String)})
+ * <li>bench.out: the results file (default none)
+ * <li>bench.probes: the comma separated list of the {@link Probe} classes to notify of the iterations (default
+ * mma.bench.jfr.JfrProbe, silently ignored if not available, e.g. before JDK 11 ; empty for none)
+ * <li>bench.baseline: false to not measure the empty loop baseline (default true)
+ * </ul>
+ * </p>
+ * <p>
+ * Before the first workload, an empty loop baseline (method {@value #BASE_METHOD} of group {@value #BASE_GROUP},
+ * whatever bench.groups, an operation being a loop iteration adding the index to a local) is measured as the
+ * workloads: a workload whose time per operation is not above it most likely had its work removed by the JIT
+ * (dead code elimination). The results not more than {@link #BASE_MARGIN} above the baseline are listed at the
+ * end of the run, only for the workloads whose operation is a call or a loop iteration ({@link #UNIT_LOOP}, the
+ * default), not for the ones measured per data element ({@link #UNIT_ELEMENT}, e.g. per byte of a scan) ; the
+ * statistical check across JDKs is done by <code>mma.bench.stats.DeadCodeReport</code>.
+ * </p>
+ * <p>
+ * The contention measurements ({@link #runThreads(String, String, long, int, boolean, Workload)}) call a thread
+ * safe workload from several platform or virtual threads during fixed duration iterations, and report the
+ * throughput of all the threads, the latencies of all their calls and the CPU utilization of the executing
+ * threads.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class Runner {
+  
+  /** The number of warmup iterations property */
+  public static final String P_WARMUP     = "bench.warmup";
+  /** The number of measurement iterations property */
+  public static final String P_ITERATIONS = "bench.iterations";
+  /** The iteration duration (ms) property */
+  public static final String P_TIME       = "bench.time";
+  /** The garbage collector property */
+  public static final String P_GC         = "bench.gc";
+  /** The groups to run property */
+  public static final String P_GROUPS     = "bench.groups";
+  /** The numbers of threads property */
+  public static final String P_THREADS    = "bench.threads";
+  /** The numbers of virtual threads property */
+  public static final String P_VTHREADS   = "bench.vthreads";
+  /** The data sizes property */
+  public static final String P_SIZES      = "bench.sizes";
+  /** The results file property */
+  public static final String P_OUT        = "bench.out";
+  /** The probes property */
+  public static final String P_PROBES     = "bench.probes";
+  /** The default probe */
+  public static final String DEF_PROBE    = "mma.bench.jfr.JfrProbe";
+  /** The empty loop baseline property */
+  public static final String P_BASELINE   = "bench.baseline";
+  /** The group of the empty loop baseline */
+  public static final String BASE_GROUP   = "baseline";
+  /** The empty loop baseline method */
+  public static final String BASE_METHOD  = "z0_empty_loop";
+  /** The number of iterations of a call of the empty loop baseline */
+  static final int           BASE_OPS     = 1000000;
+  /** The operation unit of the workloads whose operation is a call or a loop iteration of a call */
+  public static final String UNIT_LOOP    = "loop";
+  /**
+   * The operation unit of the workloads whose operation is a data element (a byte, a char, a token...), several
+   * of them being possibly processed by a loop iteration, so not comparable to the empty loop baseline
+   */
+  public static final String UNIT_ELEMENT = "element";
+  /** The relative margin above the baseline under which a result is listed as likely eliminated */
+  static final double        BASE_MARGIN  = 0.1;
+  /** The maximum number of timed batches of calls of a measurement iteration */
+  static final int           BATCHES      = 1000;
+  
+  private final String       program;
+  private final int          warmup;
+  private final int          iterations;
+  private final long         iterNanos;
+  private final boolean      gc;
+  private final Set<String>  groups;
+  private final int[]        threads;
+  private final int[]        vthreads;
+  private final String       out;
+  private final Sink         sink         = new Sink();
+  private final List<Probe>  probes       = new ArrayList<>();
+  private final List<String> contaminated = new ArrayList<>();
+  private final boolean      baseline;
+  private final List<Result> singles      = new ArrayList<>();
+  /** The baseline loop bound, in a field so that the JIT does not see it as a constant */
+  private int                baseOps      = BASE_OPS;
+  private Result             baseResult;
+  
+  /**
+   * Constructor, reading the configuration from the system properties.
+   *
+   * @param aProgram the program name (printed in the results)
+   */
+  public Runner(final String aProgram) {
+    program = aProgram;
+    warmup = Math.max(1, Integer.getInteger(P_WARMUP, 5).intValue());
+    iterations = Math.max(1, Integer.getInteger(P_ITERATIONS, 10).intValue());
+    iterNanos = 1000000L * Math.max(1, Integer.getInteger(P_TIME, 200).intValue());
+    gc = !"false".equals(System.getProperty(P_GC));
+    final String g = System.getProperty(P_GROUPS);
+    groups = g == null || g.trim().isEmpty() ? null : new HashSet<>(Arrays.asList(g.trim().split("\\s*,\\s*")));
+    threads = ints(P_THREADS, "1,2,4,8");
+    vthreads = ints(P_VTHREADS, "1000,10000");
+    out = System.getProperty(P_OUT);
+    baseline = !"false".equals(System.getProperty(P_BASELINE));
+    final String p = System.getProperty(P_PROBES);
+    for (final String cn : (p == null ? DEF_PROBE : p).split(",")) {
+      if (!cn.trim().isEmpty()) {
+        loadProbe(cn.trim(), p != null);
+      }
+    }
+  }
+  
+  /**
+   * @param aProp a property
+   * @param aDefault the property default value
+   * @return the positive numbers of the comma separated list of the property
+   */
+  private static int[] ints(final String aProp, final String aDefault) {
+    final String[] t = System.getProperty(aProp, aDefault).trim().split("\\s*,\\s*");
+    final int[] v = new int[t.length];
+    for (int i = 0; i < t.length; i++) {
+      v[i] = Math.max(1, Integer.parseInt(t[i]));
+    }
+    return v;
+  }
+  
+  /**
+   * Loads and adds a probe.
+   *
+   * @param aClassName the probe class name
+   * @param aWarn true to print a warning if the probe cannot be loaded
+   */
+  private void loadProbe(final String aClassName, final boolean aWarn) {
+    try {
+      probes.add((Probe) Class.forName(aClassName).getDeclaredConstructor().newInstance());
+    } catch (final Exception | LinkageError e) {
+      if (aWarn) {
+        System.err.println("Cannot load probe " + aClassName + " : " + e);
+      }
+    }
+  }
+  
+  /**
+   * @param aGroup a group name
+   * @return true if the group is to be run, false otherwise
+   */
+  public boolean accepts(final String aGroup) {
+    return groups == null || groups.contains(aGroup);
+  }
+  
+  /**
+   * @return the numbers of threads of the contention measurements
+   */
+  public int[] threads() {
+    return threads.clone();
+  }
+  
+  /**
+   * @return the numbers of virtual threads of the contention measurements
+   */
+  public int[] virtualThreads() {
+    return vthreads.clone();
+  }
+  
+  /**
+   * @param aDefault the default sizes, in the bench.sizes property format (e.g. 64,1k,1m)
+   * @return the data sizes of the sized workloads
+   */
+  public long[] sizes(final String aDefault) {
+    final String[] sz = System.getProperty(P_SIZES, aDefault).trim().toLowerCase(Locale.ROOT).split("\\s*,\\s*");
+    final long[] sizes = new long[sz.length];
+    for (int i = 0; i < sz.length; i++) {
+      final String v = sz[i];
+      final int u = "kmg".indexOf(v.charAt(v.length() - 1));
+      sizes[i] = Long.parseLong(u < 0 ? v : v.substring(0, v.length() - 1)) << (u < 0 ? 0 : 10 * (u + 1));
+    }
+    return sizes;
+  }
+  
+  /**
+   * @return the sink consuming the workloads values
+   */
+  public Sink sink() {
+    return sink;
+  }
+  
+  /**
+   * Measures a workload (if its group is to be run), an operation being a call or a loop iteration of a call (see
+   * {@link #UNIT_LOOP}), and reports its result.
+   *
+   * @param aGroup the group of the measured method
+   * @param aMethod the measured method
+   * @param aOpsPerCall the number of elementary operations performed by a call of the workload
+   * @param aWl the workload
+   * @return the result, or null if the group is not to be run
+   */
+  public Result run(final String aGroup, final String aMethod, final long aOpsPerCall, final Workload aWl) {
+    return run(aGroup, aMethod, aOpsPerCall, UNIT_LOOP, aWl);
+  }
+  
+  /**
+   * Measures a workload (if its group is to be run), and reports its result.
+   *
+   * @param aGroup the group of the measured method
+   * @param aMethod the measured method
+   * @param aOpsPerCall the number of elementary operations performed by a call of the workload
+   * @param aOpUnit the unit of the operations, {@link #UNIT_LOOP} or {@link #UNIT_ELEMENT} (the results of the
+   *          latter being not compared to the empty loop baseline)
+   * @param aWl the workload
+   * @return the result, or null if the group is not to be run
+   */
+  public Result run(final String aGroup, final String aMethod, final long aOpsPerCall, final String aOpUnit,
+      final Workload aWl) {
+    if (!accepts(aGroup)) {
+      return null;
+    }
+    runBaseline();
+    final Result r = measure(aGroup, aMethod, aOpsPerCall, aOpUnit, warmup, aWl);
+    singles.add(r);
+    return r;
+  }
+  
+  /**
+   * Measures the empty loop baseline, if configured and not yet done.
+   */
+  private void runBaseline() {
+    if (!baseline || baseResult != null) {
+      return;
+    }
+    // twice the warmup, as the first workload runs while the JIT still compiles the program startup
+    baseResult = measure(BASE_GROUP, BASE_METHOD, baseOps, UNIT_LOOP, 2 * warmup, new Workload() {
+      @Override
+      public long run() {
+        final int n = baseOps;
+        long l = 0;
+        for (int i = 0; i < n; i++) {
+          l += i;
+        }
+        return l;
+      }
+    });
+  }
+  
+  /**
+   * Measures a workload and reports its result.
+   *
+   * @param aGroup the group of the measured method
+   * @param aMethod the measured method
+   * @param aOpsPerCall the number of elementary operations performed by a call of the workload
+   * @param aOpUnit the unit of the operations
+   * @param aWarmup the number of warmup iterations
+   * @param aWl the workload
+   * @return the result
+   */
+  private Result measure(final String aGroup, final String aMethod, final long aOpsPerCall, final String aOpUnit,
+      final int aWarmup, final Workload aWl) {
+    System.out.println(aMethod);
+    if (gc) {
+      System.gc();
+    }
+    // warmup & calibration
+    long calls = 1;
+    for (int k = 0; k < aWarmup; k++) {
+      begin(aGroup, aMethod, 1, false, Probe.WARMUP, k);
+      long res = 0;
+      final long bt = System.nanoTime();
+      for (long c = 0; c < calls; c++) {
+        res += aWl.run();
+      }
+      final long tp = System.nanoTime() - bt;
+      sink.consume(res);
+      end(calls, (double) tp / (calls * aOpsPerCall), res);
+      calls = tp <= 0 ? calls * 10 : Math.max(1, Math.round(((double) calls * iterNanos) / tp));
+    }
+    // measurement
+    final Histogram h = new Histogram();
+    final double[] iterNsPerOp = new double[iterations];
+    final long batch = Math.max(1, calls / BATCHES);
+    long alloc = 0;
+    final long bj = Compilations.current();
+    for (int k = 0; k < iterations; k++) {
+      begin(aGroup, aMethod, 1, false, Probe.MEASUREMENT, k);
+      long res = 0;
+      long tt = 0;
+      final long ba = Allocations.current();
+      for (long c = 0; c < calls; c += batch) {
+        final long n = Math.min(batch, calls - c);
+        final long bt = System.nanoTime();
+        for (long b = 0; b < n; b++) {
+          res += aWl.run();
+        }
+        final long tp = System.nanoTime() - bt;
+        h.record(tp / n, n);
+        tt += tp;
+      }
+      alloc += Allocations.since(ba);
+      sink.consume(res);
+      iterNsPerOp[k] = (double) tt / (calls * aOpsPerCall);
+      end(calls, iterNsPerOp[k], res);
+    }
+    final long jit = Compilations.since(bj);
+    final double allocPerOp = Allocations.supported() ? (double) alloc / (calls * iterations * aOpsPerCall) : -1;
+    final Result r = new Result(program, aGroup, aMethod, 1, aOpsPerCall, aOpUnit, calls, iterNsPerOp, h,
+        allocPerOp, -1, jit);
+    report(r);
+    return r;
+  }
+  
+  /**
+   * Measures a workload called concurrently by several platform threads (if its group is to be run), and
+   * reports its result.
+   *
+   * @param aGroup the group of the measured method
+   * @param aMethod the measured method
+   * @param aOpsPerCall the number of elementary operations performed by a call of the workload
+   * @param aThreads the number of threads
+   * @param aWl the workload (thread safe)
+   * @return the result, or null if the group is not to be run
+   */
+  public Result runThreads(final String aGroup, final String aMethod, final long aOpsPerCall, final int aThreads,
+      final Workload aWl) {
+    return runThreads(aGroup, aMethod, aOpsPerCall, aThreads, false, aWl);
+  }
+  
+  /**
+   * Measures a workload called concurrently by several platform or virtual threads (if its group is to be run,
+   * and for virtual threads if they are available), and reports its result.<br>
+   * Each iteration lasts the configured time, the threads calling the workload in loop; the allocations are not
+   * measured.
+   *
+   * @param aGroup the group of the measured method
+   * @param aMethod the measured method
+   * @param aOpsPerCall the number of elementary operations performed by a call of the workload
+   * @param aThreads the number of threads
+   * @param aVirtual true for virtual threads, false for platform threads
+   * @param aWl the workload (thread safe)
+   * @return the result, or null if the group is not to be run or the virtual threads are not available
+   */
+  public Result runThreads(final String aGroup, final String aMethod, final long aOpsPerCall, final int aThreads,
+      final boolean aVirtual, final Workload aWl) {
+    if (!accepts(aGroup)) {
+      return null;
+    }
+    if (aVirtual && !VirtualThreads.supported()) {
+      System.out.println(aMethod + " : virtual threads not available");
+      return null;
+    }
+    runBaseline();
+    System.out.println(aMethod + " x " + aThreads + (aVirtual ? " virtual" : "") + " threads");
+    if (gc) {
+      System.gc();
+    }
+    final Workers ws = new Workers(aThreads, aVirtual, aWl);
+    final double[] iterNsPerOp = new double[iterations];
+    long calls = 0;
+    double cpuPct = 0;
+    long jit = 0;
+    try {
+      for (int k = 0; k < warmup + iterations; k++) {
+        final boolean m = k >= warmup;
+        begin(aGroup, aMethod, aThreads, aVirtual, m ? Probe.MEASUREMENT : Probe.WARMUP, m ? k - warmup : k);
+        final long bj = Compilations.current();
+        final long wall = ws.iteration(iterNanos, m);
+        calls = ws.calls();
+        final long res = ws.result();
+        sink.consume(res);
+        final double nsPerOp = calls == 0 ? wall : (double) wall / (calls * aOpsPerCall);
+        if (m) {
+          iterNsPerOp[k - warmup] = nsPerOp;
+          cpuPct += (100.0 * ws.cpu()) / ((double) wall * ws.executingThreads() * iterations);
+          jit = bj < 0 ? -1 : jit + Compilations.since(bj);
+        }
+        end(calls, nsPerOp, res);
+      }
+    } finally {
+      ws.stop();
+    }
+    final Result r = new Result(program, aGroup, aMethod, aThreads, aOpsPerCall, UNIT_LOOP, calls, iterNsPerOp,
+        ws.latencies(), -1, cpuPct, jit);
+    report(r);
+    return r;
+  }
+  
+  /**
+   * Prints the throughput scaling of contention results: for each method, the throughput (Mops/s), the speedup
+   * versus the smallest number of threads, the p99 call latency and the CPU utilization of the executing threads,
+   * per number of threads.
+   *
+   * @param aResults the results (the null ones, of the groups not run, being ignored)
+   */
+  public static void printScaling(final List<Result> aResults) {
+    final Map<String, List<Result>> byMethod = new LinkedHashMap<>();
+    for (final Result r : aResults) {
+      if (r != null) {
+        List<Result> l = byMethod.get(r.method);
+        if (l == null) {
+          l = new ArrayList<>();
+          byMethod.put(r.method, l);
+        }
+        l.add(r);
+      }
+    }
+    if (byMethod.isEmpty()) {
+      return;
+    }
+    System.out.println("scaling (threads : Mops/s, speedup, p99 us, cpu %)");
+    for (final Map.Entry<String, List<Result>> e : byMethod.entrySet()) {
+      final StringBuilder sb = new StringBuilder("  ").append(e.getKey());
+      final double base = e.getValue().get(0).opsPerSec();
+      for (final Result r : e.getValue()) {
+        sb.append(" ; ").append(r.threads).append(" : ").append(Result.fmt(r.opsPerSec() / 1e6)).append(", x")
+            .append(Result.fmt(base == 0 ? 0 : r.opsPerSec() / base)).append(", ")
+            .append(r.callLatencies.percentile(99) / 1000).append(", ").append(Result.fmt(r.cpuPct));
+      }
+      System.out.println(sb);
+    }
+  }
+  
+  /**
+   * Notifies the probes of the beginning of an iteration.
+   *
+   * @param aGroup the group of the measured method
+   * @param aMethod the measured method
+   * @param aThreads the number of threads calling the workload
+   * @param aVirtual true if the threads are virtual threads
+   * @param aPhase the phase
+   * @param aIteration the iteration number in the phase
+   */
+  private void begin(final String aGroup, final String aMethod, final int aThreads, final boolean aVirtual,
+      final String aPhase, final int aIteration) {
+    for (int i = 0; i < probes.size(); i++) {
+      probes.get(i).begin(program, aGroup, aMethod, aThreads, aVirtual, aPhase, aIteration);
+    }
+  }
+  
+  /**
+   * Notifies the probes (in reverse order) of the end of an iteration.
+   *
+   * @param aCalls the number of calls of the workload
+   * @param aNsPerOp the mean time of an operation
+   * @param aResult the sum of the values returned by the workload
+   */
+  private void end(final long aCalls, final double aNsPerOp, final long aResult) {
+    for (int i = probes.size() - 1; i >= 0; i--) {
+      probes.get(i).end(aCalls, aNsPerOp, aResult);
+    }
+  }
+  
+  /**
+   * Publishes the sink and lists the results possibly contaminated by JIT compilations and the ones likely
+   * eliminated (to be called at the end of the program).
+   *
+   * @return the sink published value
+   */
+  public long finish() {
+    final long v = sink.publish();
+    System.out.println("sink = " + v);
+    if (!contaminated.isEmpty()) {
+      System.out.println("JIT compilation time (JVM wide, see JfrAnalyzer for the compiled methods) during the "
+          + "measurements (increase bench.warmup or bench.time) of " + contaminated.size() + " results : "
+          + contaminated);
+    }
+    if (baseResult != null) {
+      final double max = baseResult.nsPerOp() * (1 + BASE_MARGIN);
+      final List<String> eliminated = new ArrayList<>();
+      for (final Result r : singles) {
+        if (UNIT_LOOP.equals(r.opUnit) && r.nsPerOp() <= max) {
+          eliminated.add(r.method + " (" + Result.fmt(r.nsPerOp()) + ")");
+        }
+      }
+      if (!eliminated.isEmpty()) {
+        System.out.println("Likely eliminated (ns/op not above the empty loop baseline, "
+            + Result.fmt(baseResult.nsPerOp()) + " ns/op) : " + eliminated);
+      }
+    }
+    return v;
+  }
+  
+  /**
+   * Prints a result and appends it to the results file (if configured).
+   *
+   * @param aRes the result
+   */
+  private void report(final Result aRes) {
+    System.out.println("  " + aRes);
+    if (aRes.contaminated()) {
+      contaminated.add(aRes.method + (aRes.threads > 1 ? " x " + aRes.threads : ""));
+    }
+    if (out == null) {
+      return;
+    }
+    final File f = new File(out);
+    final boolean header = !f.exists() || f.length() == 0;
+    try (Writer w = new FileWriter(f, true)) {
+      if (header) {
+        w.write(Result.HEADER);
+        w.write('\n');
+      }
+      w.write(aRes.toLine());
+      w.write('\n');
+    } catch (final IOException e) {
+      throw new IllegalStateException("Cannot write results file " + out, e);
+    }
+  }
+}
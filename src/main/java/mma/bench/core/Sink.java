@@ -0,0 +1,59 @@
+package mma.bench.core;
+
+/**
+ * Consumer of the values computed by the workloads, to prevent the JIT from eliminating the computations as
+ * dead code.
+ * <p>
+ * The values are accumulated in fields of an object which escapes, and the accumulator is published in a
+ * volatile field at the end of each measurement, so the JIT cannot prove that they are unused.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class Sink {
+  
+  private long            acc;
+  private Object          last;
+  private int             nbObj;
+  private volatile long   published;
+  private volatile Object publishedObj;
+  
+  /**
+   * Consumes a primitive value.
+   *
+   * @param aVal the value
+   */
+  public void consume(final long aVal) {
+    acc += aVal;
+  }
+  
+  /**
+   * Consumes an object.
+   *
+   * @param aObj the object
+   */
+  public void consume(final Object aObj) {
+    last = aObj;
+    nbObj++;
+  }
+  
+  /**
+   * Publishes the accumulated values.
+   *
+   * @return the accumulated primitive values
+   */
+  public long publish() {
+    published = acc + nbObj;
+    publishedObj = last;
+    return published;
+  }
+  
+  /**
+   * @return the last published object (not meaningful, just to read the volatile field)
+   */
+  public Object getPublishedObj() {
+    return publishedObj;
+  }
+}
@@ -0,0 +1,107 @@
+package mma.bench.core;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+
+/**
+ * Access by reflection to the virtual threads (JDK &ge; 21, or 19 / 20 with --enable-preview), so that the
+ * benchmarks still compile and run (without them) on older JDKs.
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class VirtualThreads {
+  
+  /** The class of the platform threads carrying the virtual threads of the default scheduler */
+  static final String         CARRIER_CLASS = "jdk.internal.misc.CarrierThread";
+  
+  private static final Object BUILDER;
+  private static final Method UNSTARTED;
+  
+  static {
+    Object b = null;
+    Method u = null;
+    try {
+      b = Thread.class.getMethod("ofVirtual").invoke(null);
+      u = Class.forName("java.lang.Thread$Builder").getMethod("unstarted", Runnable.class);
+      // fails (UnsupportedOperationException) on the JDKs with the virtual threads in preview but not enabled
+      u.invoke(b, new Runnable() {
+        @Override
+        public void run() {
+          // nothing
+        }
+      });
+    } catch (final Exception | LinkageError e) {
+      b = null;
+      u = null;
+    }
+    BUILDER = b;
+    UNSTARTED = u;
+  }
+  
+  private VirtualThreads() {
+    // no instances
+  }
+  
+  /**
+   * @return true if the virtual threads are available
+   */
+  public static boolean supported() {
+    return BUILDER != null;
+  }
+  
+  /**
+   * Creates an unstarted virtual thread.
+   *
+   * @param aTask the thread task
+   * @param aName the thread name
+   * @return the thread
+   * @throws UnsupportedOperationException if the virtual threads are not available
+   */
+  public static Thread newThread(final Runnable aTask, final String aName) {
+    if (BUILDER == null) {
+      throw new UnsupportedOperationException("Virtual threads not available on " + System.getProperty(
+          "java.version"));
+    }
+    try {
+      final Thread t = (Thread) UNSTARTED.invoke(BUILDER, aTask);
+      t.setName(aName);
+      return t;
+    } catch (final ReflectiveOperationException e) {
+      throw new IllegalStateException("Cannot create a virtual thread", e);
+    }
+  }
+  
+  /**
+   * @return the total CPU time (ns) of the carrier threads of the default scheduler alive, 0 if none or if the
+   *         threads CPU time is not supported
+   */
+  public static long carriersCpuNanos() {
+    final ThreadMXBean tb = ManagementFactory.getThreadMXBean();
+    if (!tb.isThreadCpuTimeSupported()) {
+      return 0;
+    }
+    long t = 0;
+    for (final Thread th : Thread.getAllStackTraces().keySet()) {
+      if (CARRIER_CLASS.equals(th.getClass().getName())) {
+        t += Math.max(0, tb.getThreadCpuTime(th.getId()));
+      }
+    }
+    return t;
+  }
+  
+  /**
+   * @return the number of carrier threads of the default scheduler alive
+   */
+  public static int carriers() {
+    int n = 0;
+    for (final Thread th : Thread.getAllStackTraces().keySet()) {
+      if (CARRIER_CLASS.equals(th.getClass().getName())) {
+        n++;
+      }
+    }
+    return n;
+  }
+}
@@ -0,0 +1,216 @@
+package mma.bench.core;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Phaser;
+
+/**
+ * The threads (platform or virtual) calling concurrently a workload, iteration by iteration, for the contention
+ * measurements of the {@link Runner}.
+ * <p>
+ * The threads are started once per workload and synchronized with the coordinating thread by two phasers:
+ * each iteration starts when all the threads are ready, and lasts until the coordinating thread clears the
+ * running flag (after the iteration duration) and all the threads have finished their current call.<br>
+ * Phasers rather than CyclicBarriers, as a barrier trip hands its lock over to the released threads one after
+ * the other: when pinned virtual threads hold all the carrier threads, the other virtual threads cannot run,
+ * and neither can the coordinating thread queued behind them.<br>
+ * The CPU time of the executing threads (the platform threads, or the carrier threads of the virtual ones) is
+ * measured for each iteration.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+final class Workers {
+  
+  private final Workload      wl;
+  private final boolean       virtual;
+  private final Worker[]      workers;
+  private final Phaser        start;
+  private final Phaser        end;
+  private volatile boolean    running;
+  private volatile boolean    record;
+  private volatile boolean    done;
+  private long                cpu;
+  
+  /**
+   * Constructor, starting the threads.
+   *
+   * @param aThreads the number of threads
+   * @param aVirtual true for virtual threads (see {@link VirtualThreads}), false for platform threads
+   * @param aWl the workload (called concurrently, so it must be thread safe)
+   */
+  Workers(final int aThreads, final boolean aVirtual, final Workload aWl) {
+    wl = aWl;
+    virtual = aVirtual;
+    workers = new Worker[aThreads];
+    start = new Phaser(aThreads + 1);
+    end = new Phaser(aThreads + 1);
+    for (int i = 0; i < aThreads; i++) {
+      workers[i] = new Worker();
+      final String name = "bench-" + (aVirtual ? "virtual-" : "worker-") + i;
+      workers[i].thread = aVirtual ? VirtualThreads.newThread(workers[i], name) : new Thread(workers[i], name);
+      workers[i].thread.setDaemon(true);
+      workers[i].thread.start();
+    }
+  }
+  
+  /**
+   * Runs an iteration.
+   *
+   * @param aNanos the iteration duration
+   * @param aRecord true to record the latencies of the calls
+   * @return the iteration wall time (ns)
+   */
+  long iteration(final long aNanos, final boolean aRecord) {
+    for (final Worker w : workers) {
+      w.calls = 0;
+      w.res = 0;
+    }
+    record = aRecord;
+    running = true;
+    final long bc = cpuNanos();
+    await(start);
+    final long bt = System.nanoTime();
+    try {
+      Thread.sleep(aNanos / 1000000, (int) (aNanos % 1000000));
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    running = false;
+    await(end);
+    final long wall = System.nanoTime() - bt;
+    cpu = Math.max(0, cpuNanos() - bc);
+    for (final Worker w : workers) {
+      if (w.error != null) {
+        throw new IllegalStateException("Workload failed in " + w.thread.getName(), w.error);
+      }
+    }
+    return wall;
+  }
+  
+  /**
+   * @return the CPU time (ns) of the executing threads in the last iteration
+   */
+  long cpu() {
+    return cpu;
+  }
+  
+  /**
+   * @return the number of executing threads (the carrier threads for the virtual threads)
+   */
+  int executingThreads() {
+    return virtual ? Math.max(1, VirtualThreads.carriers()) : workers.length;
+  }
+  
+  /**
+   * @return the current total CPU time (ns) of the executing threads, 0 if not supported
+   */
+  private long cpuNanos() {
+    if (virtual) {
+      return VirtualThreads.carriersCpuNanos();
+    }
+    final ThreadMXBean tb = ManagementFactory.getThreadMXBean();
+    if (!tb.isThreadCpuTimeSupported()) {
+      return 0;
+    }
+    long t = 0;
+    for (final Worker w : workers) {
+      t += Math.max(0, tb.getThreadCpuTime(w.thread.getId()));
+    }
+    return t;
+  }
+  
+  /**
+   * @return the number of calls of all the threads in the last iteration
+   */
+  long calls() {
+    long c = 0;
+    for (final Worker w : workers) {
+      c += w.calls;
+    }
+    return c;
+  }
+  
+  /**
+   * @return the sum of the values returned by the calls of all the threads in the last iteration
+   */
+  long result() {
+    long r = 0;
+    for (final Worker w : workers) {
+      r += w.res;
+    }
+    return r;
+  }
+  
+  /**
+   * @return the latencies of the recorded calls of all the threads
+   */
+  Histogram latencies() {
+    final Histogram h = new Histogram();
+    for (final Worker w : workers) {
+      h.add(w.latencies);
+    }
+    return h;
+  }
+  
+  /**
+   * Stops the threads.
+   */
+  void stop() {
+    done = true;
+    await(start);
+  }
+  
+  /**
+   * @param aPhaser a phaser
+   */
+  private static void await(final Phaser aPhaser) {
+    aPhaser.arriveAndAwaitAdvance();
+  }
+  
+  /**
+   * A thread task calling the workload while the iteration is running.
+   */
+  private final class Worker implements Runnable {
+    
+    /** The latencies of the recorded calls (buckets allocated on use, as there may be thousands of threads) */
+    final Histogram latencies = new Histogram(false);
+    /** The thread */
+    Thread          thread;
+    /** The number of calls in the current iteration */
+    long            calls;
+    /** The sum of the values returned by the calls in the current iteration */
+    long            res;
+    /** The workload failure, if any */
+    Throwable       error;
+    
+    /** {@inheritDoc} */
+    @Override
+    public void run() {
+      while (true) {
+        await(start);
+        if (done) {
+          return;
+        }
+        final boolean rec = record;
+        try {
+          while (running) {
+            final long bt = System.nanoTime();
+            final long v = wl.run();
+            final long tp = System.nanoTime() - bt;
+            res += v;
+            calls++;
+            if (rec) {
+              latencies.record(tp);
+            }
+          }
+        } catch (final RuntimeException | Error e) {
+          error = e;
+        }
+        await(end);
+      }
+    }
+  }
+}
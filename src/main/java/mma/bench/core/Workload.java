@@ -0,0 +1,23 @@
+package mma.bench.core;
+
+/**
+ * A piece of code to be measured by the {@link Runner}.
+ * <p>
+ * A call should last at least some microseconds (i.e. loop over the operation to measure), as the calls are
+ * timed by batches (a thousandth of the calls of an iteration, at least one call), the latencies being the
+ * batches mean call times.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public interface Workload {
+  
+  /**
+   * Runs the workload once.
+   *
+   * @return a value depending on the computations, which will be consumed by a {@link Sink}
+   */
+  long run();
+}
@@ -0,0 +1,66 @@
+package mma.bench.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event marking a warmup or measurement iteration of a benchmarked method, so that the other events of a
+ * recording (execution samples, GC pauses, allocations...) can be attributed to it.
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+@Name(BenchmarkPhaseEvent.NAME)
+@Label("Benchmark Phase")
+@Category("Benchmark")
+@Description("A warmup or measurement iteration of a benchmarked method")
+@StackTrace(false)
+public class BenchmarkPhaseEvent extends jdk.jfr.Event {
+  
+  /** The event name */
+  public static final String NAME = "mma.bench.BenchmarkPhase";
+  
+  /** The program name */
+  @Label("Program")
+  public String              program;
+  
+  /** The group of the measured method */
+  @Label("Group")
+  public String              group;
+  
+  /** The measured method */
+  @Label("Method")
+  public String              method;
+  
+  /** The number of threads calling the workload */
+  @Label("Threads")
+  public int                 threads;
+  
+  /** True if the threads are virtual threads */
+  @Label("Virtual")
+  public boolean             virtual;
+  
+  /** The phase (warmup or measurement) */
+  @Label("Phase")
+  public String              phase;
+  
+  /** The iteration number in the phase */
+  @Label("Iteration")
+  public int                 iteration;
+  
+  /** The number of calls of the workload */
+  @Label("Calls")
+  public long                calls;
+  
+  /** The mean time of an operation */
+  @Label("Nanoseconds per Operation")
+  public double              nsPerOp;
+  
+  /** The sum of the values returned by the workload */
+  @Label("Result")
+  public long                result;
+}
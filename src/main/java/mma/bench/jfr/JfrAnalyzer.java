@@ -0,0 +1,274 @@
+package mma.bench.jfr;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import mma.bench.matrix.Jdk;
+
+/**
+ * Analyzes the archived JFR recordings (<code>out/&lt;package dir&gt;/&lt;jdk&gt;/*.jfr</code>) and writes, for
+ * each package, a single table comparing the JDKs: execution samples and hot methods, allocations, garbage
+ * collections, compilations, monitors contention and inflation, and virtual threads pinning (the counters and
+ * durations being per recording).<br>
+ * If the recordings contain {@link BenchmarkPhaseEvent}s, the execution samples, garbage collections,
+ * allocations, monitors events and virtual threads pinnings are also attributed to the measurement iterations of each
+ * benchmarked method, as the compilations ended during them: the OSR and C2 compilations of a measurement mean
+ * that the warmup was not long enough, its result being contaminated, and the compiled methods are listed.
+ * <p>
+ * The arguments are the root directories (default out). The recordings are read in parallel.<br>
+ * The configuration is read from the following system properties:
+ * <ul>
+ * <li>jfr.top: the number of hot methods and allocated classes kept per JDK (default 10)
+ * <li>jfr.events: a comma separated list of other event names to count (default none)
+ * <li>jfr.out: the output file (default the standard output)
+ * </ul>
+ * The output is ';' separated, the first column being the metric and the next ones the JDKs.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public class JfrAnalyzer {
+  
+  private static final double MB = 1024.0 * 1024.0;
+  private static final double MS = 1000000.0;
+  
+  private final int           top;
+  private final List<String>  events = new ArrayList<>();
+  
+  /**
+   * Constructor, reading the configuration from the system properties.
+   */
+  public JfrAnalyzer() {
+    top = Integer.getInteger("jfr.top", 10).intValue();
+    for (final String e : System.getProperty("jfr.events", "").split(",")) {
+      if (!e.trim().isEmpty()) {
+        events.add(e.trim());
+      }
+    }
+  }
+  
+  /**
+   * @param args the root directories (default out)
+   * @throws IOException if a directory cannot be walked or the output file cannot be written
+   */
+  public static void main(final String[] args) throws IOException {
+    final long bt = System.currentTimeMillis();
+    final String out = System.getProperty("jfr.out");
+    final JfrAnalyzer a = new JfrAnalyzer();
+    final Map<String, Map<String, JfrSummary>> sums = new TreeMap<>();
+    for (final String root : args.length == 0 ? new String[] {
+        "out"
+    } : args) {
+      sums.putAll(a.analyze(Paths.get(root)));
+    }
+    try (PrintStream ps = out == null ? new PrintStream(System.out, true, "UTF-8")
+        : new PrintStream(Files.newOutputStream(Paths.get(out)), true, "UTF-8")) {
+      for (final Map.Entry<String, Map<String, JfrSummary>> e : sums.entrySet()) {
+        a.write(ps, e.getKey(), e.getValue());
+      }
+    }
+    System.err.println("Analyzed in " + (System.currentTimeMillis() - bt) + " ms");
+  }
+  
+  /**
+   * Reads the recordings under a root directory.
+   *
+   * @param aRoot the root directory
+   * @return the summaries, per package directory and per JDK (the directory of the recordings)
+   * @throws IOException if the directory cannot be walked
+   */
+  public Map<String, Map<String, JfrSummary>> analyze(final Path aRoot) throws IOException {
+    final List<Path> files;
+    try (Stream<Path> s = Files.walk(aRoot)) {
+      files = s.filter(p -> p.toString().endsWith(".jfr") && Files.isRegularFile(p)).collect(Collectors.toList());
+    }
+    final Map<String, Map<String, JfrSummary>> sums = new ConcurrentHashMap<>();
+    files.parallelStream().forEach(f -> {
+      final Path jdkDir = f.getParent();
+      final Path pkgDir = jdkDir.getParent() == null ? aRoot : jdkDir.getParent();
+      final String pkg = aRoot.relativize(pkgDir).toString().replace('\\', '/');
+      sums.computeIfAbsent(pkg.isEmpty() ? "." : pkg, k -> new ConcurrentHashMap<>())
+          .computeIfAbsent(jdkDir.getFileName().toString(), k -> new JfrSummary()).add(f);
+    });
+    return sums;
+  }
+  
+  /**
+   * Writes the comparison table of a package.
+   *
+   * @param aPs the output stream
+   * @param aPkg the package directory
+   * @param aSums the summaries per JDK
+   */
+  public void write(final PrintStream aPs, final String aPkg, final Map<String, JfrSummary> aSums) {
+    final List<String> jdks = new ArrayList<>(aSums.keySet());
+    jdks.sort(Comparator.comparingInt(Jdk::featureOf).thenComparing(Comparator.naturalOrder()));
+    final List<JfrSummary> cols = jdks.stream().map(aSums::get).collect(Collectors.toList());
+    aPs.println("#" + aPkg + ";" + String.join(";", jdks));
+    countRow(aPs, "recordings", cols, s -> s.files);
+    countRow(aPs, "unreadable recordings", cols, s -> s.unreadable);
+    row(aPs, "events", cols, s -> (double) s.events / s.readable());
+    row(aPs, "execution samples", cols, s -> (double) s.samples / s.readable());
+    row(aPs, "allocated MB (threads)", cols, s -> s.allocThreads / MB / s.readable());
+    row(aPs, "allocated MB (new TLABs)", cols, s -> s.allocTlab / MB / s.readable());
+    row(aPs, "allocated MB (outside TLABs)", cols, s -> s.allocOutside / MB / s.readable());
+    row(aPs, "allocated MB (sampled)", cols, s -> s.allocSampled / MB / s.readable());
+    row(aPs, "GC count", cols, s -> (double) s.gcCount / s.readable());
+    row(aPs, "GC total ms", cols, s -> s.gcTotal / MS / s.readable());
+    row(aPs, "GC max ms", cols, s -> s.gcMax / MS);
+    row(aPs, "compilations", cols, s -> (double) s.compilations / s.readable());
+    row(aPs, "OSR compilations", cols, s -> (double) s.osrCompilations / s.readable());
+    row(aPs, "compilation total ms", cols, s -> s.compTotal / MS / s.readable());
+    row(aPs, "compilation max ms", cols, s -> s.compMax / MS);
+    row(aPs, "monitor enters (contended)", cols, s -> (double) s.monitorEnters / s.readable());
+    row(aPs, "monitor enter total ms", cols, s -> s.monitorEnterTotal / MS / s.readable());
+    row(aPs, "monitor enter max ms", cols, s -> s.monitorEnterMax / MS);
+    row(aPs, "monitor inflations", cols, s -> (double) s.monitorInflates / s.readable());
+    row(aPs, "monitor inflation total ms", cols, s -> s.monitorInflateTotal / MS / s.readable());
+    row(aPs, "biased lock revocations", cols, s -> (double) s.biasedRevocations / s.readable());
+    row(aPs, "virtual threads pinned", cols, s -> (double) s.pinned / s.readable());
+    row(aPs, "virtual threads pinned ms", cols, s -> s.pinnedTotal / MS / s.readable());
+    for (final String e : events) {
+      row(aPs, "events " + e, cols, s -> s.otherEvents.getOrDefault(e, Long.valueOf(0)).doubleValue() / s.readable());
+    }
+    for (final String m : topKeys(cols, s -> s.hotMethods)) {
+      row(aPs, "hot % " + m, cols, s -> s.samples == 0 ? 0
+          : (100.0 * s.hotMethods.getOrDefault(m, Long.valueOf(0)).longValue()) / s.samples);
+    }
+    for (final String c : topKeys(cols, s -> s.allocClasses)) {
+      row(aPs, "allocated MB " + c, cols,
+          s -> s.allocClasses.getOrDefault(c, Long.valueOf(0)).longValue() / MB / s.readable());
+    }
+    for (final String c : topKeys(cols, s -> s.monitorTypes)) {
+      row(aPs, "monitor enter ms " + c, cols,
+          s -> s.monitorTypes.getOrDefault(c, Long.valueOf(0)).longValue() / MS / s.readable());
+    }
+    final Set<String> phases = new TreeSet<>();
+    cols.forEach(s -> phases.addAll(s.phases.keySet()));
+    for (final String p : phases) {
+      row(aPs, "phase " + p + " ns/op", cols, s -> s.phases.containsKey(p)
+          ? s.phases.get(p).nsPerOpSum / s.phases.get(p).iterations : 0);
+      row(aPs, "phase " + p + " samples", cols, s -> phase(s, p, ps -> ps.samples));
+      row(aPs, "phase " + p + " GC count", cols, s -> phase(s, p, ps -> ps.gcCount));
+      row(aPs, "phase " + p + " GC ms", cols, s -> phase(s, p, ps -> ps.gcTotal / MS));
+      row(aPs, "phase " + p + " allocated MB", cols, s -> phase(s, p, ps -> ps.alloc / MB));
+      row(aPs, "phase " + p + " monitor enters", cols, s -> phase(s, p, ps -> ps.monitorEnters));
+      row(aPs, "phase " + p + " monitor enter ms", cols, s -> phase(s, p, ps -> ps.monitorEnterTotal / MS));
+      row(aPs, "phase " + p + " monitor inflations", cols, s -> phase(s, p, ps -> ps.monitorInflates));
+      row(aPs, "phase " + p + " virtual threads pinned", cols, s -> phase(s, p, ps -> ps.pinned));
+      row(aPs, "phase " + p + " compilations", cols, s -> phase(s, p, ps -> ps.compilations));
+      row(aPs, "phase " + p + " OSR compilations", cols, s -> phase(s, p, ps -> ps.osrCompilations));
+      row(aPs, "phase " + p + " C2 compilations", cols, s -> phase(s, p, ps -> ps.c2Compilations));
+      if (cols.stream().anyMatch(s -> s.phases.containsKey(p) && !s.phases.get(p).contaminating.isEmpty())) {
+        textRow(aPs, "phase " + p + " contaminated by", cols, s -> !s.phases.containsKey(p) ? ""
+            : s.phases.get(p).contaminating.entrySet().stream().map(e -> e.getKey() + "=" + e.getValue())
+                .collect(Collectors.joining(" ")));
+      }
+    }
+    aPs.println();
+  }
+  
+  /**
+   * @param aSum a summary
+   * @param aPhase a phase key
+   * @param aVal the function giving a phase statistic
+   * @return the statistic per recording, 0 if the phase is not in the summary
+   */
+  private static double phase(final JfrSummary aSum, final String aPhase,
+      final ToDoubleFunction<JfrSummary.PhaseStats> aVal) {
+    final JfrSummary.PhaseStats ps = aSum.phases.get(aPhase);
+    return ps == null ? 0 : aVal.applyAsDouble(ps) / aSum.readable();
+  }
+  
+  /**
+   * @param aCols the summaries
+   * @param aMap the function giving the map of a summary
+   * @return the union of the top keys (by value) of each summary map, sorted by decreasing maximum share
+   */
+  private List<String> topKeys(final List<JfrSummary> aCols,
+      final Function<JfrSummary, Map<String, Long>> aMap) {
+    final Map<String, Double> keys = new TreeMap<>();
+    for (final JfrSummary s : aCols) {
+      final Map<String, Long> m = aMap.apply(s);
+      final long tot = m.values().stream().mapToLong(Long::longValue).sum();
+      m.entrySet().stream().sorted(Map.Entry.<String, Long> comparingByValue().reversed()).limit(top)
+          .forEach(e -> keys.merge(e.getKey(), Double.valueOf(e.getValue().doubleValue() / tot), Math::max));
+    }
+    return keys.entrySet().stream().sorted(Map.Entry.<String, Double> comparingByValue().reversed())
+        .map(Map.Entry::getKey).collect(Collectors.toList());
+  }
+  
+  /**
+   * Writes a row.
+   *
+   * @param aPs the output stream
+   * @param aTitle the metric
+   * @param aCols the summaries
+   * @param aVal the function giving the metric value of a summary
+   */
+  private static void row(final PrintStream aPs, final String aTitle, final List<JfrSummary> aCols,
+      final ToDoubleFunction<JfrSummary> aVal) {
+    final StringBuilder sb = new StringBuilder(aTitle);
+    for (final JfrSummary s : aCols) {
+      sb.append(';');
+      if (s.files > s.unreadable) {
+        sb.append(String.format(Locale.ROOT, "%.2f", Double.valueOf(aVal.applyAsDouble(s))));
+      }
+    }
+    aPs.println(sb);
+  }
+  
+  /**
+   * Writes a row of texts (the compiled methods and their compilations counts, separated by spaces).
+   *
+   * @param aPs the output stream
+   * @param aTitle the metric
+   * @param aCols the summaries
+   * @param aVal the function giving the text of a summary
+   */
+  private static void textRow(final PrintStream aPs, final String aTitle, final List<JfrSummary> aCols,
+      final Function<JfrSummary, String> aVal) {
+    final StringBuilder sb = new StringBuilder(aTitle);
+    for (final JfrSummary s : aCols) {
+      sb.append(';').append(aVal.apply(s));
+    }
+    aPs.println(sb);
+  }
+  
+  /**
+   * Writes a row of counters (written even for the JDKs without readable recordings).
+   *
+   * @param aPs the output stream
+   * @param aTitle the metric
+   * @param aCols the summaries
+   * @param aVal the function giving the counter of a summary
+   */
+  private static void countRow(final PrintStream aPs, final String aTitle, final List<JfrSummary> aCols,
+      final ToIntFunction<JfrSummary> aVal) {
+    final StringBuilder sb = new StringBuilder(aTitle);
+    for (final JfrSummary s : aCols) {
+      sb.append(';').append(aVal.applyAsInt(s));
+    }
+    aPs.println(sb);
+  }
+}
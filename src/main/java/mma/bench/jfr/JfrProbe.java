@@ -0,0 +1,41 @@
+package mma.bench.jfr;
+
+import mma.bench.core.Probe;
+
+/**
+ * Probe committing a {@link BenchmarkPhaseEvent} around each iteration (JDK &ge; 11).
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class JfrProbe implements Probe {
+  
+  private BenchmarkPhaseEvent ev;
+  
+  @Override
+  public void begin(final String aProgram, final String aGroup, final String aMethod, final int aThreads,
+      final boolean aVirtual, final String aPhase, final int aIteration) {
+    ev = new BenchmarkPhaseEvent();
+    ev.program = aProgram;
+    ev.group = aGroup;
+    ev.method = aMethod;
+    ev.threads = aThreads;
+    ev.virtual = aVirtual;
+    ev.phase = aPhase;
+    ev.iteration = aIteration;
+    ev.begin();
+  }
+  
+  @Override
+  public void end(final long aCalls, final double aNsPerOp, final long aResult) {
+    ev.end();
+    if (ev.shouldCommit()) {
+      ev.calls = aCalls;
+      ev.nsPerOp = aNsPerOp;
+      ev.result = aResult;
+      ev.commit();
+    }
+    ev = null;
+  }
+}
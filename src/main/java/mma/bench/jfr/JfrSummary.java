@@ -0,0 +1,551 @@
+package mma.bench.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+import mma.bench.core.Probe;
+
+/**
+ * Summary of the JFR recordings of a JDK: hot methods, allocations, garbage collections, compilations, monitors
+ * contention and inflation, and virtual threads pinning.
+ * <p>
+ * The event names of the JDK 9 / 10 commercial recordings (com.oracle.jdk.*) are handled as the OpenJDK ones
+ * (jdk.*). The recordings of JDK 7 / 8 (format 0.9) cannot be read by jdk.jfr.consumer and are only counted.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class JfrSummary {
+  
+  /** The number of recordings */
+  int                             files;
+  /** The number of unreadable recordings */
+  int                             unreadable;
+  /** The number of events */
+  long                            events;
+  /** The number of execution samples */
+  long                            samples;
+  /** The number of execution samples per top frame method */
+  final Map<String, Long>         hotMethods  = new HashMap<>();
+  /** The bytes allocated by the threads (from jdk.ThreadAllocationStatistics) */
+  long                            allocThreads;
+  /** The bytes of the new TLABs */
+  long                            allocTlab;
+  /** The bytes allocated outside TLABs */
+  long                            allocOutside;
+  /** The sampled allocated bytes (jdk.ObjectAllocationSample weight, JDK &ge; 16) */
+  long                            allocSampled;
+  /** The allocated bytes (TLAB, outside TLAB and sampled) per class */
+  final Map<String, Long>         allocClasses = new HashMap<>();
+  /** The number of garbage collections */
+  long                            gcCount;
+  /** The garbage collections total duration (ns) */
+  long                            gcTotal;
+  /** The garbage collections maximum duration (ns) */
+  long                            gcMax;
+  /** The number of compilations */
+  long                            compilations;
+  /** The number of OSR compilations */
+  long                            osrCompilations;
+  /** The compilations total duration (ns) */
+  long                            compTotal;
+  /** The compilations maximum duration (ns) */
+  long                            compMax;
+  /** The number of contended monitor enters (jdk.JavaMonitorEnter, above the recording threshold) */
+  long                            monitorEnters;
+  /** The contended monitor enters total blocking duration (ns) */
+  long                            monitorEnterTotal;
+  /** The contended monitor enters maximum blocking duration (ns) */
+  long                            monitorEnterMax;
+  /** The contended monitor enters blocking duration (ns) per monitor class */
+  final Map<String, Long>         monitorTypes = new HashMap<>();
+  /** The number of monitor inflations (jdk.JavaMonitorInflate) */
+  long                            monitorInflates;
+  /** The monitor inflations total duration (ns) */
+  long                            monitorInflateTotal;
+  /** The number of biased locks revocations (JDK &lt; 18) */
+  long                            biasedRevocations;
+  /** The number of virtual threads blocked while pinned to their carrier thread (JDK &ge; 21) */
+  long                            pinned;
+  /** The pinned virtual threads total blocking duration (ns) */
+  long                            pinnedTotal;
+  /** The other events counts, by name (for the extensions) */
+  final Map<String, Long>         otherEvents  = new HashMap<>();
+  /** The statistics of the measurement phases (see {@link BenchmarkPhaseEvent}), by {@link #phaseKey} */
+  final Map<String, PhaseStats>   phases       = new TreeMap<>();
+  
+  /**
+   * Statistics of the measurement iterations of a benchmarked method, with the events attributed to them
+   * (by their start time).
+   */
+  static final class PhaseStats {
+    /** The number of iterations */
+    long                    iterations;
+    /** The sum of the iterations times per operation */
+    double                  nsPerOpSum;
+    /** The number of execution samples */
+    long                    samples;
+    /** The number of garbage collections */
+    long                    gcCount;
+    /** The garbage collections total duration (ns) */
+    long                    gcTotal;
+    /** The allocated bytes (TLAB, outside TLAB and sampled) */
+    long                    alloc;
+    /** The number of contended monitor enters */
+    long                    monitorEnters;
+    /** The contended monitor enters total blocking duration (ns) */
+    long                    monitorEnterTotal;
+    /** The number of monitor inflations */
+    long                    monitorInflates;
+    /** The number of pinned virtual threads blocking */
+    long                    pinned;
+    /** The number of compilations (ended during the iterations) */
+    long                    compilations;
+    /** The number of OSR compilations */
+    long                    osrCompilations;
+    /** The number of C2 (tier 4) compilations */
+    long                    c2Compilations;
+    /** The number of OSR or C2 compilations per compiled method, as class.method */
+    final Map<String, Long> contaminating = new TreeMap<>();
+    
+    void merge(final PhaseStats aOther) {
+      iterations += aOther.iterations;
+      nsPerOpSum += aOther.nsPerOpSum;
+      samples += aOther.samples;
+      gcCount += aOther.gcCount;
+      gcTotal += aOther.gcTotal;
+      alloc += aOther.alloc;
+      monitorEnters += aOther.monitorEnters;
+      monitorEnterTotal += aOther.monitorEnterTotal;
+      monitorInflates += aOther.monitorInflates;
+      pinned += aOther.pinned;
+      compilations += aOther.compilations;
+      osrCompilations += aOther.osrCompilations;
+      c2Compilations += aOther.c2Compilations;
+      aOther.contaminating.forEach((k, v) -> contaminating.merge(k, v, Long::sum));
+    }
+  }
+  
+  /** A measurement iteration time span */
+  private static final class Span {
+    final PhaseStats stats;
+    final long       start;
+    final long       end;
+    
+    Span(final PhaseStats aStats, final long aStart, final long aEnd) {
+      stats = aStats;
+      start = aStart;
+      end = aEnd;
+    }
+  }
+  
+  /** The reading context of a recording */
+  private static final class Ctx {
+    /** The maximum allocated bytes per thread id */
+    final Map<Long, Long> threadAlloc = new HashMap<>();
+    /** The measurement iterations */
+    final List<Span>      spans       = new ArrayList<>();
+    /** The start times of the timed events (samples, GCs, allocations...), to be attributed to the iterations */
+    final List<long[]>    timed       = new ArrayList<>();
+    /** The compiled methods of the timed compilations, indexed by the compilations */
+    final List<String>    compiled    = new ArrayList<>();
+  }
+  
+  private static final int T_SAMPLE = 0;
+  private static final int T_GC     = 1;
+  private static final int T_ALLOC  = 2;
+  private static final int T_PINNED = 3;
+  private static final int T_ENTER  = 4;
+  private static final int T_INFL   = 5;
+  private static final int T_COMP   = 6;
+  
+  /** The timed compilation flag of the OSR compilations */
+  private static final int OSR      = 1;
+  /** The timed compilation flag of the C2 compilations */
+  private static final int C2       = 2;
+  /** The compile level of C2 */
+  private static final int C2_LEVEL = 4;
+  
+  /**
+   * Reads a recording and adds its events to the summary.
+   *
+   * @param aFile the recording
+   */
+  public void add(final Path aFile) {
+    merge(read(aFile));
+  }
+  
+  /**
+   * Reads a recording.
+   *
+   * @param aFile the recording
+   * @return the recording summary (with only the files counters if it cannot be read)
+   */
+  static JfrSummary read(final Path aFile) {
+    final JfrSummary s = new JfrSummary();
+    s.files = 1;
+    final Ctx ctx = new Ctx();
+    try (RecordingFile rf = new RecordingFile(aFile)) {
+      while (rf.hasMoreEvents()) {
+        s.event(rf.readEvent(), ctx);
+      }
+    } catch (final IOException | RuntimeException e) {
+      System.err.println("Cannot read " + aFile + " : " + e.getMessage());
+      final JfrSummary u = new JfrSummary();
+      u.files = 1;
+      u.unreadable = 1;
+      return u;
+    }
+    for (final Long a : ctx.threadAlloc.values()) {
+      s.allocThreads += a.longValue();
+    }
+    attribute(ctx);
+    return s;
+  }
+  
+  /**
+   * Attributes the samples, GCs, allocations, monitors events and pinnings to the measurement iterations during
+   * which they started, and the compilations to the ones during which they ended (their code being installed).
+   *
+   * @param aCtx the reading context
+   */
+  private static void attribute(final Ctx aCtx) {
+    if (aCtx.spans.isEmpty()) {
+      return;
+    }
+    aCtx.spans.sort(Comparator.comparingLong(sp -> sp.start));
+    final long[] starts = new long[aCtx.spans.size()];
+    for (int i = 0; i < starts.length; i++) {
+      starts[i] = aCtx.spans.get(i).start;
+    }
+    for (final long[] t : aCtx.timed) {
+      int i = Arrays.binarySearch(starts, t[1]);
+      if (i < 0) {
+        i = -i - 2;
+      }
+      if (i < 0 || t[1] > aCtx.spans.get(i).end) {
+        continue;
+      }
+      final PhaseStats ps = aCtx.spans.get(i).stats;
+      switch ((int) t[0]) {
+        case T_SAMPLE:
+          ps.samples++;
+          break;
+        case T_GC:
+          ps.gcCount++;
+          ps.gcTotal += t[2];
+          break;
+        case T_PINNED:
+          ps.pinned++;
+          break;
+        case T_ENTER:
+          ps.monitorEnters++;
+          ps.monitorEnterTotal += t[2];
+          break;
+        case T_INFL:
+          ps.monitorInflates++;
+          break;
+        case T_COMP:
+          ps.compilations++;
+          if ((t[3] & OSR) != 0) {
+            ps.osrCompilations++;
+          }
+          if ((t[3] & C2) != 0) {
+            ps.c2Compilations++;
+          }
+          if (t[3] != 0) {
+            ps.contaminating.merge(aCtx.compiled.get((int) t[2]), Long.valueOf(1), Long::sum);
+          }
+          break;
+        default:
+          ps.alloc += t[2];
+          break;
+      }
+    }
+  }
+  
+  /**
+   * Adds an event to the summary.
+   *
+   * @param aEv the event
+   * @param aCtx the reading context of the recording (per thread allocations, iterations and timed events)
+   */
+  private void event(final RecordedEvent aEv, final Ctx aCtx) {
+    events++;
+    final long st = nanos(aEv.getStartTime());
+    long a;
+    switch (name(aEv)) {
+      case "jdk.ExecutionSample":
+        samples++;
+        hotMethods.merge(topMethod(aEv.getStackTrace()), Long.valueOf(1), Long::sum);
+        aCtx.timed.add(new long[] {
+            T_SAMPLE, st, 1
+        });
+        break;
+      case "jdk.ThreadAllocationStatistics":
+        final RecordedThread t = aEv.hasField("thread") ? aEv.getThread("thread") : null;
+        final Long tid = Long.valueOf(t == null ? -1 : t.getJavaThreadId());
+        aCtx.threadAlloc.merge(tid, Long.valueOf(aEv.getLong("allocated")), Math::max);
+        break;
+      case "jdk.ObjectAllocationInNewTLAB":
+        a = alloc(aEv, "tlabSize");
+        allocTlab += a;
+        aCtx.timed.add(new long[] {
+            T_ALLOC, st, a
+        });
+        break;
+      case "jdk.ObjectAllocationOutsideTLAB":
+        a = alloc(aEv, "allocationSize");
+        allocOutside += a;
+        aCtx.timed.add(new long[] {
+            T_ALLOC, st, a
+        });
+        break;
+      case "jdk.ObjectAllocationSample":
+        a = alloc(aEv, "weight");
+        allocSampled += a;
+        aCtx.timed.add(new long[] {
+            T_ALLOC, st, a
+        });
+        break;
+      case "jdk.GarbageCollection":
+        final long gd = aEv.getDuration().toNanos();
+        gcCount++;
+        gcTotal += gd;
+        gcMax = Math.max(gcMax, gd);
+        aCtx.timed.add(new long[] {
+            T_GC, st, gd
+        });
+        break;
+      case "jdk.JavaMonitorEnter":
+        final long md = aEv.getDuration().toNanos();
+        monitorEnters++;
+        monitorEnterTotal += md;
+        monitorEnterMax = Math.max(monitorEnterMax, md);
+        final RecordedClass mc = aEv.hasField("monitorClass") ? aEv.getClass("monitorClass") : null;
+        monitorTypes.merge(className(mc), Long.valueOf(md), Long::sum);
+        aCtx.timed.add(new long[] {
+            T_ENTER, st, md
+        });
+        break;
+      case "jdk.JavaMonitorInflate":
+        monitorInflates++;
+        monitorInflateTotal += aEv.getDuration().toNanos();
+        aCtx.timed.add(new long[] {
+            T_INFL, st, 1
+        });
+        break;
+      case "jdk.BiasedLockRevocation":
+      case "jdk.BiasedLockSelfRevocation":
+      case "jdk.BiasedLockClassRevocation":
+        biasedRevocations++;
+        break;
+      case "jdk.VirtualThreadPinned":
+        pinned++;
+        pinnedTotal += aEv.getDuration().toNanos();
+        aCtx.timed.add(new long[] {
+            T_PINNED, st, 1
+        });
+        break;
+      case BenchmarkPhaseEvent.NAME:
+        if (Probe.MEASUREMENT.equals(aEv.getString("phase"))) {
+          final PhaseStats ps = phases.computeIfAbsent(phaseKey(aEv), k -> new PhaseStats());
+          ps.iterations++;
+          ps.nsPerOpSum += aEv.getDouble("nsPerOp");
+          aCtx.spans.add(new Span(ps, st, nanos(aEv.getEndTime())));
+        }
+        break;
+      case "jdk.Compilation":
+        final long cd = aEv.getDuration().toNanos();
+        compilations++;
+        compTotal += cd;
+        compMax = Math.max(compMax, cd);
+        final boolean osr = aEv.hasField("isOsr") && aEv.getBoolean("isOsr");
+        if (osr) {
+          osrCompilations++;
+        }
+        final boolean c2 = aEv.hasField("compileLevel") && aEv.getShort("compileLevel") == C2_LEVEL;
+        final RecordedMethod cm = aEv.hasField("method") ? aEv.getValue("method") : null;
+        aCtx.timed.add(new long[] {
+            T_COMP, nanos(aEv.getEndTime()), aCtx.compiled.size(), (osr ? OSR : 0) | (c2 ? C2 : 0)
+        });
+        aCtx.compiled.add(cm == null ? "<unknown>" : className(cm.getType()) + "." + cm.getName());
+        break;
+      default:
+        otherEvents.merge(name(aEv), Long.valueOf(1), Long::sum);
+        break;
+    }
+  }
+  
+  /**
+   * @param aEv a {@link BenchmarkPhaseEvent}
+   * @return the group/method key of the event, suffixed by @&lt;threads&gt;t (or vt for virtual threads) for the
+   *         contention measurements, so that their contention levels are not merged (the recordings without the
+   *         threads fields giving the unsuffixed key)
+   */
+  static String phaseKey(final RecordedEvent aEv) {
+    final int t = aEv.hasField("threads") ? aEv.getInt("threads") : 1;
+    final boolean v = aEv.hasField("virtual") && aEv.getBoolean("virtual");
+    return aEv.getString("group") + "/" + aEv.getString("method") + (t == 1 && !v ? "" : "@" + t + (v ? "vt" : "t"));
+  }
+  
+  /**
+   * @param aInstant an instant
+   * @return the instant in nanoseconds since the epoch
+   */
+  private static long nanos(final Instant aInstant) {
+    return (aInstant.getEpochSecond() * 1000000000L) + aInstant.getNano();
+  }
+  
+  /**
+   * @param aEv an event
+   * @return the event name, with the com.oracle. prefix (JDK 9 / 10) removed
+   */
+  static String name(final RecordedEvent aEv) {
+    final String n = aEv.getEventType().getName();
+    return n.startsWith("com.oracle.jdk.") ? n.substring("com.oracle.".length()) : n;
+  }
+  
+  /**
+   * @param aSt a stack trace
+   * @return the top frame method, as class.method
+   */
+  static String topMethod(final RecordedStackTrace aSt) {
+    if (aSt == null || aSt.getFrames().isEmpty()) {
+      return "<no stack>";
+    }
+    final RecordedFrame f = aSt.getFrames().get(0);
+    final RecordedMethod m = f.getMethod();
+    return m == null ? "<unknown>" : className(m.getType()) + "." + m.getName();
+  }
+  
+  /**
+   * @param aClass a class, possibly null
+   * @return the class name, the array descriptors (e.g. [Ljava.util.HashMap$Node;) being converted to the source
+   *         form (java.util.HashMap$Node[]), which does not contain the ; separator of the report
+   */
+  static String className(final RecordedClass aClass) {
+    if (aClass == null) {
+      return "<unknown>";
+    }
+    final String n = aClass.getName();
+    int d = 0;
+    while (d < n.length() && n.charAt(d) == '[') {
+      d++;
+    }
+    if (d == 0) {
+      return n;
+    }
+    final StringBuilder sb = new StringBuilder();
+    switch (n.charAt(d)) {
+      case 'Z':
+        sb.append("boolean");
+        break;
+      case 'B':
+        sb.append("byte");
+        break;
+      case 'C':
+        sb.append("char");
+        break;
+      case 'S':
+        sb.append("short");
+        break;
+      case 'I':
+        sb.append("int");
+        break;
+      case 'J':
+        sb.append("long");
+        break;
+      case 'F':
+        sb.append("float");
+        break;
+      case 'D':
+        sb.append("double");
+        break;
+      default:
+        sb.append(n, d + 1, n.endsWith(";") ? n.length() - 1 : n.length());
+        break;
+    }
+    for (int i = 0; i < d; i++) {
+      sb.append("[]");
+    }
+    return sb.toString();
+  }
+  
+  /**
+   * Adds an allocation event size to its class.
+   *
+   * @param aEv the allocation event
+   * @param aField the field holding the size
+   * @return the size
+   */
+  private long alloc(final RecordedEvent aEv, final String aField) {
+    if (!aEv.hasField(aField)) {
+      return 0;
+    }
+    final long sz = aEv.getLong(aField);
+    final RecordedClass c = aEv.hasField("objectClass") ? aEv.getClass("objectClass") : null;
+    allocClasses.merge(className(c), Long.valueOf(sz), Long::sum);
+    return sz;
+  }
+  
+  /**
+   * Merges another summary into this one.
+   *
+   * @param aOther the other summary
+   */
+  synchronized void merge(final JfrSummary aOther) {
+    files += aOther.files;
+    unreadable += aOther.unreadable;
+    events += aOther.events;
+    samples += aOther.samples;
+    aOther.hotMethods.forEach((k, v) -> hotMethods.merge(k, v, Long::sum));
+    allocThreads += aOther.allocThreads;
+    allocTlab += aOther.allocTlab;
+    allocOutside += aOther.allocOutside;
+    allocSampled += aOther.allocSampled;
+    aOther.allocClasses.forEach((k, v) -> allocClasses.merge(k, v, Long::sum));
+    gcCount += aOther.gcCount;
+    gcTotal += aOther.gcTotal;
+    gcMax = Math.max(gcMax, aOther.gcMax);
+    compilations += aOther.compilations;
+    osrCompilations += aOther.osrCompilations;
+    compTotal += aOther.compTotal;
+    compMax = Math.max(compMax, aOther.compMax);
+    monitorEnters += aOther.monitorEnters;
+    monitorEnterTotal += aOther.monitorEnterTotal;
+    monitorEnterMax = Math.max(monitorEnterMax, aOther.monitorEnterMax);
+    aOther.monitorTypes.forEach((k, v) -> monitorTypes.merge(k, v, Long::sum));
+    monitorInflates += aOther.monitorInflates;
+    monitorInflateTotal += aOther.monitorInflateTotal;
+    biasedRevocations += aOther.biasedRevocations;
+    pinned += aOther.pinned;
+    pinnedTotal += aOther.pinnedTotal;
+    aOther.otherEvents.forEach((k, v) -> otherEvents.merge(k, v, Long::sum));
+    aOther.phases.forEach((k, v) -> phases.computeIfAbsent(k, x -> new PhaseStats()).merge(v));
+  }
+  
+  /**
+   * @return the number of readable recordings (at least 1, to be used as a divisor)
+   */
+  int readable() {
+    return Math.max(1, files - unreadable);
+  }
+}
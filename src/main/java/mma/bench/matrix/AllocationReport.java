@@ -0,0 +1,99 @@
+package mma.bench.matrix;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import mma.bench.core.ResultsTable;
+
+/**
+ * Compares the allocated bytes per operation of the methods across the JDKs of a merged results file, and
+ * flags the methods whose allocations are eliminated (by escape analysis and scalar replacement, e.g. the
+ * local StringBuilder of a5_loc_strbui_def / a6_loc_strbui_tuned) on some JDKs but not on others.
+ * <p>
+ * A method is considered allocation free on a JDK when it allocates less than {@link #ZERO} bytes per
+ * operation (the forks of a JDK being averaged), and allocating when it allocates at least {@link #OBJECT}
+ * bytes per operation (the size of the smallest object).<br>
+ * The argument is the merged results file.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class AllocationReport {
+  
+  /** The threshold under which a method is considered allocation free (bytes per operation) */
+  static final double ZERO   = 1.0;
+  /** The threshold above which a method is considered allocating (bytes per operation) */
+  static final double OBJECT = 16.0;
+  
+  private AllocationReport() {
+    // no instances
+  }
+  
+  /**
+   * @param args the merged results file
+   * @throws IOException if the file cannot be read
+   */
+  public static void main(final String[] args) throws IOException {
+    if (args.length != 1) {
+      System.err.println("Usage: AllocationReport results.csv");
+      System.exit(1);
+    }
+    report(new File(args[0]), System.out);
+  }
+  
+  /**
+   * Prints the methods allocating on some JDKs only.
+   *
+   * @param aFile the merged results file
+   * @param aOut the stream to print on
+   * @return the number of flagged methods
+   * @throws IOException if the file cannot be read
+   */
+  public static int report(final File aFile, final PrintStream aOut) throws IOException {
+    final ResultsTable t = new ResultsTable(aFile);
+    if (!t.has("allocBytesPerOp")) {
+      aOut.println("No allocation column in " + aFile);
+      return 0;
+    }
+    // program/group/method -> jdk -> {sum, count}
+    final Map<String, Map<String, double[]>> allocs = new TreeMap<>();
+    for (final String[] row : t.rows()) {
+      final double a = t.getDouble(row, "allocBytesPerOp");
+      if (Double.isNaN(a) || a < 0) {
+        continue;
+      }
+      final double[] sc = allocs.computeIfAbsent(t.key(row), k -> new TreeMap<>()).computeIfAbsent(t.jdk(row),
+          k -> new double[2]);
+      sc[0] += a;
+      sc[1]++;
+    }
+    int flagged = 0;
+    for (final Map.Entry<String, Map<String, double[]>> e : allocs.entrySet()) {
+      final List<String> none = new ArrayList<>();
+      final List<String> some = new ArrayList<>();
+      for (final Map.Entry<String, double[]> j : e.getValue().entrySet()) {
+        final double a = j.getValue()[0] / j.getValue()[1];
+        if (a < ZERO) {
+          none.add(j.getKey());
+        } else if (a >= OBJECT) {
+          some.add(j.getKey() + " (" + String.format(Locale.ROOT, "%.1f", Double.valueOf(a)) + " B/op)");
+        }
+      }
+      if (!none.isEmpty() && !some.isEmpty()) {
+        if (flagged++ == 0) {
+          aOut.println("Allocations eliminated on some JDKs only (escape analysis / scalar replacement):");
+        }
+        aOut.println("  " + e.getKey() + " : none on " + none + ", allocating on " + some);
+      }
+    }
+    return flagged;
+  }
+}
@@ -0,0 +1,83 @@
+package mma.bench.matrix;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits the online CPUs into disjoint sets, one per parallel fork.
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class CpuSets {
+  
+  private static final String ONLINE = "/sys/devices/system/cpu/online";
+  
+  private CpuSets() {
+    // no instances
+  }
+  
+  /**
+   * @return the online CPUs numbers (read from /sys, or 0 to availableProcessors - 1 if not readable)
+   */
+  public static List<Integer> online() {
+    final List<Integer> cpus = new ArrayList<>();
+    try {
+      // e.g. 0-3,8-11
+      final String s = new String(Files.readAllBytes(Paths.get(ONLINE)), StandardCharsets.US_ASCII).trim();
+      for (final String range : s.split(",")) {
+        final String[] b = range.split("-");
+        final int first = Integer.parseInt(b[0]);
+        final int last = b.length > 1 ? Integer.parseInt(b[1]) : first;
+        for (int i = first; i <= last; i++) {
+          cpus.add(Integer.valueOf(i));
+        }
+      }
+    } catch (final IOException | RuntimeException e) {
+      cpus.clear();
+      for (int i = 0; i < Runtime.getRuntime().availableProcessors(); i++) {
+        cpus.add(Integer.valueOf(i));
+      }
+    }
+    return cpus;
+  }
+  
+  /**
+   * Splits CPUs into disjoint sets of the given size (the remaining CPUs are left unused).
+   *
+   * @param aCpus the CPUs numbers
+   * @param aSize the number of CPUs per set
+   * @return the sets, in the taskset list format (e.g. "2,3"), at least one (with all the CPUs if there are
+   *         less than aSize CPUs)
+   * @throws IllegalArgumentException if the size is not positive
+   */
+  public static List<String> split(final List<Integer> aCpus, final int aSize) {
+    if (aSize < 1) {
+      throw new IllegalArgumentException("The number of CPUs per set must be at least 1 : " + aSize);
+    }
+    final List<String> sets = new ArrayList<>();
+    for (int i = 0; i + aSize <= aCpus.size(); i += aSize) {
+      sets.add(join(aCpus.subList(i, i + aSize)));
+    }
+    if (sets.isEmpty()) {
+      sets.add(join(aCpus));
+    }
+    return sets;
+  }
+  
+  private static String join(final List<Integer> aCpus) {
+    final StringBuilder sb = new StringBuilder();
+    for (final Integer c : aCpus) {
+      if (sb.length() > 0) {
+        sb.append(',');
+      }
+      sb.append(c);
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,112 @@
+package mma.bench.matrix;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A JVM run of a program (or of one of its groups) with a given JDK.
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class Fork {
+  
+  /** The JFR recording JVM argument, completed by the fork with its recording file */
+  static final String       JFR_ARG = "-XX:StartFlightRecording";
+  
+  /** The JDK */
+  public final Jdk          jdk;
+  /** The variant, null for none */
+  public final Variant      variant;
+  /** The program main class */
+  public final String       mainClass;
+  /** The group to run (bench.groups), null for all the groups */
+  public final String       group;
+  /** The repetition number */
+  public final int          rep;
+  /** The classes directory */
+  public final File         classes;
+  /** The JVM arguments */
+  public final List<String> jvmArgs;
+  /** The fork results file */
+  public final File         resultFile;
+  /** The fork output (stdout and stderr) file */
+  public final File         logFile;
+  /** The fork JFR recording file */
+  public final File         jfrFile;
+  
+  /**
+   * Constructor.
+   *
+   * @param aJdk the JDK
+   * @param aVariant the variant, null for none
+   * @param aMainClass the program main class
+   * @param aGroup the group to run, null for all the groups
+   * @param aRep the repetition number
+   * @param aClasses the classes directory
+   * @param aJvmArgs the JVM arguments
+   * @param aDir the directory of the results and output files
+   */
+  public Fork(final Jdk aJdk, final Variant aVariant, final String aMainClass, final String aGroup, final int aRep,
+      final File aClasses, final List<String> aJvmArgs, final File aDir) {
+    jdk = aJdk;
+    variant = aVariant;
+    mainClass = aMainClass;
+    group = aGroup;
+    rep = aRep;
+    classes = aClasses;
+    jvmArgs = aJvmArgs;
+    final String base = jdkName() + "-" + mainClass.substring(mainClass.lastIndexOf('.') + 1) + "-"
+        + (group == null ? "all" : group) + "-" + rep;
+    resultFile = new File(aDir, base + ".csv");
+    logFile = new File(aDir, base + ".log");
+    jfrFile = new File(new File(aDir, jdkName()), base + ".jfr");
+  }
+  
+  /**
+   * @return the JDK name, followed by '+' and the variant name if any
+   */
+  public String jdkName() {
+    return variant == null ? jdk.name : jdk.name + "+" + variant.name;
+  }
+  
+  /**
+   * @return the fork identifier (written in the first column of the merged results)
+   */
+  public String id() {
+    return jdkName() + "/" + mainClass.substring(mainClass.lastIndexOf('.') + 1) + "/"
+        + (group == null ? "all" : group) + "/" + rep;
+  }
+  
+  /**
+   * @param aCpus the CPUs to bind the JVM to (taskset list format), null for no binding
+   * @return the command line
+   */
+  public List<String> command(final String aCpus) {
+    final List<String> cmd = new ArrayList<>();
+    if (aCpus != null) {
+      cmd.add("taskset");
+      cmd.add("-c");
+      cmd.add(aCpus);
+    }
+    cmd.add(jdk.tool("java"));
+    for (final String a : jvmArgs) {
+      cmd.add(!a.startsWith(JFR_ARG) ? a : a + ",filename=" + jfrFile.getPath());
+    }
+    if (group != null) {
+      cmd.add("-Dbench.groups=" + group);
+    }
+    cmd.add("-Dbench.out=" + resultFile.getPath());
+    cmd.add("-cp");
+    cmd.add(classes.getPath());
+    cmd.add(mainClass);
+    return cmd;
+  }
+  
+  @Override
+  public String toString() {
+    return id();
+  }
+}
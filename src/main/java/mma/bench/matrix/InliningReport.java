@@ -0,0 +1,144 @@
+package mma.bench.matrix;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Reports the inlining decisions of the JIT compilers for the call sites of the methods of a program, per JDK,
+ * from the outputs of its forks run with <code>-XX:+UnlockDiagnosticVMOptions -XX:+PrintInlining</code> (e.g. the
+ * visibility and final variants of Compare_param_assigned, to tell whether their timings differ by codegen or
+ * only by inlining).
+ * <p>
+ * A call site is a callee, method of the program class (or of its nested classes), and the bytecode index of the
+ * call in its caller, the caller itself not being identified (PrintInlining does not print the compiled method
+ * without PrintCompilation), so that the calls of a callee at the same bytecode index of several callers are
+ * merged. For each JDK, the report gives the callee bytecode size and the decisions (<i>inline</i>,
+ * <i>inline (hot)</i>, <i>too big</i>, <i>callee uses too much stack</i>...) with their counts, over all the
+ * compilations of all the forks (C1 and C2 both printing their decisions).<br>
+ * The arguments are the forks directory (the matrix.dir forks subdirectory) and the program main class.<br>
+ * The output is ';' separated, the first column being the call site (callee @ bci) and the next ones the JDKs.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class InliningReport {
+  
+  /** The JVM option printing the inlining decisions */
+  static final String          PRINT_INLINING = "-XX:+PrintInlining";
+  /** A PrintInlining line: bci, callee class, callee method, bytecode size, decision */
+  private static final Pattern LINE           = Pattern
+      .compile("@\\s*(\\d+)\\s+([\\w$.]+)::([\\w$<>]+)\\s+\\((\\d+) bytes\\)\\s*(.*)$");
+  
+  private InliningReport() {
+    // no instances
+  }
+  
+  /**
+   * @param args the forks directory and the program main class
+   * @throws IOException if a fork output cannot be read
+   */
+  public static void main(final String[] args) throws IOException {
+    if (args.length != 2) {
+      System.err.println("Usage: InliningReport forksDir mainClass");
+      System.exit(1);
+    }
+    final String infix = "-" + args[1].substring(args[1].lastIndexOf('.') + 1) + "-";
+    final Map<String, List<File>> logs = new TreeMap<>();
+    final File[] files = new File(args[0]).listFiles();
+    if (files != null) {
+      for (final File f : files) {
+        final int i = f.getName().indexOf(infix);
+        if (i > 0 && f.getName().endsWith(".log")) {
+          logs.computeIfAbsent(f.getName().substring(0, i), k -> new ArrayList<>()).add(f);
+        }
+      }
+    }
+    report(logs, args[1], System.out);
+  }
+  
+  /**
+   * Reports the inlining decisions of the programs of the forks run with {@link #PRINT_INLINING}.
+   *
+   * @param aForks the forks
+   * @param aOut the stream to print on
+   * @throws IOException if a fork output cannot be read
+   */
+  public static void report(final List<Fork> aForks, final PrintStream aOut) throws IOException {
+    // main class -> jdk -> fork outputs
+    final Map<String, Map<String, List<File>>> logs = new TreeMap<>();
+    for (final Fork f : aForks) {
+      if (f.jvmArgs.contains(PRINT_INLINING) && f.logFile.exists()) {
+        logs.computeIfAbsent(f.mainClass, k -> new TreeMap<>()).computeIfAbsent(f.jdkName(),
+            k -> new ArrayList<>()).add(f.logFile);
+      }
+    }
+    for (final Map.Entry<String, Map<String, List<File>>> e : logs.entrySet()) {
+      report(e.getValue(), e.getKey(), aOut);
+    }
+  }
+  
+  /**
+   * Prints the inlining decisions table of a program.
+   *
+   * @param aLogs the fork outputs per JDK
+   * @param aMainClass the program main class
+   * @param aOut the stream to print on
+   * @return the number of call sites
+   * @throws IOException if a fork output cannot be read
+   */
+  public static int report(final Map<String, List<File>> aLogs, final String aMainClass, final PrintStream aOut)
+      throws IOException {
+    final List<String> jdks = new ArrayList<>(aLogs.keySet());
+    jdks.sort(Comparator.comparingInt(Jdk::featureOf).thenComparing(Comparator.naturalOrder()));
+    // call site -> jdk -> bytecode size / decision -> count
+    final Map<String, Map<String, Map<String, Long>>> sites = new TreeMap<>();
+    for (final String jdk : jdks) {
+      for (final File f : aLogs.get(jdk)) {
+        for (final String l : Files.readAllLines(f.toPath(), StandardCharsets.ISO_8859_1)) {
+          final Matcher m = LINE.matcher(l);
+          if (!m.find() || !(m.group(2).equals(aMainClass) || m.group(2).startsWith(aMainClass + "$"))) {
+            continue;
+          }
+          final String callee = m.group(2).substring(aMainClass.lastIndexOf('.') + 1) + "::" + m.group(3);
+          final String decision = m.group(5).trim().isEmpty() ? "?" : m.group(5).trim();
+          sites.computeIfAbsent(callee + " @ " + m.group(1), k -> new TreeMap<>())
+              .computeIfAbsent(jdk, k -> new TreeMap<>())
+              .merge(m.group(4) + " B : " + decision, Long.valueOf(1), Long::sum);
+        }
+      }
+    }
+    if (sites.isEmpty()) {
+      aOut.println("No inlining decision for " + aMainClass + " (run the forks with "
+          + "-XX:+UnlockDiagnosticVMOptions " + PRINT_INLINING + ")");
+      return 0;
+    }
+    aOut.println("Inlining decisions (bytecode size : decision x count) of " + aMainClass + ":");
+    aOut.println("#callSite;" + String.join(";", jdks));
+    for (final Map.Entry<String, Map<String, Map<String, Long>>> s : sites.entrySet()) {
+      final StringBuilder sb = new StringBuilder(s.getKey());
+      for (final String jdk : jdks) {
+        final Map<String, Long> d = s.getValue().get(jdk);
+        sb.append(';');
+        if (d != null) {
+          sb.append(d.entrySet().stream().map(x -> x.getKey() + " x" + x.getValue())
+              .collect(Collectors.joining(" / ")));
+        }
+      }
+      aOut.println(sb);
+    }
+    return sites.size();
+  }
+}
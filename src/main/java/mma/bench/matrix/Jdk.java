@@ -0,0 +1,142 @@
+package mma.bench.matrix;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * An installed JDK, found by scanning directories (like /usr/lib/jvm).
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class Jdk implements Comparable<Jdk> {
+  
+  /** The JDK home directory (canonical) */
+  public final File   home;
+  /** The JDK version (the JAVA_VERSION of the release file, e.g. 1.8.0_392 or 17.0.9) */
+  public final String version;
+  /** The feature release number (e.g. 8 or 17) */
+  public final int    feature;
+  /** The JDK name, in the Oracle installation directories style (e.g. jdk1.8.0_392 or jdk-17.0.9) */
+  public final String name;
+  
+  /**
+   * Constructor.
+   *
+   * @param aHome the JDK home directory (canonical)
+   * @param aVersion the JDK version
+   */
+  Jdk(final File aHome, final String aVersion) {
+    home = aHome;
+    version = aVersion;
+    feature = featureOf(aVersion);
+    name = aVersion.startsWith("1.") ? "jdk" + aVersion : "jdk-" + aVersion;
+  }
+  
+  /**
+   * @param aVersionOrName a JDK version (e.g. 1.8.0_392 or 17.0.9) or name (e.g. jdk1.8.0_392 or jdk-17.0.9)
+   * @return the feature release number (e.g. 8 or 17), 0 if it cannot be parsed
+   */
+  public static int featureOf(final String aVersionOrName) {
+    final String v = aVersionOrName.replaceFirst("^jdk-?", "");
+    final String[] parts = v.split("[._+-]");
+    try {
+      final int first = Integer.parseInt(parts[0]);
+      return first == 1 && parts.length > 1 ? Integer.parseInt(parts[1]) : first;
+    } catch (final NumberFormatException e) {
+      return 0;
+    }
+  }
+  
+  /**
+   * @param aTool a tool name (e.g. java, javac, jfr)
+   * @return the tool executable path
+   */
+  public String tool(final String aTool) {
+    return new File(new File(home, "bin"), aTool).getPath();
+  }
+  
+  /**
+   * Finds the JDKs (directories with a release file and the java and javac executables) directly under the
+   * given directories (or being these directories); the same JDK reached through symbolic links is returned
+   * once.
+   *
+   * @param aDirs the directories to scan
+   * @return the JDKs found, sorted by version
+   */
+  public static List<Jdk> find(final List<File> aDirs) {
+    final List<Jdk> jdks = new ArrayList<>();
+    final Set<File> homes = new HashSet<>();
+    for (final File dir : aDirs) {
+      final List<File> candidates = new ArrayList<>();
+      candidates.add(dir);
+      final File[] subs = dir.listFiles();
+      if (subs != null) {
+        for (final File f : subs) {
+          candidates.add(f);
+        }
+      }
+      for (final File c : candidates) {
+        final Jdk jdk = load(c);
+        if (jdk != null && homes.add(jdk.home)) {
+          jdks.add(jdk);
+        }
+      }
+    }
+    jdks.sort(null);
+    return jdks;
+  }
+  
+  /**
+   * @param aDir a directory
+   * @return the JDK installed in the directory, null if none
+   */
+  private static Jdk load(final File aDir) {
+    try {
+      final File home = aDir.getCanonicalFile();
+      final File release = new File(home, "release");
+      if (!release.isFile() || !new File(home, "bin/javac").canExecute()
+          || !new File(home, "bin/java").canExecute()) {
+        return null;
+      }
+      final Properties p = new Properties();
+      try (InputStream is = Files.newInputStream(release.toPath())) {
+        p.load(is);
+      }
+      final String v = p.getProperty("JAVA_VERSION");
+      return v == null ? null : new Jdk(home, v.replace("\"", "").trim());
+    } catch (final IOException | RuntimeException e) {
+      System.err.println("Ignoring " + aDir + " : " + e);
+      return null;
+    }
+  }
+  
+  @Override
+  public int compareTo(final Jdk aOther) {
+    final int c = Integer.compare(feature, aOther.feature);
+    return c != 0 ? c : version.compareTo(aOther.version);
+  }
+  
+  @Override
+  public boolean equals(final Object aObj) {
+    return aObj instanceof Jdk && home.equals(((Jdk) aObj).home);
+  }
+  
+  @Override
+  public int hashCode() {
+    return home.hashCode();
+  }
+  
+  @Override
+  public String toString() {
+    return name + " (" + home + ")";
+  }
+}
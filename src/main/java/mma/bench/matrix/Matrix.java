@@ -0,0 +1,381 @@
+package mma.bench.matrix;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import mma.bench.core.Result;
+
+/**
+ * Multi JDK matrix launcher, replacing the build_all_comp.xml / build_all_run.xml Ant targets on Linux.
+ * <p>
+ * It:
+ * <ul>
+ * <li>finds the installed JDKs (see {@link Jdk#find(List)})
+ * <li>compiles each program with each JDK (javac on the main class source, the dependencies being found
+ * through the sourcepath), and again for each variant with javac options (see {@link Variant})
+ * <li>runs the forks (one per JDK and variant, program, group and repetition) in parallel, each one bound (with
+ * taskset) to its own set of CPUs
+ * <li>merges the forks results files into a single results file, with the fork identifier as first column
+ * <li>reports the methods whose allocations are eliminated on some JDKs only (see {@link AllocationReport})
+ * <li>reports the inlining decisions of the programs whose forks were run with -XX:+PrintInlining (see
+ * {@link InliningReport})
+ * </ul>
+ * The arguments are the programs, as <code>mainClass[:group,group...]</code> (one fork per group, or a
+ * single fork running all the groups if none is given).<br>
+ * The configuration is read from the following system properties:
+ * <ul>
+ * <li>matrix.jdkDirs: the directories to scan for JDKs, separated by ':' (default /usr/lib/jvm)
+ * <li>matrix.jdks: the comma separated list of the JDKs to use, by feature number (e.g. 8,11,17) or name
+ * (default all)
+ * <li>matrix.src: the sources directory (default src/main/java)
+ * <li>matrix.dir: the working directory for the classes, logs and results (default target/matrix)
+ * <li>matrix.forks: the number of repetitions of each fork (default 1)
+ * <li>matrix.cpus: the number of CPUs per fork (default 2, at least 1)
+ * <li>matrix.javacArgs: additional javac arguments, separated by spaces (default none, e.g.
+ * <code>--add-modules jdk.incubator.vector</code>, with the same in matrix.jvmArgs)
+ * <li>matrix.jvmArgs: additional JVM arguments, separated by spaces (default none)
+ * <li>matrix.variants: a variants file (e.g. src/main/resources/variants-concat.txt), whose variants are run in
+ * addition to the default forks on the JDKs they apply to (default none)
+ * <li>matrix.out: the merged results file (default &lt;matrix.dir&gt;/results-&lt;timestamp&gt;.csv)
+ * <li>matrix.jfr: true to record each fork with JFR (JDK &ge; 11), with the CpuHigh.jfc settings, found on the
+ * class path or else in the src/main/resources directory of the project of the Matrix classes (default false)
+ * </ul>
+ * With JDK &ge; 11, the JFR probe is compiled with the programs, so the iterations are marked in the
+ * recordings by benchmark phase events.
+ * The bench.* system properties (except bench.groups and bench.out) and the javacc.* ones are passed to the
+ * forks.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public class Matrix {
+  
+  private final List<File>   jdkDirs = new ArrayList<>();
+  private final List<String> jdkSel;
+  private final File         src;
+  private final File         dir;
+  private final int          forks;
+  private final int          cpus;
+  private final List<String> javacArgs = new ArrayList<>();
+  private final List<String> jvmArgs   = new ArrayList<>();
+  private final File         variantsFile;
+  private final File         out;
+  private final boolean      jfr;
+  private final File         jfrSettings;
+  
+  /** The sources added to the compilations with JDK &ge; 11 */
+  static final String[]      JFR_SOURCES = {
+      "mma/bench/jfr/BenchmarkPhaseEvent.java", "mma/bench/jfr/JfrProbe.java"
+  };
+  /** The JFR settings file name */
+  static final String        JFR_SETTINGS = "CpuHigh.jfc";
+  
+  /**
+   * Constructor, reading the configuration from the system properties.
+   */
+  public Matrix() {
+    for (final String d : System.getProperty("matrix.jdkDirs", "/usr/lib/jvm").split(File.pathSeparator)) {
+      jdkDirs.add(new File(d));
+    }
+    final String sel = System.getProperty("matrix.jdks", "").trim();
+    jdkSel = sel.isEmpty() ? null : Arrays.asList(sel.split("\\s*,\\s*"));
+    src = new File(System.getProperty("matrix.src", "src/main/java"));
+    dir = new File(System.getProperty("matrix.dir", "target/matrix"));
+    forks = Integer.getInteger("matrix.forks", 1).intValue();
+    cpus = Integer.getInteger("matrix.cpus", 2).intValue();
+    if (cpus < 1) {
+      throw new IllegalStateException("matrix.cpus must be at least 1 (the number of CPUs per fork) : " + cpus);
+    }
+    final String ca = System.getProperty("matrix.javacArgs", "").trim();
+    if (!ca.isEmpty()) {
+      javacArgs.addAll(Arrays.asList(ca.split("\\s+")));
+    }
+    final String ja = System.getProperty("matrix.jvmArgs", "").trim();
+    if (!ja.isEmpty()) {
+      jvmArgs.addAll(Arrays.asList(ja.split("\\s+")));
+    }
+    for (final Map.Entry<Object, Object> e : System.getProperties().entrySet()) {
+      final String k = (String) e.getKey();
+      if (k.startsWith("bench.") && !k.equals("bench.groups") && !k.equals("bench.out")
+          || k.startsWith("javacc.")) {
+        jvmArgs.add("-D" + k + "=" + e.getValue());
+      }
+    }
+    final String vf = System.getProperty("matrix.variants", "").trim();
+    variantsFile = vf.isEmpty() ? null : new File(vf);
+    jfr = Boolean.getBoolean("matrix.jfr");
+    jfrSettings = jfr ? jfrSettings(dir) : null;
+    final String o = System.getProperty("matrix.out");
+    out = o != null ? new File(o)
+        : new File(dir, "results-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + ".csv");
+  }
+  
+  /**
+   * Finds the JFR settings file: the {@value #JFR_SETTINGS} resource of the class path (copied in the working
+   * directory if it is in a jar), else the one of the src/main/resources directory of the project of the Matrix
+   * classes (e.g. target/classes), so whatever the current directory.
+   *
+   * @param aDir the working directory
+   * @return the JFR settings file (absolute)
+   * @throws IllegalStateException if the file is not found or cannot be copied
+   */
+  static File jfrSettings(final File aDir) {
+    try {
+      final URL u = Matrix.class.getResource("/" + JFR_SETTINGS);
+      if (u != null && "file".equals(u.getProtocol())) {
+        return new File(u.toURI());
+      }
+      if (u != null) {
+        final File f = new File(aDir, JFR_SETTINGS).getAbsoluteFile();
+        f.getParentFile().mkdirs();
+        try (InputStream is = u.openStream()) {
+          Files.copy(is, f.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        return f;
+      }
+      final CodeSource cs = Matrix.class.getProtectionDomain().getCodeSource();
+      for (File d = cs == null ? null : new File(cs.getLocation().toURI()); d != null; d = d.getParentFile()) {
+        final File f = new File(d, "src/main/resources/" + JFR_SETTINGS);
+        if (f.isFile()) {
+          return f;
+        }
+      }
+    } catch (final IOException | URISyntaxException e) {
+      throw new IllegalStateException("Cannot read the JFR settings " + JFR_SETTINGS, e);
+    }
+    throw new IllegalStateException("JFR settings " + JFR_SETTINGS
+        + " found neither on the class path nor in the src/main/resources directory of the project");
+  }
+  
+  /**
+   * @param args the programs, as <code>mainClass[:group,group...]</code>
+   * @throws Exception if the merge fails or if interrupted
+   */
+  public static void main(final String[] args) throws Exception {
+    if (args.length == 0) {
+      System.err.println("Usage: Matrix mainClass[:group,group...] ...");
+      System.exit(1);
+    }
+    new Matrix().run(args);
+  }
+  
+  /**
+   * Runs the matrix.
+   *
+   * @param aPrograms the programs, as <code>mainClass[:group,group...]</code>
+   * @throws Exception if the merge fails or if interrupted
+   */
+  public void run(final String[] aPrograms) throws Exception {
+    final long bt = System.currentTimeMillis();
+    final List<Jdk> jdks = selectJdks();
+    final List<Variant> variants = variantsFile == null ? new ArrayList<Variant>() : Variant.read(variantsFile);
+    final List<Fork> all = new ArrayList<>();
+    for (final Jdk jdk : jdks) {
+      // null for the default forks
+      final List<Variant> jdkVariants = new ArrayList<>(Arrays.asList((Variant) null));
+      for (final Variant v : variants) {
+        if (v.appliesTo(jdk)) {
+          jdkVariants.add(v);
+        }
+      }
+      for (final String p : aPrograms) {
+        final String[] pg = p.split(":", 2);
+        final List<String> groups = pg.length > 1 ? Arrays.asList(pg[1].split(",")) : Arrays.asList((String) null);
+        File defClasses = null;
+        for (final Variant v : jdkVariants) {
+          final File classes;
+          if (v == null || v.javacArgs.isEmpty()) {
+            // the variants without javac options share the default classes
+            if (defClasses == null) {
+              defClasses = compile(jdk, null, pg[0]);
+            }
+            classes = defClasses;
+          } else {
+            classes = compile(jdk, v, pg[0]);
+          }
+          if (classes == null) {
+            continue;
+          }
+          for (int r = 0; r < forks; r++) {
+            for (final String g : groups) {
+              all.add(new Fork(jdk, v, pg[0], g, r, classes, forkJvmArgs(jdk, v), new File(dir, "forks")));
+            }
+          }
+        }
+      }
+    }
+    runForks(all);
+    merge(all);
+    AllocationReport.report(out, System.out);
+    InliningReport.report(all, System.out);
+    System.out.println("Matrix done in " + ((System.currentTimeMillis() - bt) / 1000) + " s, results in " + out);
+  }
+  
+  /**
+   * @return the JDKs found and selected
+   */
+  private List<Jdk> selectJdks() {
+    final List<Jdk> jdks = new ArrayList<>();
+    for (final Jdk jdk : Jdk.find(jdkDirs)) {
+      if (jdkSel == null || jdkSel.contains(Integer.toString(jdk.feature)) || jdkSel.contains(jdk.name)) {
+        jdks.add(jdk);
+        System.out.println("Using " + jdk);
+      }
+    }
+    if (jdks.isEmpty()) {
+      throw new IllegalStateException("No JDK found in " + jdkDirs);
+    }
+    return jdks;
+  }
+  
+  /**
+   * Compiles a program with a JDK, in a classes directory per JDK and variant with javac options.
+   *
+   * @param aJdk the JDK
+   * @param aVariant the variant, null for none
+   * @param aMainClass the program main class
+   * @return the classes directory, null if the compilation failed
+   * @throws IOException if the log file cannot be written
+   * @throws InterruptedException if interrupted
+   */
+  private File compile(final Jdk aJdk, final Variant aVariant, final String aMainClass)
+      throws IOException, InterruptedException {
+    final String suffix = aVariant == null ? "" : "-" + aVariant.name;
+    final File classes = new File(dir, aJdk.name + "/classes" + suffix);
+    final File log = new File(dir, aJdk.name + "/javac-" + aMainClass + suffix + ".log");
+    classes.mkdirs();
+    final List<String> cmd = new ArrayList<>(Arrays.asList(aJdk.tool("javac"), "-nowarn", "-encoding", "UTF-8",
+        "-sourcepath", src.getPath(), "-d", classes.getPath()));
+    cmd.addAll(javacArgs);
+    if (aVariant != null) {
+      cmd.addAll(aVariant.javacArgs);
+    }
+    cmd.add(new File(src, aMainClass.replace('.', '/') + ".java").getPath());
+    if (aJdk.feature >= 11) {
+      for (final String s : JFR_SOURCES) {
+        cmd.add(new File(src, s).getPath());
+      }
+    }
+    final int rc = new ProcessBuilder(cmd).redirectErrorStream(true).redirectOutput(log).start().waitFor();
+    if (rc != 0) {
+      System.err.println("Compilation of " + aMainClass + " failed with " + aJdk.name + suffix + ", see " + log);
+      return null;
+    }
+    return classes;
+  }
+  
+  /**
+   * @param aJdk the fork JDK
+   * @param aVariant the fork variant, null for none
+   * @return the fork JVM arguments (the JFR recording file being added later by the fork)
+   */
+  private List<String> forkJvmArgs(final Jdk aJdk, final Variant aVariant) {
+    final List<String> args = new ArrayList<>(jvmArgs);
+    if (aVariant != null) {
+      args.addAll(aVariant.jvmArgs);
+    }
+    if (jfr && aJdk.feature >= 11) {
+      args.add(Fork.JFR_ARG + "=settings=" + jfrSettings.getPath());
+    }
+    return args;
+  }
+  
+  /**
+   * Runs the forks in parallel, each on its own CPU set.
+   *
+   * @param aForks the forks
+   * @throws Exception if interrupted
+   */
+  private void runForks(final List<Fork> aForks) throws Exception {
+    final boolean taskset = new File("/usr/bin/taskset").canExecute() || new File("/bin/taskset").canExecute();
+    final List<String> sets = CpuSets.split(CpuSets.online(), cpus);
+    if (!taskset) {
+      System.err.println("taskset not found, forks are not bound to CPUs");
+    }
+    System.out.println(aForks.size() + " forks, " + sets.size() + " in parallel (CPU sets " + sets + ")");
+    final BlockingQueue<String> free = new ArrayBlockingQueue<>(sets.size(), false, sets);
+    final ExecutorService es = Executors.newFixedThreadPool(sets.size());
+    final List<Future<Integer>> rcs = new ArrayList<>();
+    for (final Fork f : aForks) {
+      f.resultFile.getParentFile().mkdirs();
+      f.jfrFile.getParentFile().mkdirs();
+      f.resultFile.delete();
+      rcs.add(es.submit(() -> {
+        final String set = free.take();
+        try {
+          final long bt = System.currentTimeMillis();
+          final int rc = new ProcessBuilder(f.command(taskset ? set : null)).redirectErrorStream(true)
+              .redirectOutput(f.logFile).start().waitFor();
+          System.out.println("  " + f + " on CPUs " + set + " : rc = " + rc + ", "
+              + ((System.currentTimeMillis() - bt) / 1000) + " s");
+          return Integer.valueOf(rc);
+        } finally {
+          free.put(set);
+        }
+      }));
+    }
+    es.shutdown();
+    for (int i = 0; i < rcs.size(); i++) {
+      if (rcs.get(i).get().intValue() != 0) {
+        System.err.println("Fork " + aForks.get(i) + " failed, see " + aForks.get(i).logFile);
+      }
+    }
+  }
+  
+  /**
+   * Merges the forks results files.
+   *
+   * @param aForks the forks
+   * @throws IOException if a file cannot be read or written
+   */
+  private void merge(final List<Fork> aForks) throws IOException {
+    if (out.getParentFile() != null) {
+      out.getParentFile().mkdirs();
+    }
+    String header = null;
+    final List<String> lines = new ArrayList<>();
+    for (final Fork f : aForks) {
+      if (!f.resultFile.isFile()) {
+        continue;
+      }
+      for (final String l : Files.readAllLines(f.resultFile.toPath(), StandardCharsets.UTF_8)) {
+        if (l.startsWith("#")) {
+          if (header == null) {
+            header = "#fork" + Result.SEP + l.substring(1);
+          }
+        } else if (!l.isEmpty()) {
+          lines.add(f.id() + Result.SEP + l);
+        }
+      }
+    }
+    try (BufferedWriter w = Files.newBufferedWriter(out.toPath(), StandardCharsets.UTF_8)) {
+      w.write(header != null ? header : "#fork" + Result.SEP + Result.HEADER.substring(1));
+      w.newLine();
+      for (final String l : lines) {
+        w.write(l);
+        w.newLine();
+      }
+    }
+  }
+}
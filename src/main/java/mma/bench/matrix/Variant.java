@@ -0,0 +1,110 @@
+package mma.bench.matrix;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A variant of the forks of a JDK: additional javac options (the programs being compiled again for the variant)
+ * and / or JVM options, for a range of JDKs (e.g. the string concatenation strategies of JDK 9 to 14).
+ * <p>
+ * The variants are read from a ';' separated file (see src/main/resources/variants-concat.txt), one variant per
+ * line, '#' starting a comment line:<br>
+ * <code>name;min JDK feature;max JDK feature (empty for no maximum);javac options;JVM options</code><br>
+ * the options being separated by spaces.<br>
+ * The forks of a variant are identified by the JDK name followed by '+' and the variant name (e.g.
+ * jdk-11.0.21+BC_SB), so that the variants are compared as JDKs by the analyses.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class Variant {
+  
+  /** The variant name */
+  public final String       name;
+  /** The minimum JDK feature release number */
+  public final int          minFeature;
+  /** The maximum JDK feature release number, 0 for no maximum */
+  public final int          maxFeature;
+  /** The additional javac options */
+  public final List<String> javacArgs;
+  /** The additional JVM options */
+  public final List<String> jvmArgs;
+  
+  /**
+   * Constructor.
+   *
+   * @param aName the variant name
+   * @param aMinFeature the minimum JDK feature release number
+   * @param aMaxFeature the maximum JDK feature release number, 0 for no maximum
+   * @param aJavacArgs the additional javac options
+   * @param aJvmArgs the additional JVM options
+   */
+  public Variant(final String aName, final int aMinFeature, final int aMaxFeature, final List<String> aJavacArgs,
+      final List<String> aJvmArgs) {
+    name = aName;
+    minFeature = aMinFeature;
+    maxFeature = aMaxFeature;
+    javacArgs = Collections.unmodifiableList(new ArrayList<>(aJavacArgs));
+    jvmArgs = Collections.unmodifiableList(new ArrayList<>(aJvmArgs));
+  }
+  
+  /**
+   * Reads a variants file.
+   *
+   * @param aFile the variants file
+   * @return the variants, in the file order
+   * @throws IOException if the file cannot be read
+   * @throws IllegalArgumentException if a line is malformed
+   */
+  public static List<Variant> read(final File aFile) throws IOException {
+    final List<Variant> vs = new ArrayList<>();
+    int n = 0;
+    for (final String l : Files.readAllLines(aFile.toPath(), StandardCharsets.UTF_8)) {
+      n++;
+      if (l.trim().isEmpty() || l.startsWith("#")) {
+        continue;
+      }
+      final String[] f = l.split(";", -1);
+      if (f.length != 5 || f[0].trim().isEmpty()) {
+        throw new IllegalArgumentException("Malformed variant at " + aFile + ":" + n + " : " + l);
+      }
+      try {
+        vs.add(new Variant(f[0].trim(), f[1].trim().isEmpty() ? 0 : Integer.parseInt(f[1].trim()),
+            f[2].trim().isEmpty() ? 0 : Integer.parseInt(f[2].trim()), options(f[3]), options(f[4])));
+      } catch (final NumberFormatException e) {
+        throw new IllegalArgumentException("Malformed JDK feature at " + aFile + ":" + n + " : " + l, e);
+      }
+    }
+    return vs;
+  }
+  
+  /**
+   * @param aOptions options separated by spaces
+   * @return the options
+   */
+  private static List<String> options(final String aOptions) {
+    final String o = aOptions.trim();
+    return o.isEmpty() ? Collections.<String> emptyList() : Arrays.asList(o.split("\\s+"));
+  }
+  
+  /**
+   * @param aJdk a JDK
+   * @return true if the variant applies to the JDK
+   */
+  public boolean appliesTo(final Jdk aJdk) {
+    return aJdk.feature >= minFeature && (maxFeature == 0 || aJdk.feature <= maxFeature);
+  }
+  
+  @Override
+  public String toString() {
+    return name;
+  }
+}
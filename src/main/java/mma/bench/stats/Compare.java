@@ -0,0 +1,183 @@
+package mma.bench.stats;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import mma.bench.core.ResultsTable;
+import mma.bench.matrix.Jdk;
+
+/**
+ * Compares repeated runs of the comparators, and marks each difference as significant, noise or inconclusive
+ * (see {@link Comparison}).
+ * <p>
+ * The arguments are:
+ * <ul>
+ * <li>one results file (e.g. merged by the matrix): each JDK is compared to the base JDK
+ * <li>two results files (e.g. the runs of two commits): for each JDK, the second file is compared to the
+ * first one
+ * </ul>
+ * The samples of a method on a JDK are the means of its forks if each compared side has at least
+ * <i>stats.minForks</i> forks (the iterations of a fork are not independent: they share the JIT decisions and
+ * the memory layout), all the measurement iterations otherwise (the unit column telling which).<br>
+ * The configuration is read from the following system properties:
+ * <ul>
+ * <li>stats.base: the base JDK, by feature number or name, for the single file comparison (default the oldest)
+ * <li>stats.threshold: the smallest difference considered as meaningful, in percents (default 2)
+ * <li>stats.minForks: the number of forks per side from which the fork means are compared (default 4)
+ * <li>stats.out: the output file (default the standard output)
+ * </ul>
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public class Compare {
+  
+  /** The header line of the output */
+  public static final String HEADER = "#method;base;other;unit;nBase;nOther;baseMedianNs;otherMedianNs;diffPct;"
+      + "baseCi95Pct;otherCi95Pct;p;verdict";
+  
+  private final String       base;
+  private final double       threshold;
+  private final int          minForks;
+  
+  /**
+   * Constructor, reading the configuration from the system properties.
+   */
+  public Compare() {
+    base = System.getProperty("stats.base");
+    threshold = Double.parseDouble(System.getProperty("stats.threshold", "2"));
+    minForks = Math.max(2, Integer.getInteger("stats.minForks", 4).intValue());
+  }
+  
+  /**
+   * @param args one or two results files
+   * @throws IOException if a file cannot be read or written
+   */
+  public static void main(final String[] args) throws IOException {
+    if (args.length < 1 || args.length > 2) {
+      System.err.println("Usage: Compare results.csv | Compare base.csv other.csv");
+      System.exit(1);
+    }
+    final String out = System.getProperty("stats.out");
+    final Compare c = new Compare();
+    try (PrintStream ps = out == null ? new PrintStream(System.out, true, "UTF-8")
+        : new PrintStream(Files.newOutputStream(new File(out).toPath()), true, "UTF-8")) {
+      final Map<Comparison.Verdict, Integer> counts = args.length == 1 ? c.compareJdks(new File(args[0]), ps)
+          : c.compareFiles(new File(args[0]), new File(args[1]), ps);
+      System.err.println("Verdicts : " + counts);
+    }
+  }
+  
+  /**
+   * Compares each JDK of a results file to the base JDK.
+   *
+   * @param aFile the results file
+   * @param aPs the output stream
+   * @return the number of comparisons per verdict
+   * @throws IOException if the file cannot be read
+   */
+  public Map<Comparison.Verdict, Integer> compareJdks(final File aFile, final PrintStream aPs)
+      throws IOException {
+    final ResultsTable t = new ResultsTable(aFile);
+    // method -> jdk -> fork -> iterations
+    final Map<String, Map<String, Map<String, double[]>>> runs = new TreeMap<>();
+    for (final String[] row : t.rows()) {
+      runs.computeIfAbsent(t.key(row), k -> new TreeMap<>()).computeIfAbsent(t.jdk(row), k -> new TreeMap<>())
+          .put(t.fork(row), t.getDoubles(row, "iterNsPerOp"));
+    }
+    final Map<Comparison.Verdict, Integer> counts = new EnumMap<>(Comparison.Verdict.class);
+    aPs.println(HEADER);
+    for (final Map.Entry<String, Map<String, Map<String, double[]>>> m : runs.entrySet()) {
+      final List<String> jdks = new ArrayList<>(m.getValue().keySet());
+      jdks.sort(Comparator.comparingInt(Jdk::featureOf).thenComparing(Comparator.naturalOrder()));
+      final String b = base == null ? jdks.get(0) : jdks.stream()
+          .filter(j -> j.equals(base) || Integer.toString(Jdk.featureOf(j)).equals(base)).findFirst().orElse(null);
+      if (b == null) {
+        continue;
+      }
+      for (final String j : jdks) {
+        if (!j.equals(b)) {
+          compare(aPs, counts, m.getKey(), b, m.getValue().get(b), j, m.getValue().get(j));
+        }
+      }
+    }
+    return counts;
+  }
+  
+  /**
+   * Compares, for each JDK, the runs of a results file to the runs of a base results file.
+   *
+   * @param aBase the base results file
+   * @param aOther the other results file
+   * @param aPs the output stream
+   * @return the number of comparisons per verdict
+   * @throws IOException if a file cannot be read
+   */
+  public Map<Comparison.Verdict, Integer> compareFiles(final File aBase, final File aOther,
+      final PrintStream aPs) throws IOException {
+    // method & jdk -> file -> fork -> iterations
+    final Map<String, Map<String, Map<String, double[]>>> runs = new TreeMap<>();
+    final String[] names = {
+        aBase.getName(), aOther.getName().equals(aBase.getName()) ? aOther.getPath() : aOther.getName()
+    };
+    for (int f = 0; f < 2; f++) {
+      final ResultsTable t = new ResultsTable(f == 0 ? aBase : aOther);
+      for (final String[] row : t.rows()) {
+        runs.computeIfAbsent(t.key(row) + " " + t.jdk(row), k -> new TreeMap<>())
+            .computeIfAbsent(names[f], k -> new TreeMap<>()).put(t.fork(row), t.getDoubles(row, "iterNsPerOp"));
+      }
+    }
+    final Map<Comparison.Verdict, Integer> counts = new EnumMap<>(Comparison.Verdict.class);
+    aPs.println(HEADER);
+    for (final Map.Entry<String, Map<String, Map<String, double[]>>> m : runs.entrySet()) {
+      if (m.getValue().size() == 2) {
+        compare(aPs, counts, m.getKey(), names[0], m.getValue().get(names[0]), names[1],
+            m.getValue().get(names[1]));
+      }
+    }
+    return counts;
+  }
+  
+  /**
+   * Compares the runs of a method and writes the comparison.
+   *
+   * @param aPs the output stream
+   * @param aCounts the number of comparisons per verdict, updated
+   * @param aMethod the method
+   * @param aBase the base name
+   * @param aBaseRuns the base runs (the iterations per fork)
+   * @param aOther the other name
+   * @param aOtherRuns the other runs
+   */
+  private void compare(final PrintStream aPs, final Map<Comparison.Verdict, Integer> aCounts,
+      final String aMethod, final String aBase, final Map<String, double[]> aBaseRuns, final String aOther,
+      final Map<String, double[]> aOtherRuns) {
+    final boolean forks = aBaseRuns.size() >= minForks && aOtherRuns.size() >= minForks;
+    final Comparison c = new Comparison(samples(aBaseRuns, forks), samples(aOtherRuns, forks), threshold);
+    aCounts.merge(c.verdict, Integer.valueOf(1), (x, y) -> Integer.valueOf(x.intValue() + y.intValue()));
+    aPs.println(aMethod + ";" + aBase + ";" + aOther + ";" + (forks ? "fork" : "iteration") + ";" + c.toLine());
+  }
+  
+  /**
+   * @param aRuns the runs (the iterations per fork)
+   * @param aForks true for the forks means, false for all the iterations
+   * @return the samples
+   */
+  static double[] samples(final Map<String, double[]> aRuns, final boolean aForks) {
+    if (aForks) {
+      return aRuns.values().stream().mapToDouble(Stats::mean).toArray();
+    }
+    return aRuns.values().stream().flatMapToDouble(Arrays::stream).toArray();
+  }
+}
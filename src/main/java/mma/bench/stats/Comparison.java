@@ -0,0 +1,98 @@
+package mma.bench.stats;
+
+import java.util.Locale;
+
+/**
+ * The comparison of two samples of timings (a base and another one, e.g. two JDKs or two commits), with its
+ * verdict:
+ * <ul>
+ * <li>{@link Verdict#SIGNIFICANT}: the Mann-Whitney test rejects the equality (p &lt; {@link #ALPHA}) and the
+ * medians differ by at least the threshold
+ * <li>{@link Verdict#NOISE}: the medians differ by less than the threshold, and either the test rejects the
+ * equality (a real but negligible difference) or both 95% confidence intervals are narrower than the threshold
+ * (the samples are precise enough to exclude a bigger difference)
+ * <li>{@link Verdict#INCONCLUSIVE}: otherwise (too few or too noisy samples to decide)
+ * </ul>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class Comparison {
+  
+  /** The verdicts */
+  public enum Verdict {
+    /** A difference bigger than the threshold, statistically significant */
+    SIGNIFICANT,
+    /** No difference bigger than the threshold */
+    NOISE,
+    /** Cannot decide */
+    INCONCLUSIVE
+  }
+  
+  /** The significance level of the test */
+  public static final double ALPHA = 0.05;
+  
+  /** The base sample size */
+  public final int           nBase;
+  /** The other sample size */
+  public final int           nOther;
+  /** The base sample median */
+  public final double        baseMedian;
+  /** The other sample median */
+  public final double        otherMedian;
+  /** The difference of the medians, in percents of the base median */
+  public final double        diffPct;
+  /** The half width of the base mean 95% confidence interval, in percents of the base mean */
+  public final double        baseCiPct;
+  /** The half width of the other mean 95% confidence interval, in percents of the other mean */
+  public final double        otherCiPct;
+  /** The Mann-Whitney test p-value */
+  public final double        p;
+  /** The verdict */
+  public final Verdict       verdict;
+  
+  /**
+   * Constructor.
+   *
+   * @param aBase the base sample
+   * @param aOther the other sample
+   * @param aThresholdPct the smallest difference (in percents) considered as meaningful
+   */
+  public Comparison(final double[] aBase, final double[] aOther, final double aThresholdPct) {
+    nBase = aBase.length;
+    nOther = aOther.length;
+    baseMedian = Stats.median(aBase);
+    otherMedian = Stats.median(aOther);
+    diffPct = 100 * (otherMedian - baseMedian) / baseMedian;
+    baseCiPct = 100 * Stats.ci95(aBase) / Stats.mean(aBase);
+    otherCiPct = 100 * Stats.ci95(aOther) / Stats.mean(aOther);
+    p = Stats.mannWhitney(aBase, aOther);
+    final boolean big = !(Math.abs(diffPct) < aThresholdPct);
+    if (p < ALPHA) {
+      verdict = big ? Verdict.SIGNIFICANT : Verdict.NOISE;
+    } else if (!big && baseCiPct < aThresholdPct && otherCiPct < aThresholdPct) {
+      verdict = Verdict.NOISE;
+    } else {
+      verdict = Verdict.INCONCLUSIVE;
+    }
+  }
+  
+  /**
+   * @return the comparison as the columns nBase;nOther;baseMedian;otherMedian;diffPct;baseCi95Pct;otherCi95Pct;
+   *         p;verdict
+   */
+  public String toLine() {
+    return nBase + ";" + nOther + ";" + fmt(baseMedian) + ";" + fmt(otherMedian) + ";" + fmt(diffPct) + ";"
+        + fmt(baseCiPct) + ";" + fmt(otherCiPct) + ";" + String.format(Locale.ROOT, "%.4f", Double.valueOf(p))
+        + ";" + verdict.name().toLowerCase(Locale.ROOT);
+  }
+  
+  /**
+   * @param aVal a double
+   * @return the double with 3 decimals, with a '.' whatever the default locale
+   */
+  private static String fmt(final double aVal) {
+    return String.format(Locale.ROOT, "%.3f", Double.valueOf(aVal));
+  }
+}
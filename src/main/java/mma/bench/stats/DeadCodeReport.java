@@ -0,0 +1,172 @@
+package mma.bench.stats;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import mma.bench.core.ResultsTable;
+import mma.bench.core.Runner;
+
+/**
+ * Flags the methods whose time per operation is statistically the same as (or below) the empty loop baseline
+ * measured by the runner (see {@link Runner}), as likely eliminated by the JIT (dead code elimination), on each
+ * JDK of results files.
+ * <p>
+ * On each JDK, the samples of each single threaded method whose operation is a call or a loop iteration (see
+ * the opUnit column, the methods measured per data element, e.g. per byte, being skipped) are compared (see
+ * {@link Comparison}) to the samples of the baselines of all the forks of the JDK (without the ones contaminated
+ * by JIT compilations, see the jitMs column, if there are others), the fork means being compared if each side
+ * has at least <i>stats.minForks</i> forks, all the measurement iterations otherwise. A method is:
+ * <ul>
+ * <li>likely eliminated if it is not significantly different from the baseline (noise verdict), or
+ * significantly faster
+ * <li>inconclusive if the samples cannot decide and its median is not above the baseline by more than the
+ * threshold
+ * </ul>
+ * The other methods (significantly slower than the baseline) are not printed.<br>
+ * The arguments are the results files (e.g. merged by the matrix).<br>
+ * The configuration is read from the following system properties:
+ * <ul>
+ * <li>stats.deadThreshold: the smallest difference with the baseline considered as real work, in percents
+ * (default 10)
+ * <li>stats.minForks: the number of forks per side from which the fork means are compared (default 4)
+ * <li>stats.out: the output file (default the standard output)
+ * </ul>
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public class DeadCodeReport {
+  
+  /** The header line of the output */
+  public static final String HEADER       = "#method;jdk;unit;nBase;nOther;baseMedianNs;otherMedianNs;diffPct;"
+      + "baseCi95Pct;otherCi95Pct;p;verdict;status";
+  /** The status of the methods likely eliminated */
+  public static final String ELIMINATED   = "likely eliminated";
+  /** The status of the methods which cannot be decided */
+  public static final String INCONCLUSIVE = "inconclusive";
+  
+  private final double       threshold;
+  private final int          minForks;
+  
+  /**
+   * Constructor, reading the configuration from the system properties.
+   */
+  public DeadCodeReport() {
+    threshold = Double.parseDouble(System.getProperty("stats.deadThreshold", "10"));
+    minForks = Math.max(2, Integer.getInteger("stats.minForks", 4).intValue());
+  }
+  
+  /**
+   * @param args the results files
+   * @throws IOException if a file cannot be read or written
+   */
+  public static void main(final String[] args) throws IOException {
+    if (args.length < 1) {
+      System.err.println("Usage: DeadCodeReport results.csv...");
+      System.exit(1);
+    }
+    final String out = System.getProperty("stats.out");
+    final List<File> files = new ArrayList<>();
+    for (final String a : args) {
+      files.add(new File(a));
+    }
+    try (PrintStream ps = out == null ? new PrintStream(System.out, true, "UTF-8")
+        : new PrintStream(Files.newOutputStream(new File(out).toPath()), true, "UTF-8")) {
+      final int n = new DeadCodeReport().report(files, ps);
+      System.err.println("Likely eliminated or inconclusive : " + n);
+    }
+  }
+  
+  /**
+   * Compares the methods of results files to the baselines of their JDKs and writes the flagged ones, then the
+   * methods flagged on all their JDKs and on some of them only.
+   *
+   * @param aFiles the results files
+   * @param aPs the output stream
+   * @return the number of flagged methods and JDKs
+   * @throws IOException if a file cannot be read
+   */
+  public int report(final List<File> aFiles, final PrintStream aPs) throws IOException {
+    // jdk -> fork -> baseline iterations, without and with JIT compilations
+    final Map<String, Map<String, double[]>> bases = new TreeMap<>();
+    final Map<String, Map<String, double[]>> jitBases = new TreeMap<>();
+    // method -> jdk -> fork -> iterations
+    final Map<String, Map<String, Map<String, double[]>>> runs = new TreeMap<>();
+    for (final File f : aFiles) {
+      final ResultsTable t = new ResultsTable(f);
+      for (final String[] row : t.rows()) {
+        final double[] it = t.getDoubles(row, "iterNsPerOp");
+        if (Runner.BASE_GROUP.equals(t.get(row, "group")) && Runner.BASE_METHOD.equals(t.get(row, "method"))) {
+          final boolean jit = t.has("jitMs") && t.getDouble(row, "jitMs") > 0;
+          (jit ? jitBases : bases).computeIfAbsent(t.jdk(row), k -> new TreeMap<>())
+              .put(f.getName() + " " + t.fork(row), it);
+        } else if ((!t.has("threads") || "1".equals(t.get(row, "threads")))
+            && (!t.has("opUnit") || Runner.UNIT_LOOP.equals(t.get(row, "opUnit")))) {
+          runs.computeIfAbsent(t.key(row), k -> new TreeMap<>()).computeIfAbsent(t.jdk(row), k -> new TreeMap<>())
+              .put(f.getName() + " " + t.fork(row), it);
+        }
+      }
+    }
+    jitBases.forEach((k, v) -> bases.putIfAbsent(k, v));
+    if (bases.isEmpty()) {
+      aPs.println("No empty loop baseline in " + aFiles + " (run without -D" + Runner.P_BASELINE + "=false)");
+      return 0;
+    }
+    aPs.println(HEADER);
+    int flagged = 0;
+    final List<String> all = new ArrayList<>();
+    final List<String> some = new ArrayList<>();
+    for (final Map.Entry<String, Map<String, Map<String, double[]>>> m : runs.entrySet()) {
+      final List<String> jdks = new ArrayList<>();
+      int compared = 0;
+      for (final Map.Entry<String, Map<String, double[]>> j : m.getValue().entrySet()) {
+        final Map<String, double[]> b = bases.get(j.getKey());
+        if (b == null) {
+          continue;
+        }
+        compared++;
+        final boolean forks = b.size() >= minForks && j.getValue().size() >= minForks;
+        final Comparison c = new Comparison(Compare.samples(b, forks), Compare.samples(j.getValue(), forks),
+            threshold);
+        final String status = status(c);
+        if (status != null) {
+          flagged++;
+          if (ELIMINATED.equals(status)) {
+            jdks.add(j.getKey());
+          }
+          aPs.println(m.getKey() + ";" + j.getKey() + ";" + (forks ? "fork" : "iteration") + ";" + c.toLine() + ";"
+              + status);
+        }
+      }
+      if (!jdks.isEmpty()) {
+        (jdks.size() == compared ? all : some).add(m.getKey() + (jdks.size() == compared ? "" : " " + jdks));
+      }
+    }
+    aPs.println();
+    aPs.println("Likely eliminated on all their JDKs : " + all);
+    aPs.println("Likely eliminated on some JDKs only : " + some);
+    return flagged;
+  }
+  
+  /**
+   * @param aC the comparison of a method (other) to the baseline (base)
+   * @return the status of the method, null if it does real work
+   */
+  private String status(final Comparison aC) {
+    if (aC.verdict == Comparison.Verdict.NOISE || aC.verdict == Comparison.Verdict.SIGNIFICANT && aC.diffPct < 0) {
+      return ELIMINATED;
+    }
+    if (aC.verdict == Comparison.Verdict.INCONCLUSIVE && aC.diffPct < threshold) {
+      return INCONCLUSIVE;
+    }
+    return null;
+  }
+}
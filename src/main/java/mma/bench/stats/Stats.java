@@ -0,0 +1,195 @@
+package mma.bench.stats;
+
+import java.util.Arrays;
+
+/**
+ * Descriptive statistics, confidence intervals and the Mann-Whitney U test, on samples of timings.
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class Stats {
+  
+  /** The two sided 95% quantiles of the Student t distribution, for 1 to 30 degrees of freedom */
+  private static final double[] T95         = {
+      12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228, 2.201, 2.179, 2.160, 2.145, 2.131,
+      2.120, 2.110, 2.101, 2.093, 2.086, 2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+  };
+  /** The biggest total size for which the exact distribution of U is computed (without ties) */
+  private static final int      EXACT_MAX_N = 40;
+  
+  private Stats() {
+    // no instances
+  }
+  
+  /**
+   * @param aS a sample
+   * @return the sample mean, NaN if empty
+   */
+  public static double mean(final double[] aS) {
+    double s = 0;
+    for (final double d : aS) {
+      s += d;
+    }
+    return aS.length == 0 ? Double.NaN : s / aS.length;
+  }
+  
+  /**
+   * @param aS a sample
+   * @return the sample median, NaN if empty
+   */
+  public static double median(final double[] aS) {
+    if (aS.length == 0) {
+      return Double.NaN;
+    }
+    final double[] s = aS.clone();
+    Arrays.sort(s);
+    final int m = s.length / 2;
+    return (s.length & 1) == 1 ? s[m] : (s[m - 1] + s[m]) / 2;
+  }
+  
+  /**
+   * @param aS a sample
+   * @return the sample (unbiased) standard deviation, NaN if less than 2 values
+   */
+  public static double stdDev(final double[] aS) {
+    if (aS.length < 2) {
+      return Double.NaN;
+    }
+    final double m = mean(aS);
+    double s = 0;
+    for (final double d : aS) {
+      s += (d - m) * (d - m);
+    }
+    return Math.sqrt(s / (aS.length - 1));
+  }
+  
+  /**
+   * @param aS a sample
+   * @return the half width of the 95% confidence interval of the mean (Student t), NaN if less than 2 values
+   */
+  public static double ci95(final double[] aS) {
+    return aS.length < 2 ? Double.NaN : t95(aS.length - 1) * stdDev(aS) / Math.sqrt(aS.length);
+  }
+  
+  /**
+   * @param aDf the degrees of freedom (at least 1)
+   * @return the two sided 95% quantile of the Student t distribution (rounded up between the tabulated values)
+   */
+  static double t95(final int aDf) {
+    if (aDf <= T95.length) {
+      return T95[aDf - 1];
+    }
+    return aDf <= 40 ? 2.042 : aDf <= 60 ? 2.021 : aDf <= 120 ? 2.000 : 1.980;
+  }
+  
+  /**
+   * Two sided Mann-Whitney U test (Wilcoxon rank sum test), which does not assume normal distributions (timings
+   * are usually skewed, with outliers).<br>
+   * The p-value is exact for small samples without ties, and computed with the normal approximation (with the
+   * ties and continuity corrections) otherwise.
+   *
+   * @param aA the first sample
+   * @param aB the second sample
+   * @return the p-value of the hypothesis that both samples come from the same distribution, NaN if a sample
+   *         is empty
+   */
+  public static double mannWhitney(final double[] aA, final double[] aB) {
+    final int m = aA.length;
+    final int n = aB.length;
+    if (m == 0 || n == 0) {
+      return Double.NaN;
+    }
+    final int nt = m + n;
+    final double[] all = new double[nt];
+    System.arraycopy(aA, 0, all, 0, m);
+    System.arraycopy(aB, 0, all, m, n);
+    final Integer[] idx = new Integer[nt];
+    for (int i = 0; i < nt; i++) {
+      idx[i] = Integer.valueOf(i);
+    }
+    Arrays.sort(idx, (x, y) -> Double.compare(all[x.intValue()], all[y.intValue()]));
+    // average ranks, sum of the ranks of the first sample and ties correction term
+    double ra = 0;
+    double ties = 0;
+    for (int i = 0; i < nt;) {
+      int j = i;
+      while (j + 1 < nt && all[idx[j + 1].intValue()] == all[idx[i].intValue()]) {
+        j++;
+      }
+      final double rank = (i + j + 2) / 2.0;
+      for (int k = i; k <= j; k++) {
+        if (idx[k].intValue() < m) {
+          ra += rank;
+        }
+      }
+      final double t = j - i + 1;
+      ties += t * t * t - t;
+      i = j + 1;
+    }
+    final double u = ra - m * (m + 1) / 2.0;
+    if (ties == 0 && nt <= EXACT_MAX_N) {
+      return exactP(m, n, (long) u);
+    }
+    final double mu = m * (double) n / 2;
+    final double var = m * (double) n / 12 * ((nt + 1) - ties / (nt * (nt - 1.0)));
+    if (var <= 0) {
+      return 1;
+    }
+    final double z = Math.max(0, Math.abs(u - mu) - 0.5) / Math.sqrt(var);
+    return Math.min(1, 2 * (1 - phi(z)));
+  }
+  
+  /**
+   * @param aM the first sample size
+   * @param aN the second sample size
+   * @param aU the U statistic of the first sample
+   * @return the exact two sided p-value
+   */
+  private static double exactP(final int aM, final int aN, final long aU) {
+    // c[i][j][u] = number of orderings of i + j values giving U = u ; c(i,j,u) = c(i-1,j,u-j) + c(i,j-1,u)
+    final double[][][] c = new double[aM + 1][aN + 1][];
+    for (int i = 0; i <= aM; i++) {
+      for (int j = 0; j <= aN; j++) {
+        c[i][j] = new double[i * j + 1];
+        if (i == 0 || j == 0) {
+          c[i][j][0] = 1;
+          continue;
+        }
+        for (int u = 0; u <= i * j; u++) {
+          final double a = u - j >= 0 && u - j < c[i - 1][j].length ? c[i - 1][j][u - j] : 0;
+          final double b = u < c[i][j - 1].length ? c[i][j - 1][u] : 0;
+          c[i][j][u] = a + b;
+        }
+      }
+    }
+    final double[] d = c[aM][aN];
+    double tot = 0;
+    double le = 0;
+    double ge = 0;
+    for (int u = 0; u < d.length; u++) {
+      tot += d[u];
+      if (u <= aU) {
+        le += d[u];
+      }
+      if (u >= aU) {
+        ge += d[u];
+      }
+    }
+    return Math.min(1, 2 * Math.min(le, ge) / tot);
+  }
+  
+  /**
+   * @param aZ a value
+   * @return the standard normal cumulative distribution function at the value (Abramowitz &amp; Stegun 7.1.26,
+   *         absolute error &lt; 1.5e-7)
+   */
+  static double phi(final double aZ) {
+    final double x = Math.abs(aZ) / Math.sqrt(2);
+    final double t = 1 / (1 + 0.3275911 * x);
+    final double erf = 1 - (((((1.061405429 * t - 1.453152027) * t) + 1.421413741) * t - 0.284496736) * t
+        + 0.254829592) * t * Math.exp(-x * x);
+    return aZ >= 0 ? (1 + erf) / 2 : (1 - erf) / 2;
+  }
+}
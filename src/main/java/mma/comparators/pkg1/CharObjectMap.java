@@ -0,0 +1,150 @@
+package mma.comparators.pkg1;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash map with primitive char keys (no boxing) and non null values, for the lexer style lookups.
+ * <p>
+ * Linear probing in power of 2 sized parallel arrays of keys and values, a null value marking a free slot ; the
+ * table is doubled when it gets half full. No removal (not needed by the lookups).
+ * </p>
+ *
+ * @param <V> the values type
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+final class CharObjectMap<V> {
+  
+  private char[]   keys;
+  private Object[] vals;
+  private int      shift;
+  private int      size;
+  
+  /**
+   * Constructor with a default capacity (8 entries before the first resize).
+   */
+  CharObjectMap() {
+    this(8);
+  }
+  
+  /**
+   * Constructor.
+   *
+   * @param aExpected the number of entries that can be put without resizing
+   */
+  CharObjectMap(final int aExpected) {
+    int cap = 2;
+    while (cap < 2 * aExpected) {
+      cap <<= 1;
+    }
+    init(cap);
+  }
+  
+  /**
+   * Allocates the arrays.
+   *
+   * @param aCap the capacity (a power of 2)
+   */
+  private void init(final int aCap) {
+    keys = new char[aCap];
+    vals = new Object[aCap];
+    shift = 32 - Integer.numberOfTrailingZeros(aCap);
+  }
+  
+  /**
+   * @param aKey a key
+   * @return the home slot of the key (Fibonacci hashing)
+   */
+  private int slot(final char aKey) {
+    return (aKey * 0x9E3779B9) >>> shift;
+  }
+  
+  /**
+   * Associates a value to a key.
+   *
+   * @param aKey the key
+   * @param aVal the value (not null)
+   * @return the previous value, null if none
+   */
+  V put(final char aKey, final V aVal) {
+    if (aVal == null) {
+      throw new NullPointerException();
+    }
+    final int mask = vals.length - 1;
+    for (int i = slot(aKey);; i = (i + 1) & mask) {
+      final Object v = vals[i];
+      if (v == null) {
+        keys[i] = aKey;
+        vals[i] = aVal;
+        if (++size > vals.length >> 1) {
+          resize();
+        }
+        return null;
+      }
+      if (keys[i] == aKey) {
+        vals[i] = aVal;
+        @SuppressWarnings("unchecked")
+        final V old = (V) v;
+        return old;
+      }
+    }
+  }
+  
+  /**
+   * @param aKey a key
+   * @return the value associated to the key, null if none
+   */
+  @SuppressWarnings("unchecked")
+  V get(final char aKey) {
+    final int mask = vals.length - 1;
+    for (int i = slot(aKey);; i = (i + 1) & mask) {
+      final Object v = vals[i];
+      if (v == null || keys[i] == aKey) {
+        return (V) v;
+      }
+    }
+  }
+  
+  /**
+   * @return the number of entries
+   */
+  int size() {
+    return size;
+  }
+  
+  /**
+   * @return the number of slots
+   */
+  int capacity() {
+    return vals.length;
+  }
+  
+  /**
+   * Removes all the entries (keeping the capacity).
+   */
+  void clear() {
+    Arrays.fill(vals, null);
+    size = 0;
+  }
+  
+  /**
+   * Doubles the capacity and reinserts the entries.
+   */
+  private void resize() {
+    final char[] ok = keys;
+    final Object[] ov = vals;
+    init(2 * ov.length);
+    final int mask = vals.length - 1;
+    for (int j = 0; j < ov.length; j++) {
+      if (ov[j] != null) {
+        int i = slot(ok[j]);
+        while (vals[i] != null) {
+          i = (i + 1) & mask;
+        }
+        keys[i] = ok[j];
+        vals[i] = ov[j];
+      }
+    }
+  }
+}
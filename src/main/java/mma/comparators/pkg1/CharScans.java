@@ -0,0 +1,116 @@
+package mma.comparators.pkg1;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Character class scans (counting the ASCII digits, as a tokenizer classifies its input characters), for the
+ * extended for loops group (c*) of {@link Compare_sc_gs_hh} and the Vector API comparison of
+ * <code>mma.comparators.pkg4</code>: scalar loops on char and byte arrays (with a branch, or branch free so that
+ * C2 can vectorize them), and SWAR (SIMD within a register) on 64 bits words.
+ * <p>
+ * The SWAR scan tests the 8 bytes of a word at once, without carries between the bytes (their high bit being
+ * masked before the additions and subtractions, and the bytes &ge; 0x80 being excluded):<br>
+ * a byte b (&lt; 0x80) is in ]LO, HI[ if the high bits of (0x7F + HI - b) and (b + 0x7F - LO) are both set.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class CharScans {
+  
+  /** The byte just below the class ('0' - 1) */
+  private static final long LO    = '0' - 1;
+  /** The byte just above the class ('9' + 1) */
+  private static final long HI    = '9' + 1;
+  /** 0x01 in each byte */
+  private static final long ONES  = 0x0101010101010101L;
+  /** 0x7F in each byte */
+  private static final long LOW7  = 0x7F7F7F7F7F7F7F7FL;
+  /** 0x80 in each byte */
+  private static final long HIGH  = 0x8080808080808080L;
+  /** HI + 0x7F in each byte */
+  private static final long UPPER = ONES * (127 + HI);
+  /** 0x7F - LO in each byte */
+  private static final long LOWER = ONES * (127 - LO);
+  
+  private CharScans() {
+    // no instances
+  }
+  
+  /**
+   * @param aChars the characters
+   * @return the number of ASCII digits, tested one char at a time with a branch
+   */
+  public static int digits(final char[] aChars) {
+    int n = 0;
+    for (int i = 0; i < aChars.length; i++) {
+      final char c = aChars[i];
+      if (c >= '0' && c <= '9') {
+        n++;
+      }
+    }
+    return n;
+  }
+  
+  /**
+   * @param aBytes the bytes
+   * @return the number of ASCII digits, tested one byte at a time with a branch
+   */
+  public static int digits(final byte[] aBytes) {
+    int n = 0;
+    for (int i = 0; i < aBytes.length; i++) {
+      final byte b = aBytes[i];
+      if (b >= '0' && b <= '9') {
+        n++;
+      }
+    }
+    return n;
+  }
+  
+  /**
+   * @param aBytes the bytes
+   * @return the number of ASCII digits, tested one byte at a time without branch (the sign bits of b - '0' and
+   *         '9' - b being both clear for a digit)
+   */
+  public static int digitsBranchFree(final byte[] aBytes) {
+    int n = 0;
+    for (int i = 0; i < aBytes.length; i++) {
+      final int b = aBytes[i];
+      n += (((b - '0') | ('9' - b)) >>> 31) ^ 1;
+    }
+    return n;
+  }
+  
+  /**
+   * @param aBytes the bytes
+   * @return a little endian buffer on the bytes, to be passed to {@link #digitsSwar(ByteBuffer)}
+   */
+  public static ByteBuffer words(final byte[] aBytes) {
+    return ByteBuffer.wrap(aBytes).order(ByteOrder.LITTLE_ENDIAN);
+  }
+  
+  /**
+   * @param aWords a buffer on the bytes (see {@link #words(byte[])})
+   * @return the number of ASCII digits, tested 8 bytes at a time (the last bytes one at a time)
+   */
+  public static int digitsSwar(final ByteBuffer aWords) {
+    int n = 0;
+    final int len = aWords.limit();
+    final int end = len & ~7;
+    int i = 0;
+    for (; i < end; i += 8) {
+      final long x = aWords.getLong(i);
+      final long x7 = x & LOW7;
+      n += Long.bitCount((UPPER - x7) & (x7 + LOWER) & ~x & HIGH);
+    }
+    for (; i < len; i++) {
+      final byte b = aWords.get(i);
+      if (b >= '0' && b <= '9') {
+        n++;
+      }
+    }
+    return n;
+  }
+}
@@ -1,7 +1,22 @@
 package mma.comparators.pkg1;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import mma.bench.core.Allocations;
+import mma.bench.core.Result;
+import mma.bench.core.Runner;
+import mma.bench.core.VirtualThreads;
+import mma.bench.core.Workload;
 
 /**
  * Simple program aimed at comparing various coding techniques performance: string concatenation,
@@ -12,7 +27,9 @@ import java.util.Hashtable;
  * </p>
  * <p>
  * Note: in order to ensure fair results, JIT compilation must occur within the z3 method and not within the
- * others ; this can be checked with the appropriate java flag (ie -XX:+PrintCompilation for Oracle JDK). <br>
+ * others ; this can be checked with the appropriate java flag (ie -XX:+PrintCompilation for Oracle JDK), and is
+ * now hinted by the runner (jitMs column, the JVM wide compilation time during the measurements) and checked
+ * with JFR by the JfrAnalyzer (OSR and C2 compilations and compiled methods per measured method). <br>
  * Ideally, each group of topmethods should be run in different JVM runs, to prevent JIT +/- in sub methods of
  * some top methods impact the same sub methods in other top methods (e.g. java.lang.String::abc() can be
  * called in many top methods an_xxx()).
@@ -26,16 +43,31 @@ import java.util.Hashtable;
  *          1.4 : changed initial HashMap sizes, clear global Hashtables and HashMaps, changed all returned
  *          values to an int 1.5 : corrected bug in b2_byte_newString() <br>
  *          1.5 : 06/2021 : changed API marked for removal ; added field buffers ; doubled iterations<br>
+ *          1.6 : 2026 : timings, warmup and results through the bench core runner ; global Hashtables and
+ *          HashMaps filled in the constructor<br>
+ *          1.7 : 2026 : added the primitive keyed maps group (m*) and their memory per entry<br>
+ *          1.8 : 2026 : added the shared maps contention group (n*)<br>
+ *          1.9 : 2026 : added the off heap map group (o*)<br>
+ *          1.10 : 2026 : added the virtual threads group (v*)<br>
+ *          1.11 : 2026 : added the shared buffers contention group (w*)<br>
+ *          1.12 : 2026 : added the concatenation operands group (p*)<br>
+ *          1.13 : 2026 : added the charset encoding group (q*)<br>
+ *          1.14 : 2026 : added the char array, byte array and SWAR scans to the for loops group (c4 to c7)<br>
+ *          1.15 : 2026 : added the scan scaling group, from 64 bytes to gigabytes (s*)<br>
  */
 public class Compare_sc_gs_hh {
   private static final int                      MAX_LOOP_1  = 400000;
   private static final int                      MAX_LOOP_2  = 200000;
   private static final int                      MAX_LOOP_3  = 10000;
   private static final int                      MAX_LOOP_4  = 1200;
+  private static final int                      SHARED_MAX  = 65536;
   private static final String                   LINE_64     = "azertyuiopqsdfghjklmwxcvbn1234567890AZERTYUIOPQSDFGHJKLMWXCVBNaz";
   private static final String                   LINE_26     = "azertyuiopqsdfghjklmwxcvbn";
   private static final String                   LINE_36     = "azertyuiopqsdfghjklmwxcvbn1234567890";
   private static final StringBuffer             STSB64      = new StringBuffer(LINE_64);
+  private static final char[]                   CHARS64     = LINE_64.toCharArray();
+  private static final byte[]                   BYTES64     = LINE_64.getBytes(StandardCharsets.ISO_8859_1);
+  private static final SlowValue                SLOW        = new SlowValue();
   private final Object[]                        objArr64    = new Object[LINE_64.length()];
   protected int                                 anInt;
   private final Hashtable<Object, StringBuffer> globDefHT   = new Hashtable<>();
@@ -44,16 +76,51 @@ public class Compare_sc_gs_hh {
   private final HashMap<Object, StringBuffer>   globTunedHM = new HashMap<>(128);
   private final Hashtable<Object, StringBuffer> globOverHT  = new Hashtable<>(1001);
   private final HashMap<Object, StringBuffer>   globOverHM  = new HashMap<>(1024);
+  private final char[]                          charArr64   = LINE_64.toCharArray();
+  private final CharObjectMap<StringBuffer>     globDefCM   = new CharObjectMap<>();
+  private final IntObjectMap<StringBuffer>      globDefIM   = new IntObjectMap<>();
+  private final CharObjectMap<StringBuffer>     globTunedCM = new CharObjectMap<>(64);
+  private final IntObjectMap<StringBuffer>      globTunedIM = new IntObjectMap<>(64);
+  private final CharObjectMap<StringBuffer>     globOverCM  = new CharObjectMap<>(512);
+  private final IntObjectMap<StringBuffer>      globOverIM  = new IntObjectMap<>(512);
+  private final Hashtable<Object, StringBuffer> sharedHT    = new Hashtable<>();
+  private final Map<Object, StringBuffer>       sharedSM    = Collections
+      .synchronizedMap(new HashMap<Object, StringBuffer>());
+  private final Map<Object, StringBuffer>       sharedCHM   = new ConcurrentHashMap<>();
+  private final StripedMap<StringBuffer>        sharedSTM   = new StripedMap<>(16, 16);
+  private final StringBuffer                    sharedSbuf  = new StringBuffer(SHARED_MAX + 4096);
+  private final StringBuilder                   sharedSbui  = new StringBuilder(SHARED_MAX + 4096);
+  private final StringBuilder                   lockedSbui  = new StringBuilder(SHARED_MAX + 4096);
+  private final ReentrantLock                   sharedLock  = new ReentrantLock();
   private StringBuffer                          sbuf;
   private StringBuilder                         sbui;
   
   /**
-   * Empty constructor
+   * Constructor: initializes the objects array and fills the global Hashtables, HashMaps and primitive keyed
+   * maps (so that the h*, l* and m* get methods can be run without the g* and k* ones)
    */
   public Compare_sc_gs_hh() {
     for (int i = 0; i < LINE_64.length(); i++) {
       objArr64[i] = Character.valueOf(STSB64.charAt(i));
     }
+    for (int j = 0; j < 64; j++) {
+      globDefHT.put(objArr64[j], STSB64);
+      globTunedHT.put(objArr64[j], STSB64);
+      globOverHT.put(objArr64[j], STSB64);
+      globDefHM.put(objArr64[j], STSB64);
+      globTunedHM.put(objArr64[j], STSB64);
+      globOverHM.put(objArr64[j], STSB64);
+      globDefCM.put(charArr64[j], STSB64);
+      globTunedCM.put(charArr64[j], STSB64);
+      globOverCM.put(charArr64[j], STSB64);
+      globDefIM.put(charArr64[j], STSB64);
+      globTunedIM.put(charArr64[j], STSB64);
+      globOverIM.put(charArr64[j], STSB64);
+      sharedHT.put(objArr64[j], STSB64);
+      sharedSM.put(objArr64[j], STSB64);
+      sharedCHM.put(objArr64[j], STSB64);
+      sharedSTM.put(objArr64[j], STSB64);
+    }
   }
   
   /*
@@ -342,6 +409,60 @@ public class Compare_sc_gs_hh {
     return l;
   }
   
+  /**
+   * Counts the digits of a char array, one char at a time with a branch (see {@link CharScans})
+   *
+   * @return the number of digits
+   */
+  public final static int c4_scan_chars() {
+    int l = 0;
+    for (int i = 0; i < MAX_LOOP_3; i++) {
+      l += CharScans.digits(CHARS64);
+    }
+    return l;
+  }
+  
+  /**
+   * Counts the digits of a byte array, one byte at a time with a branch
+   *
+   * @return the number of digits
+   */
+  public final static int c5_scan_bytes() {
+    int l = 0;
+    for (int i = 0; i < MAX_LOOP_3; i++) {
+      l += CharScans.digits(BYTES64);
+    }
+    return l;
+  }
+  
+  /**
+   * Counts the digits of a byte array, one byte at a time without branch (C2 auto vectorization
+   * candidate, to be compared with -XX:-UseSuperWord)
+   *
+   * @return the number of digits
+   */
+  public final static int c6_scan_bytes_branch_free() {
+    int l = 0;
+    for (int i = 0; i < MAX_LOOP_3; i++) {
+      l += CharScans.digitsBranchFree(BYTES64);
+    }
+    return l;
+  }
+  
+  /**
+   * Counts the digits of a byte array, 8 bytes at a time in a long (SWAR)
+   *
+   * @return the number of digits
+   */
+  public final static int c7_scan_bytes_swar() {
+    int l = 0;
+    final ByteBuffer w = CharScans.words(BYTES64);
+    for (int i = 0; i < MAX_LOOP_3; i++) {
+      l += CharScans.digitsSwar(w);
+    }
+    return l;
+  }
+  
   /* === direct / getters & setters === */
   /**
    * Usual getter
@@ -952,284 +1073,1694 @@ public class Compare_sc_gs_hh {
     return l;
   }
   
-  /* === dummy processing to load and just in time compile classes === */
+  /* === primitive keyed maps (same as Hashtables / HashMaps, without boxing) === */
   /**
-   * Loads classes used above
+   * Loops 1000 times to
+   * <ul>
+   * <li>allocate a char keyed map (CharObjectMap) with default allocation and
+   * <li>insert 64 different keys
+   * </ul>
+   *
+   * @return the cumulated maps size
    */
-  public final void z3_dummy_proc_to_load_classes() {
-    final StringBuffer[] sba = new StringBuffer[6];
-    final int[] c = new int[6];
-    for (int k = 0; k < MAX_LOOP_4; k++) {
-      if ((k - (200 * (k / 200))) == 199) {
-        System.out.println("  k = " + k);
-      }
-      final HashMap<Object, StringBuffer> hm_def = new HashMap<>();
-      final Hashtable<Object, StringBuffer> ht_def = new Hashtable<>();
-      final HashMap<Object, StringBuffer> hm_101 = new HashMap<>(101);
-      final Hashtable<Object, StringBuffer> ht_101 = new Hashtable<>(128);
-      final HashMap<Object, StringBuffer> hm_1001 = new HashMap<>(1001);
-      final Hashtable<Object, StringBuffer> ht_1001 = new Hashtable<>(1024);
-      for (int i = 0; i < 1; i++) {
-        for (int j = 0; j < 64; j++) {
-          final Object o = objArr64[j];
-          hm_def.put(o, STSB64);
-          ht_def.put(o, STSB64);
-          hm_101.put(o, STSB64);
-          ht_101.put(o, STSB64);
-          hm_1001.put(o, STSB64);
-          ht_1001.put(o, STSB64);
-        }
-      }
-      for (int l = 0; l < 6; l++) {
-        sba[l] = new StringBuffer(128);
-      }
-      for (int i = 0; i < 1; i++) {
-        for (int j = 0; j < 64; j++) {
-          final Object o = Character.valueOf(STSB64.charAt(j));
-          sba[0].append(hm_def.get(o));
-          sba[1].append(ht_def.get(o));
-          sba[2].append(hm_101.get(o));
-          sba[3].append(ht_101.get(o));
-          sba[4].append(hm_1001.get(o));
-          sba[5].append(ht_1001.get(o));
-        }
-      }
-      if (sba[0].toString().equals(sba[2].toString())) {
-        c[0]++;
-      }
-      if (sba[1].toString().equals(sba[3].toString())) {
-        c[1]++;
-      }
-      if (sba[2].toString().equals(sba[4].toString())) {
-        c[2]++;
-      }
-      if (sba[3].toString().equals(sba[5].toString())) {
-        c[3]++;
-      }
-      if (sba[4].toString().equals(sba[0].toString())) {
-        c[4]++;
+  public final int m1_cm_put_1000x1_loc_def() {
+    int l = 0;
+    for (int k = 0; k < 1000; k++) {
+      final CharObjectMap<StringBuffer> m = new CharObjectMap<>();
+      for (int j = 0; j < 64; j++) {
+        m.put(charArr64[j], STSB64);
       }
-      if (sba[5].toString().equals(sba[1].toString())) {
-        c[5]++;
+      l += m.size();
+    }
+    return l;
+  }
+  
+  /**
+   * Loops 1000 times to
+   * <ul>
+   * <li>allocate a char keyed map (CharObjectMap) with tuned allocation - 64 entries, 128 slots - and
+   * <li>insert 64 different keys
+   * </ul>
+   *
+   * @return the cumulated maps size
+   */
+  public final int m2_cm_put_1000x1_loc_tuned() {
+    int l = 0;
+    for (int k = 0; k < 1000; k++) {
+      final CharObjectMap<StringBuffer> m = new CharObjectMap<>(64);
+      for (int j = 0; j < 64; j++) {
+        m.put(charArr64[j], STSB64);
       }
-      hm_def.clear();
-      ht_def.clear();
+      l += m.size();
     }
-    for (int l = 0; l < 6; l++) {
-      System.out.println("  c[" + l + "] = " + c[l]);
+    return l;
+  }
+  
+  /**
+   * Loops 1000 times to
+   * <ul>
+   * <li>allocate a char keyed map (CharObjectMap) with oversized allocation - 512 entries, 1024 slots - and
+   * <li>insert 64 different keys
+   * </ul>
+   *
+   * @return the cumulated maps size
+   */
+  public final int m3_cm_put_1000x1_loc_over() {
+    int l = 0;
+    for (int k = 0; k < 1000; k++) {
+      final CharObjectMap<StringBuffer> m = new CharObjectMap<>(512);
+      for (int j = 0; j < 64; j++) {
+        m.put(charArr64[j], STSB64);
+      }
+      l += m.size();
     }
-    System.out.println("  concat");
-    String s1 = "";
-    String s2 = "";
-    final String l64 = LINE_64;
-    final String l26 = LINE_26;
-    final String l36 = LINE_36;
-    for (int i = 0; i < 20000; i++) {
-      if ((i - (2000 * (i / 2000))) == 1999) {
-        System.out.println("  i = " + i);
+    return l;
+  }
+  
+  /**
+   * Loops 1000 times to
+   * <ul>
+   * <li>allocate a int keyed map (IntObjectMap) with default allocation and
+   * <li>insert 64 different keys
+   * </ul>
+   *
+   * @return the cumulated maps size
+   */
+  public final int m4_im_put_1000x1_loc_def() {
+    int l = 0;
+    for (int k = 0; k < 1000; k++) {
+      final IntObjectMap<StringBuffer> m = new IntObjectMap<>();
+      for (int j = 0; j < 64; j++) {
+        m.put(charArr64[j], STSB64);
       }
-      s1 = s2 = "";
-      s1 = s1.concat(LINE_64).concat(LINE_26).concat(LINE_36);
-      s2 = s2 + l64 + l26 + l36;
+      l += m.size();
     }
-    System.out.println("  s1l = " + s1.length() + ", s2l = " + s2.length());
-    System.out.println("  buffer");
-    StringBuffer sb1 = null;
-    StringBuffer sb2 = null;
-    StringBuffer sb3 = null;
-    StringBuilder sb4 = null;
-    StringBuilder sb5 = null;
-    StringBuilder sb6 = null;
+    return l;
+  }
+  
+  /**
+   * Loops 1000 times to
+   * <ul>
+   * <li>allocate a int keyed map (IntObjectMap) with tuned allocation - 64 entries, 128 slots - and
+   * <li>insert 64 different keys
+   * </ul>
+   *
+   * @return the cumulated maps size
+   */
+  public final int m5_im_put_1000x1_loc_tuned() {
     int l = 0;
-    int m = 0;
-    final byte[][] b1 = new byte[80000][];
-    final byte[][] b2 = new byte[80000][];
-    for (int i = 0; i < 80000; i++) {
-      if ((i - (8000 * (i / 8000))) == 7999) {
-        System.out.println("  i = " + i);
+    for (int k = 0; k < 1000; k++) {
+      final IntObjectMap<StringBuffer> m = new IntObjectMap<>(64);
+      for (int j = 0; j < 64; j++) {
+        m.put(charArr64[j], STSB64);
       }
-      sb1 = new StringBuffer();
-      sb2 = new StringBuffer(128);
-      sb3 = new StringBuffer(LINE_64);
-      sb4 = new StringBuilder();
-      sb5 = new StringBuilder(128);
-      sb6 = new StringBuilder(LINE_64);
-      sb1.append(LINE_64);
-      sb2.append(LINE_26);
-      sb3.append(LINE_36);
-      sb4.append(LINE_64);
-      sb5.append(LINE_26);
-      sb6.append(LINE_36);
-      b1[i] = sb1.toString().getBytes();
-      b2[i] = (new String(sb6)).getBytes();
-      l += sb1.length() + sb2.length() + sb3.length() + b1[i].length;
-      m += sb4.length() + sb5.length() + sb6.length() + b2[i].length;
+      l += m.size();
     }
-    System.out.println("  l = " + l + ", m = " + m);
-    System.out.println("  AnInt");
-    int q = 0;
-    for (int i = 0; i < MAX_LOOP_2; i++) {
-      z2_setAnInt(q + i + 1);
-      q += z1_getAnInt() - 1 - i;
+    return l;
+  }
+  
+  /**
+   * Loops 1000 times to
+   * <ul>
+   * <li>allocate a int keyed map (IntObjectMap) with oversized allocation - 512 entries, 1024 slots - and
+   * <li>insert 64 different keys
+   * </ul>
+   *
+   * @return the cumulated maps size
+   */
+  public final int m6_im_put_1000x1_loc_over() {
+    int l = 0;
+    for (int k = 0; k < 1000; k++) {
+      final IntObjectMap<StringBuffer> m = new IntObjectMap<>(512);
+      for (int j = 0; j < 64; j++) {
+        m.put(charArr64[j], STSB64);
+      }
+      l += m.size();
     }
-    System.out.println("  q = " + q);
+    return l;
   }
   
   /**
-   * Run the garbage collector
+   * Loops 100 times to
+   * <ul>
+   * <li>loop 10 times to retrieve 64 different keys in a global char keyed map (CharObjectMap) with default allocation
+   * </ul>
+   *
+   * @return the cumulated length of the value of the keys
    */
-  public final static void z4_runGC() {
-    System.gc();
+  public final int m7_cm_get_100x10_glob_def() {
+    int l = 0;
+    StringBuffer sb = null;
+    for (int k = 0; k < 100; k++) {
+      for (int i = 0; i < 10; i++) {
+        for (int j = 0; j < 64; j++) {
+          sb = globDefCM.get(charArr64[j]);
+        }
+        l += sb.length();
+      }
+    }
+    return l;
   }
   
-  /* === main - the launcher === */
   /**
-   * @param args the command line parameters
+   * Loops 100 times to
+   * <ul>
+   * <li>loop 10 times to retrieve 64 different keys in a global char keyed map (CharObjectMap) with tuned allocation -
+   * 64 entries, 128 slots -
+   * </ul>
+   *
+   * @return the cumulated length of the value of the keys
    */
-  public final static void main(final String[] args) {
-    final Compare_sc_gs_hh cs = new Compare_sc_gs_hh();
-    final int[] iRes = new int[44];
-    int i = 0;
-    System.out.println("z3_dummy_proc_to_load_classes");
-    cs.z3_dummy_proc_to_load_classes();
-    z4_runGC();
-    System.out.println("a1_concat_str");
-    iRes[i++] = a1_concat_str();
-    z4_runGC();
-    System.out.println("a2_plus_str");
-    iRes[i++] = a2_plus_str();
-    z4_runGC();
-    System.out.println("a3_loc_strbuf_def");
-    iRes[i++] = a3_loc_strbuf_def();
-    z4_runGC();
-    System.out.println("a4_loc_strbuf_tuned");
-    iRes[i++] = a4_loc_strbuf_tuned();
-    z4_runGC();
-    System.out.println("a5_loc_strbui_def");
-    iRes[i++] = a5_loc_strbui_def();
-    z4_runGC();
-    System.out.println("a6_loc_strbui_tuned");
-    iRes[i++] = a6_loc_strbui_tuned();
-    z4_runGC();
-    System.out.println("a7_fld_strbuf_def");
-    iRes[i++] = cs.a7_fld_strbuf_def();
-    z4_runGC();
-    System.out.println("a8_fld_strbuf_tuned");
-    iRes[i++] = cs.a8_fld_strbuf_tuned();
-    z4_runGC();
-    System.out.println("a9_fld_strbui_def");
-    iRes[i++] = cs.a9_fld_strbui_def();
-    z4_runGC();
-    System.out.println("a10_fld_strbui_tuned");
-    iRes[i++] = cs.a10_fld_strbui_tuned();
-    z4_runGC();
-    System.out.println("b1_byte_buf_toString");
-    iRes[i++] = b1_byte_buf_toString();
-    z4_runGC();
-    System.out.println("b2_byte_newString");
-    iRes[i++] = b2_byte_newString();
-    z4_runGC();
-    System.out.println("b3_byte_bui_toString");
-    iRes[i++] = b3_byte_bui_toString();
-    z4_runGC();
-    System.out.println("c1_for_methods");
-    iRes[i++] = c1_for_methods();
-    z4_runGC();
-    System.out.println("c2_for_variables");
-    iRes[i++] = c2_for_variables();
-    z4_runGC();
-    System.out.println("c3_for_static");
-    iRes[i++] = c3_for_static();
-    z4_runGC();
-    System.out.println("d2_access_protected_variable_small");
-    iRes[i++] = cs.d2_access_protected_variable_small();
-    z4_runGC();
-    System.out.println("d1_access_getter_setter_small");
-    iRes[i++] = cs.d1_access_getter_setter_small();
-    z4_runGC();
-    System.out.println("d4_access_protected_variable_big");
-    iRes[i++] = cs.d4_access_protected_variable_big();
-    z4_runGC();
-    System.out.println("d3_access_getter_setter_big");
-    iRes[i++] = cs.d3_access_getter_setter_big();
-    z4_runGC();
-    System.out.println("e1_ht_put_1000x1_loc_def");
-    iRes[i++] = cs.e1_ht_put_1000x1_loc_def();
-    z4_runGC();
-    System.out.println("e2_ht_put_1000x1_loc_tuned");
-    iRes[i++] = cs.e2_ht_put_1000x1_loc_tuned();
-    z4_runGC();
-    System.out.println("e3_ht_put_1000x1_loc_over");
-    iRes[i++] = cs.e3_ht_put_1000x1_loc_over();
-    z4_runGC();
-    System.out.println("f1_ht_put_100x10_loc_def");
-    iRes[i++] = cs.f1_ht_put_100x10_loc_def();
-    z4_runGC();
-    System.out.println("f2_ht_put_100x10_loc_tuned");
-    iRes[i++] = cs.f2_ht_put_100x10_loc_tuned();
-    z4_runGC();
-    System.out.println("f3_ht_put_100x10_loc_over");
-    iRes[i++] = cs.f3_ht_put_100x10_loc_over();
-    z4_runGC();
-    System.out.println("g1_ht_put_100x10_glob_def");
-    iRes[i++] = cs.g1_ht_put_100x10_glob_def();
-    z4_runGC();
-    System.out.println("g2_ht_put_100x10_glob_tuned");
-    iRes[i++] = cs.g2_ht_put_100x10_glob_tuned();
-    z4_runGC();
-    System.out.println("g3_ht_put_100x10_glob_over");
-    iRes[i++] = cs.g3_ht_put_100x10_glob_over();
-    z4_runGC();
-    System.out.println("h1_ht_get_100x10_glob_def");
-    iRes[i++] = cs.h1_ht_get_100x10_glob_def();
-    z4_runGC();
-    System.out.println("h2_ht_get_100x10_glob_tuned");
-    iRes[i++] = cs.h2_ht_get_100x10_glob_tuned();
-    z4_runGC();
-    System.out.println("h3_ht_get_100x10_glob_over");
-    iRes[i++] = cs.h3_ht_get_100x10_glob_over();
-    z4_runGC();
-    System.out.println("i1_hm_put_1000x1_loc_def");
-    iRes[i++] = cs.i1_hm_put_1000x1_loc_def();
-    z4_runGC();
-    System.out.println("i2_hm_put_1000x1_loc_tuned");
-    iRes[i++] = cs.i2_hm_put_1000x1_loc_tuned();
-    z4_runGC();
-    System.out.println("i3_hm_put_1000x1_loc_over");
-    iRes[i++] = cs.i3_hm_put_1000x1_loc_over();
-    z4_runGC();
-    System.out.println("j1_hm_put_100x10_loc_def");
-    iRes[i++] = cs.j1_hm_put_100x10_loc_def();
-    z4_runGC();
-    System.out.println("j2_hm_put_100x10_loc_tuned");
-    iRes[i++] = cs.j2_hm_put_100x10_loc_tuned();
-    z4_runGC();
-    System.out.println("j3_hm_put_100x10_loc_over");
-    iRes[i++] = cs.j3_hm_put_100x10_loc_over();
-    z4_runGC();
-    System.out.println("k1_hm_put_100x10_glob_def");
-    iRes[i++] = cs.k1_hm_put_100x10_glob_def();
-    z4_runGC();
-    System.out.println("k2_hm_put_100x10_glob_tuned");
-    iRes[i++] = cs.k2_hm_put_100x10_glob_tuned();
-    z4_runGC();
-    System.out.println("k3_hm_put_100x10_glob_over");
-    iRes[i++] = cs.k3_hm_put_100x10_glob_over();
-    z4_runGC();
-    System.out.println("l1_hm_get_100x10_glob_def");
-    iRes[i++] = cs.l1_hm_get_100x10_glob_def();
-    z4_runGC();
-    System.out.println("l2_hm_get_100x10_glob_tuned");
-    iRes[i++] = cs.l2_hm_get_100x10_glob_tuned();
-    z4_runGC();
-    System.out.println("l3_hm_get_100x10_glob_over");
-    iRes[i++] = cs.l3_hm_get_100x10_glob_over();
+  public final int m8_cm_get_100x10_glob_tuned() {
+    int l = 0;
+    StringBuffer sb = null;
+    for (int k = 0; k < 100; k++) {
+      for (int i = 0; i < 10; i++) {
+        for (int j = 0; j < 64; j++) {
+          sb = globTunedCM.get(charArr64[j]);
+        }
+        l += sb.length();
+      }
+    }
+    return l;
+  }
+  
+  /**
+   * Loops 100 times to
+   * <ul>
+   * <li>loop 10 times to retrieve 64 different keys in a global char keyed map (CharObjectMap) with oversized
+   * allocation - 512 entries, 1024 slots -
+   * </ul>
+   *
+   * @return the cumulated length of the value of the keys
+   */
+  public final int m9_cm_get_100x10_glob_over() {
+    int l = 0;
+    StringBuffer sb = null;
+    for (int k = 0; k < 100; k++) {
+      for (int i = 0; i < 10; i++) {
+        for (int j = 0; j < 64; j++) {
+          sb = globOverCM.get(charArr64[j]);
+        }
+        l += sb.length();
+      }
+    }
+    return l;
+  }
+  
+  /**
+   * Loops 100 times to
+   * <ul>
+   * <li>loop 10 times to retrieve 64 different keys in a global int keyed map (IntObjectMap) with default allocation
+   * </ul>
+   *
+   * @return the cumulated length of the value of the keys
+   */
+  public final int m10_im_get_100x10_glob_def() {
+    int l = 0;
+    StringBuffer sb = null;
+    for (int k = 0; k < 100; k++) {
+      for (int i = 0; i < 10; i++) {
+        for (int j = 0; j < 64; j++) {
+          sb = globDefIM.get(charArr64[j]);
+        }
+        l += sb.length();
+      }
+    }
+    return l;
+  }
+  
+  /**
+   * Loops 100 times to
+   * <ul>
+   * <li>loop 10 times to retrieve 64 different keys in a global int keyed map (IntObjectMap) with tuned allocation - 64
+   * entries, 128 slots -
+   * </ul>
+   *
+   * @return the cumulated length of the value of the keys
+   */
+  public final int m11_im_get_100x10_glob_tuned() {
+    int l = 0;
+    StringBuffer sb = null;
+    for (int k = 0; k < 100; k++) {
+      for (int i = 0; i < 10; i++) {
+        for (int j = 0; j < 64; j++) {
+          sb = globTunedIM.get(charArr64[j]);
+        }
+        l += sb.length();
+      }
+    }
+    return l;
+  }
+  
+  /**
+   * Loops 100 times to
+   * <ul>
+   * <li>loop 10 times to retrieve 64 different keys in a global int keyed map (IntObjectMap) with oversized allocation
+   * - 512 entries, 1024 slots -
+   * </ul>
+   *
+   * @return the cumulated length of the value of the keys
+   */
+  public final int m12_im_get_100x10_glob_over() {
+    int l = 0;
+    StringBuffer sb = null;
+    for (int k = 0; k < 100; k++) {
+      for (int i = 0; i < 10; i++) {
+        for (int j = 0; j < 64; j++) {
+          sb = globOverIM.get(charArr64[j]);
+        }
+        l += sb.length();
+      }
+    }
+    return l;
+  }
+  
+  /* === shared maps under contention (same as h* / l* and g* / k*, from several threads) === */
+  /**
+   * Loops 100 times to
+   * <ul>
+   * <li>loop 10 times to retrieve 64 different objects in a shared Hashtable
+   * </ul>
+   * (called concurrently by several threads)
+   *
+   * @return the cumulated length of the value of the keys
+   */
+  public final int n1_ht_get_100x10_shared() {
+    int l = 0;
+    StringBuffer sb = null;
+    for (int k = 0; k < 100; k++) {
+      for (int i = 0; i < 10; i++) {
+        for (int j = 0; j < 64; j++) {
+          sb = sharedHT.get(objArr64[j]);
+        }
+        l += sb.length();
+      }
+    }
+    return l;
+  }
+  
+  /**
+   * Loops 100 times to
+   * <ul>
+   * <li>loop 10 times to retrieve 64 different objects in a shared Collections.synchronizedMap(HashMap)
+   * </ul>
+   * (called concurrently by several threads)
+   *
+   * @return the cumulated length of the value of the keys
+   */
+  public final int n2_sm_get_100x10_shared() {
+    int l = 0;
+    StringBuffer sb = null;
+    for (int k = 0; k < 100; k++) {
+      for (int i = 0; i < 10; i++) {
+        for (int j = 0; j < 64; j++) {
+          sb = sharedSM.get(objArr64[j]);
+        }
+        l += sb.length();
+      }
+    }
+    return l;
+  }
+  
+  /**
+   * Loops 100 times to
+   * <ul>
+   * <li>loop 10 times to retrieve 64 different objects in a shared ConcurrentHashMap
+   * </ul>
+   * (called concurrently by several threads)
+   *
+   * @return the cumulated length of the value of the keys
+   */
+  public final int n3_chm_get_100x10_shared() {
+    int l = 0;
+    StringBuffer sb = null;
+    for (int k = 0; k < 100; k++) {
+      for (int i = 0; i < 10; i++) {
+        for (int j = 0; j < 64; j++) {
+          sb = sharedCHM.get(objArr64[j]);
+        }
+        l += sb.length();
+      }
+    }
+    return l;
+  }
+  
+  /**
+   * Loops 100 times to
+   * <ul>
+   * <li>loop 10 times to retrieve 64 different objects in a shared StripedMap (16 HashMaps, each with its own lock)
+   * </ul>
+   * (called concurrently by several threads)
+   *
+   * @return the cumulated length of the value of the keys
+   */
+  public final int n4_stm_get_100x10_shared() {
+    int l = 0;
+    StringBuffer sb = null;
+    for (int k = 0; k < 100; k++) {
+      for (int i = 0; i < 10; i++) {
+        for (int j = 0; j < 64; j++) {
+          sb = sharedSTM.get(objArr64[j]);
+        }
+        l += sb.length();
+      }
+    }
+    return l;
+  }
+  
+  /**
+   * Loops 100 times to
+   * <ul>
+   * <li>loop 10 times to insert (replace) 64 different objects in a shared Hashtable
+   * </ul>
+   * (called concurrently by several threads ; unlike the g* and k* methods, the map is not cleared, so that the
+   * work of a call does not depend on the other threads)
+   *
+   * @return the cumulated maps size
+   */
+  public final int n5_ht_put_100x10_shared() {
+    int l = 0;
+    for (int k = 0; k < 100; k++) {
+      for (int i = 0; i < 10; i++) {
+        for (int j = 0; j < 64; j++) {
+          sharedHT.put(objArr64[j], STSB64);
+        }
+        l += sharedHT.size();
+      }
+    }
+    return l;
+  }
+  
+  /**
+   * Loops 100 times to
+   * <ul>
+   * <li>loop 10 times to insert (replace) 64 different objects in a shared Collections.synchronizedMap(HashMap)
+   * </ul>
+   * (called concurrently by several threads ; unlike the g* and k* methods, the map is not cleared, so that the
+   * work of a call does not depend on the other threads)
+   *
+   * @return the cumulated maps size
+   */
+  public final int n6_sm_put_100x10_shared() {
+    int l = 0;
+    for (int k = 0; k < 100; k++) {
+      for (int i = 0; i < 10; i++) {
+        for (int j = 0; j < 64; j++) {
+          sharedSM.put(objArr64[j], STSB64);
+        }
+        l += sharedSM.size();
+      }
+    }
+    return l;
+  }
+  
+  /**
+   * Loops 100 times to
+   * <ul>
+   * <li>loop 10 times to insert (replace) 64 different objects in a shared ConcurrentHashMap
+   * </ul>
+   * (called concurrently by several threads ; unlike the g* and k* methods, the map is not cleared, so that the
+   * work of a call does not depend on the other threads)
+   *
+   * @return the cumulated maps size
+   */
+  public final int n7_chm_put_100x10_shared() {
+    int l = 0;
+    for (int k = 0; k < 100; k++) {
+      for (int i = 0; i < 10; i++) {
+        for (int j = 0; j < 64; j++) {
+          sharedCHM.put(objArr64[j], STSB64);
+        }
+        l += sharedCHM.size();
+      }
+    }
+    return l;
+  }
+  
+  /**
+   * Loops 100 times to
+   * <ul>
+   * <li>loop 10 times to insert (replace) 64 different objects in a shared StripedMap (16 HashMaps, each with its own
+   * lock)
+   * </ul>
+   * (called concurrently by several threads ; unlike the g* and k* methods, the map is not cleared, so that the
+   * work of a call does not depend on the other threads)
+   *
+   * @return the cumulated maps size
+   */
+  public final int n8_stm_put_100x10_shared() {
+    int l = 0;
+    for (int k = 0; k < 100; k++) {
+      for (int i = 0; i < 10; i++) {
+        for (int j = 0; j < 64; j++) {
+          sharedSTM.put(objArr64[j], STSB64);
+        }
+        l += sharedSTM.size();
+      }
+    }
+    return l;
+  }
+  
+  /*
+   * === string building on virtual threads versus platform threads (pinning of the synchronized StringBuffer) ===
+   */
+  /**
+   * Concatenates strings 64 times through a local StringBuffer (as a3)
+   * (called concurrently by several platform or virtual threads)
+   *
+   * @return the concatenated strings length
+   */
+  public final static int v1_loc_strbuf_64() {
+    int l = 0;
+    final String l26 = LINE_26;
+    for (int i = 0; i < 64; i++) {
+      final StringBuffer sb = new StringBuffer();
+      sb.append(LINE_64).append(l26).append(LINE_36);
+      l += sb.length();
+    }
+    return l;
+  }
+  
+  /**
+   * Concatenates strings 64 times through a local StringBuilder (as a5)
+   * (called concurrently by several platform or virtual threads)
+   *
+   * @return the concatenated strings length
+   */
+  public final static int v2_loc_strbui_64() {
+    int l = 0;
+    final String l26 = LINE_26;
+    for (int i = 0; i < 64; i++) {
+      final StringBuilder sb = new StringBuilder();
+      sb.append(LINE_64).append(l26).append(LINE_36);
+      l += sb.length();
+    }
+    return l;
+  }
+  
+  /**
+   * Uses 64 times java.lang.StringBuffer.toString() to return the String image of a StringBuffer (as b1)
+   * (called concurrently by several platform or virtual threads)
+   *
+   * @return the cumulated length of the byte array image of the string
+   */
+  public final static int v3_byte_buf_64() {
+    int l = 0;
+    final StringBuffer sb = new StringBuffer(LINE_64);
+    for (int i = 0; i < 64; i++) {
+      l += sb.toString().getBytes().length;
+    }
+    return l;
+  }
+  
+  /**
+   * Uses 64 times java.lang.StringBuilder.toString() to return the String image of a StringBuilder (as b3)
+   * (called concurrently by several platform or virtual threads)
+   *
+   * @return the cumulated length of the byte array image of the string
+   */
+  public final static int v4_byte_bui_64() {
+    int l = 0;
+    final StringBuilder sb = new StringBuilder(LINE_64);
+    for (int i = 0; i < 64; i++) {
+      l += sb.toString().getBytes().length;
+    }
+    return l;
+  }
+  
+  /**
+   * Appends to a local StringBuffer a value whose toString() blocks (see {@link SlowValue}): the blocking occurs
+   * within the synchronized append(Object), so a virtual thread cannot unmount and pins its carrier thread (JDK
+   * 21 to 23)
+   *
+   * @return the buffer length
+   */
+  public final static int v5_strbuf_append_blocking() {
+    final StringBuffer sb = new StringBuffer(LINE_64);
+    sb.append(SLOW);
+    return sb.length();
+  }
+  
+  /**
+   * Appends to a local StringBuilder a value whose toString() blocks (see {@link SlowValue}): a virtual thread
+   * unmounts and frees its carrier thread
+   *
+   * @return the builder length
+   */
+  public final static int v6_strbui_append_blocking() {
+    final StringBuilder sb = new StringBuilder(LINE_64);
+    sb.append(SLOW);
+    return sb.length();
+  }
+  
+  /**
+   * A value whose string image takes 1 ms to compute, as if read from a slow resource.
+   */
+  private static final class SlowValue {
+    
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+      try {
+        Thread.sleep(1);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return LINE_26;
+    }
+  }
+  
+  /*
+   * === shared buffers under contention (as a7 / a9, the buffers being shared by several threads) ===
+   */
+  /**
+   * Concatenates strings 64 times into a shared StringBuffer (each append and length taking its monitor)
+   * (called concurrently by several threads)
+   *
+   * @return the cumulated buffer lengths
+   */
+  public final int w1_fld_strbuf_shared() {
+    int l = 0;
+    final String l26 = LINE_26;
+    for (int i = 0; i < 64; i++) {
+      sharedSbuf.append(LINE_64).append(l26).append(LINE_36);
+      l += sharedSbuf.length();
+    }
+    // unsynchronized check: at worst, several threads reset the buffer
+    if (sharedSbuf.length() > SHARED_MAX) {
+      sharedSbuf.setLength(0);
+    }
+    return l;
+  }
+  
+  /**
+   * Concatenates strings 64 times into a shared StringBuffer, taking its monitor once per concatenation (the
+   * nested acquisitions being recursive)
+   * (called concurrently by several threads)
+   *
+   * @return the cumulated buffer lengths
+   */
+  public final int w2_fld_strbuf_shared_sync() {
+    int l = 0;
+    final String l26 = LINE_26;
+    for (int i = 0; i < 64; i++) {
+      synchronized (sharedSbuf) {
+        sharedSbuf.append(LINE_64).append(l26).append(LINE_36);
+        l += sharedSbuf.length();
+      }
+    }
+    synchronized (sharedSbuf) {
+      if (sharedSbuf.length() > SHARED_MAX) {
+        sharedSbuf.setLength(0);
+      }
+    }
+    return l;
+  }
+  
+  /**
+   * Concatenates strings 64 times into a shared StringBuilder guarded by its monitor
+   * (called concurrently by several threads)
+   *
+   * @return the cumulated builder lengths
+   */
+  public final int w3_fld_strbui_shared_sync() {
+    int l = 0;
+    final String l26 = LINE_26;
+    for (int i = 0; i < 64; i++) {
+      synchronized (sharedSbui) {
+        sharedSbui.append(LINE_64).append(l26).append(LINE_36);
+        l += sharedSbui.length();
+      }
+    }
+    synchronized (sharedSbui) {
+      if (sharedSbui.length() > SHARED_MAX) {
+        sharedSbui.setLength(0);
+      }
+    }
+    return l;
+  }
+  
+  /**
+   * Concatenates strings 64 times into a shared StringBuilder guarded by a ReentrantLock
+   * (called concurrently by several threads)
+   *
+   * @return the cumulated builder lengths
+   */
+  public final int w4_fld_strbui_shared_lock() {
+    int l = 0;
+    final String l26 = LINE_26;
+    for (int i = 0; i < 64; i++) {
+      sharedLock.lock();
+      try {
+        lockedSbui.append(LINE_64).append(l26).append(LINE_36);
+        l += lockedSbui.length();
+      } finally {
+        sharedLock.unlock();
+      }
+    }
+    sharedLock.lock();
+    try {
+      if (lockedSbui.length() > SHARED_MAX) {
+        lockedSbui.setLength(0);
+      }
+    } finally {
+      sharedLock.unlock();
+    }
+    return l;
+  }
+  
+  /*
+   * === string concatenation operands (as a2, with more operands and mixed types, for the concatenation strategies
+   * of the matrix variants) ===
+   */
+  /**
+   * Concatenates 2 strings through the + operator
+   *
+   * @return the concatenated strings length
+   */
+  public final static int p1_plus_2_str() {
+    int l = 0;
+    // not final, as final locals initialized with constants would be constants, and the concatenation folded
+    String l26 = LINE_26;
+    String l36 = LINE_36;
+    for (int i = 0; i < MAX_LOOP_2; i++) {
+      final String s = l26 + l36;
+      l += s.length();
+    }
+    return l;
+  }
+  
+  /**
+   * Concatenates 5 strings (2 of them constants) through the + operator
+   *
+   * @return the concatenated strings length
+   */
+  public final static int p2_plus_5_str() {
+    int l = 0;
+    // not final, see p1
+    String l26 = LINE_26;
+    String l36 = LINE_36;
+    for (int i = 0; i < MAX_LOOP_2; i++) {
+      final String s = l26 + LINE_64 + l36 + l26 + LINE_64;
+      l += s.length();
+    }
+    return l;
+  }
+  
+  /**
+   * Concatenates a constant, an int and a constant through the + operator (as an identifier)
+   *
+   * @return the concatenated strings length
+   */
+  public final static int p3_plus_str_int() {
+    int l = 0;
+    for (int i = 0; i < MAX_LOOP_2; i++) {
+      final String s = "id=" + i + ";";
+      l += s.length();
+    }
+    return l;
+  }
+  
+  /**
+   * Concatenates a string, a char, a constant char and a long through the + operator
+   *
+   * @return the concatenated strings length
+   */
+  public final static int p4_plus_str_char_long() {
+    int l = 0;
+    // not final, see p1
+    String l26 = LINE_26;
+    for (int i = 0; i < MAX_LOOP_2; i++) {
+      final char c = (char) ('a' + (i & 15));
+      final long lg = i * 1000003L;
+      final String s = l26 + c + ':' + lg;
+      l += s.length();
+    }
+    return l;
+  }
+  
+  /**
+   * Concatenates 9 operands of mixed types (String, int, char, long, boolean) through the + operator (as a
+   * log message)
+   *
+   * @return the concatenated strings length
+   */
+  public final static int p5_plus_mixed_9() {
+    int l = 0;
+    // not final, see p1
+    String l26 = LINE_26;
+    String l36 = LINE_36;
+    for (int i = 0; i < MAX_LOOP_2; i++) {
+      final char c = (char) ('a' + (i & 15));
+      final long lg = i * 1000003L;
+      final boolean b = (i & 1) == 0;
+      final String s = l26 + i + ',' + lg + ';' + c + l36 + b + '/';
+      l += s.length();
+    }
+    return l;
+  }
+  
+  /**
+   * Concatenates the 9 operands of p5 through a local StringBuilder with default initial allocation
+   *
+   * @return the concatenated strings length
+   */
+  public final static int p6_sbui_mixed_9() {
+    int l = 0;
+    // not final, see p1
+    String l26 = LINE_26;
+    String l36 = LINE_36;
+    for (int i = 0; i < MAX_LOOP_2; i++) {
+      final char c = (char) ('a' + (i & 15));
+      final long lg = i * 1000003L;
+      final boolean b = (i & 1) == 0;
+      final String s = new StringBuilder().append(l26).append(i).append(',').append(lg).append(';').append(c)
+          .append(l36).append(b).append('/').toString();
+      l += s.length();
+    }
+    return l;
+  }
+  
+  /**
+   * Prints, for each map kind and allocation, the number of bytes allocated to build a map of 64 entries, per
+   * entry (the objects keys being preallocated, and the tables discarded by the resizes being counted).
+   */
+  public final void z5_print_memory_per_entry() {
+    System.out.println("z5_print_memory_per_entry");
+    if (!Allocations.supported()) {
+      System.out.println("  allocated bytes not available on this JVM");
+      return;
+    }
+    // called once, so interpreted: the maps allocations cannot be eliminated
+    final long[] bytes = new long[12];
+    for (int n = 0; n < 12; n++) {
+      final long b = Allocations.current();
+      newFilledMap(n);
+      bytes[n] = Allocations.since(b);
+    }
+    final String[] names = {
+        "Hashtable def", "Hashtable tuned", "Hashtable over", "HashMap def", "HashMap tuned", "HashMap over",
+        "CharObjectMap def", "CharObjectMap tuned", "CharObjectMap over", "IntObjectMap def", "IntObjectMap tuned",
+        "IntObjectMap over"
+    };
+    for (int n = 0; n < 12; n++) {
+      System.out.println("  " + names[n] + " : " + (bytes[n] / 64.0) + " B/entry");
+    }
+  }
+  
+  /**
+   * @param aKind the map kind (Hashtable, HashMap, CharObjectMap, IntObjectMap) * 3 + the allocation (default,
+   *          tuned, oversized)
+   * @return a new map filled with the 64 keys
+   */
+  private Object newFilledMap(final int aKind) {
+    switch (aKind) {
+      case 0:
+      case 1:
+      case 2:
+        final Hashtable<Object, StringBuffer> ht = aKind == 0 ? new Hashtable<Object, StringBuffer>()
+            : new Hashtable<Object, StringBuffer>(aKind == 1 ? 101 : 1001);
+        for (int j = 0; j < 64; j++) {
+          ht.put(objArr64[j], STSB64);
+        }
+        return ht;
+      case 3:
+      case 4:
+      case 5:
+        final HashMap<Object, StringBuffer> hm = aKind == 3 ? new HashMap<Object, StringBuffer>()
+            : new HashMap<Object, StringBuffer>(aKind == 4 ? 128 : 1024);
+        for (int j = 0; j < 64; j++) {
+          hm.put(objArr64[j], STSB64);
+        }
+        return hm;
+      case 6:
+      case 7:
+      case 8:
+        final CharObjectMap<StringBuffer> cm = aKind == 6 ? new CharObjectMap<StringBuffer>()
+            : new CharObjectMap<StringBuffer>(aKind == 7 ? 64 : 512);
+        for (int j = 0; j < 64; j++) {
+          cm.put(charArr64[j], STSB64);
+        }
+        return cm;
+      default:
+        final IntObjectMap<StringBuffer> im = aKind == 9 ? new IntObjectMap<StringBuffer>()
+            : new IntObjectMap<StringBuffer>(aKind == 10 ? 64 : 512);
+        for (int j = 0; j < 64; j++) {
+          im.put(charArr64[j], STSB64);
+        }
+        return im;
+    }
+  }
+  
+  /* === dummy processing to load and just in time compile classes === */
+  /**
+   * Loads classes used above
+   */
+  public final void z3_dummy_proc_to_load_classes() {
+    final StringBuffer[] sba = new StringBuffer[6];
+    final int[] c = new int[6];
+    for (int k = 0; k < MAX_LOOP_4; k++) {
+      if ((k - (200 * (k / 200))) == 199) {
+        System.out.println("  k = " + k);
+      }
+      final HashMap<Object, StringBuffer> hm_def = new HashMap<>();
+      final Hashtable<Object, StringBuffer> ht_def = new Hashtable<>();
+      final HashMap<Object, StringBuffer> hm_101 = new HashMap<>(101);
+      final Hashtable<Object, StringBuffer> ht_101 = new Hashtable<>(128);
+      final HashMap<Object, StringBuffer> hm_1001 = new HashMap<>(1001);
+      final Hashtable<Object, StringBuffer> ht_1001 = new Hashtable<>(1024);
+      for (int i = 0; i < 1; i++) {
+        for (int j = 0; j < 64; j++) {
+          final Object o = objArr64[j];
+          hm_def.put(o, STSB64);
+          ht_def.put(o, STSB64);
+          hm_101.put(o, STSB64);
+          ht_101.put(o, STSB64);
+          hm_1001.put(o, STSB64);
+          ht_1001.put(o, STSB64);
+        }
+      }
+      for (int l = 0; l < 6; l++) {
+        sba[l] = new StringBuffer(128);
+      }
+      for (int i = 0; i < 1; i++) {
+        for (int j = 0; j < 64; j++) {
+          final Object o = Character.valueOf(STSB64.charAt(j));
+          sba[0].append(hm_def.get(o));
+          sba[1].append(ht_def.get(o));
+          sba[2].append(hm_101.get(o));
+          sba[3].append(ht_101.get(o));
+          sba[4].append(hm_1001.get(o));
+          sba[5].append(ht_1001.get(o));
+        }
+      }
+      if (sba[0].toString().equals(sba[2].toString())) {
+        c[0]++;
+      }
+      if (sba[1].toString().equals(sba[3].toString())) {
+        c[1]++;
+      }
+      if (sba[2].toString().equals(sba[4].toString())) {
+        c[2]++;
+      }
+      if (sba[3].toString().equals(sba[5].toString())) {
+        c[3]++;
+      }
+      if (sba[4].toString().equals(sba[0].toString())) {
+        c[4]++;
+      }
+      if (sba[5].toString().equals(sba[1].toString())) {
+        c[5]++;
+      }
+      hm_def.clear();
+      ht_def.clear();
+    }
+    for (int l = 0; l < 6; l++) {
+      System.out.println("  c[" + l + "] = " + c[l]);
+    }
+    System.out.println("  primitive keyed maps");
+    int pm = 0;
+    for (int k = 0; k < MAX_LOOP_4; k++) {
+      final CharObjectMap<StringBuffer> cm = new CharObjectMap<>();
+      final IntObjectMap<StringBuffer> im = new IntObjectMap<>();
+      for (int j = 0; j < 64; j++) {
+        cm.put(charArr64[j], STSB64);
+        im.put(charArr64[j], STSB64);
+      }
+      for (int j = 0; j < 64; j++) {
+        pm += cm.get(charArr64[j]).length() - im.get(charArr64[j]).length();
+      }
+    }
+    System.out.println("  pm = " + pm);
+    System.out.println("  shared maps");
+    int sm = 0;
+    for (int k = 0; k < MAX_LOOP_4; k++) {
+      for (int j = 0; j < 64; j++) {
+        final Object o = objArr64[j];
+        sharedHT.put(o, STSB64);
+        sharedSM.put(o, STSB64);
+        sharedCHM.put(o, STSB64);
+        sharedSTM.put(o, STSB64);
+        sm += sharedHT.get(o).length() + sharedSM.get(o).length() - sharedCHM.get(o).length()
+            - sharedSTM.get(o).length();
+      }
+    }
+    System.out.println("  sm = " + sm);
+    System.out.println("  concat");
+    String s1 = "";
+    String s2 = "";
+    final String l64 = LINE_64;
+    final String l26 = LINE_26;
+    final String l36 = LINE_36;
+    for (int i = 0; i < 20000; i++) {
+      if ((i - (2000 * (i / 2000))) == 1999) {
+        System.out.println("  i = " + i);
+      }
+      s1 = s2 = "";
+      s1 = s1.concat(LINE_64).concat(LINE_26).concat(LINE_36);
+      s2 = s2 + l64 + l26 + l36;
+    }
+    System.out.println("  s1l = " + s1.length() + ", s2l = " + s2.length());
+    System.out.println("  buffer");
+    StringBuffer sb1 = null;
+    StringBuffer sb2 = null;
+    StringBuffer sb3 = null;
+    StringBuilder sb4 = null;
+    StringBuilder sb5 = null;
+    StringBuilder sb6 = null;
+    int l = 0;
+    int m = 0;
+    final byte[][] b1 = new byte[80000][];
+    final byte[][] b2 = new byte[80000][];
+    for (int i = 0; i < 80000; i++) {
+      if ((i - (8000 * (i / 8000))) == 7999) {
+        System.out.println("  i = " + i);
+      }
+      sb1 = new StringBuffer();
+      sb2 = new StringBuffer(128);
+      sb3 = new StringBuffer(LINE_64);
+      sb4 = new StringBuilder();
+      sb5 = new StringBuilder(128);
+      sb6 = new StringBuilder(LINE_64);
+      sb1.append(LINE_64);
+      sb2.append(LINE_26);
+      sb3.append(LINE_36);
+      sb4.append(LINE_64);
+      sb5.append(LINE_26);
+      sb6.append(LINE_36);
+      b1[i] = sb1.toString().getBytes();
+      b2[i] = (new String(sb6)).getBytes();
+      l += sb1.length() + sb2.length() + sb3.length() + b1[i].length;
+      m += sb4.length() + sb5.length() + sb6.length() + b2[i].length;
+    }
+    System.out.println("  l = " + l + ", m = " + m);
+    System.out.println("  AnInt");
+    int q = 0;
+    for (int i = 0; i < MAX_LOOP_2; i++) {
+      z2_setAnInt(q + i + 1);
+      q += z1_getAnInt() - 1 - i;
+    }
+    System.out.println("  q = " + q);
+  }
+  
+  /**
+   * Run the garbage collector
+   */
+  public final static void z4_runGC() {
+    System.gc();
+  }
+  
+  /* === main - the launcher === */
+  /**
+   * Runs the z3 method, then measures each method with the bench core runner (see {@link Runner} for its
+   * system properties, e.g. -Dbench.groups=a,b to run only some groups).
+   *
+   * @param args the command line parameters
+   */
+  public final static void main(final String[] args) {
+    final Compare_sc_gs_hh cs = new Compare_sc_gs_hh();
+    final Runner r = new Runner("Compare_sc_gs_hh");
+    System.out.println("z3_dummy_proc_to_load_classes");
+    cs.z3_dummy_proc_to_load_classes();
     z4_runGC();
-    final int lim1 = iRes.length - 1;
-    System.out.print("iRes[0-" + lim1 + "] = ");
-    for (int j = 0; j < lim1; j++) {
-      System.out.print(iRes[j] + ", ");
+    r.run("a", "a1_concat_str", MAX_LOOP_2, new Workload() {
+      @Override
+      public long run() {
+        return a1_concat_str();
+      }
+    });
+    r.run("a", "a2_plus_str", MAX_LOOP_2, new Workload() {
+      @Override
+      public long run() {
+        return a2_plus_str();
+      }
+    });
+    r.run("a", "a3_loc_strbuf_def", MAX_LOOP_2, new Workload() {
+      @Override
+      public long run() {
+        return a3_loc_strbuf_def();
+      }
+    });
+    r.run("a", "a4_loc_strbuf_tuned", MAX_LOOP_2, new Workload() {
+      @Override
+      public long run() {
+        return a4_loc_strbuf_tuned();
+      }
+    });
+    r.run("a", "a5_loc_strbui_def", MAX_LOOP_2, new Workload() {
+      @Override
+      public long run() {
+        return a5_loc_strbui_def();
+      }
+    });
+    r.run("a", "a6_loc_strbui_tuned", MAX_LOOP_2, new Workload() {
+      @Override
+      public long run() {
+        return a6_loc_strbui_tuned();
+      }
+    });
+    r.run("a", "a7_fld_strbuf_def", MAX_LOOP_2, new Workload() {
+      @Override
+      public long run() {
+        return cs.a7_fld_strbuf_def();
+      }
+    });
+    r.run("a", "a8_fld_strbuf_tuned", MAX_LOOP_2, new Workload() {
+      @Override
+      public long run() {
+        return cs.a8_fld_strbuf_tuned();
+      }
+    });
+    r.run("a", "a9_fld_strbui_def", MAX_LOOP_2, new Workload() {
+      @Override
+      public long run() {
+        return cs.a9_fld_strbui_def();
+      }
+    });
+    r.run("a", "a10_fld_strbui_tuned", MAX_LOOP_2, new Workload() {
+      @Override
+      public long run() {
+        return cs.a10_fld_strbui_tuned();
+      }
+    });
+    r.run("b", "b1_byte_buf_toString", MAX_LOOP_3, new Workload() {
+      @Override
+      public long run() {
+        return b1_byte_buf_toString();
+      }
+    });
+    r.run("b", "b2_byte_newString", MAX_LOOP_3, new Workload() {
+      @Override
+      public long run() {
+        return b2_byte_newString();
+      }
+    });
+    r.run("b", "b3_byte_bui_toString", MAX_LOOP_3, new Workload() {
+      @Override
+      public long run() {
+        return b3_byte_bui_toString();
+      }
+    });
+    r.run("c", "c1_for_methods", MAX_LOOP_3, new Workload() {
+      @Override
+      public long run() {
+        return c1_for_methods();
+      }
+    });
+    r.run("c", "c2_for_variables", MAX_LOOP_3, new Workload() {
+      @Override
+      public long run() {
+        return c2_for_variables();
+      }
+    });
+    r.run("c", "c3_for_static", MAX_LOOP_3, new Workload() {
+      @Override
+      public long run() {
+        return c3_for_static();
+      }
+    });
+    r.run("c", "c4_scan_chars", MAX_LOOP_3, new Workload() {
+      @Override
+      public long run() {
+        return c4_scan_chars();
+      }
+    });
+    r.run("c", "c5_scan_bytes", MAX_LOOP_3, new Workload() {
+      @Override
+      public long run() {
+        return c5_scan_bytes();
+      }
+    });
+    r.run("c", "c6_scan_bytes_branch_free", MAX_LOOP_3, new Workload() {
+      @Override
+      public long run() {
+        return c6_scan_bytes_branch_free();
+      }
+    });
+    r.run("c", "c7_scan_bytes_swar", MAX_LOOP_3, new Workload() {
+      @Override
+      public long run() {
+        return c7_scan_bytes_swar();
+      }
+    });
+    r.run("d", "d2_access_protected_variable_small", MAX_LOOP_3, new Workload() {
+      @Override
+      public long run() {
+        return cs.d2_access_protected_variable_small();
+      }
+    });
+    r.run("d", "d1_access_getter_setter_small", MAX_LOOP_3, new Workload() {
+      @Override
+      public long run() {
+        return cs.d1_access_getter_setter_small();
+      }
+    });
+    r.run("d", "d4_access_protected_variable_big", MAX_LOOP_1, new Workload() {
+      @Override
+      public long run() {
+        return cs.d4_access_protected_variable_big();
+      }
+    });
+    r.run("d", "d3_access_getter_setter_big", MAX_LOOP_1, new Workload() {
+      @Override
+      public long run() {
+        return cs.d3_access_getter_setter_big();
+      }
+    });
+    r.run("e", "e1_ht_put_1000x1_loc_def", 1000, new Workload() {
+      @Override
+      public long run() {
+        return cs.e1_ht_put_1000x1_loc_def();
+      }
+    });
+    r.run("e", "e2_ht_put_1000x1_loc_tuned", 1000, new Workload() {
+      @Override
+      public long run() {
+        return cs.e2_ht_put_1000x1_loc_tuned();
+      }
+    });
+    r.run("e", "e3_ht_put_1000x1_loc_over", 1000, new Workload() {
+      @Override
+      public long run() {
+        return cs.e3_ht_put_1000x1_loc_over();
+      }
+    });
+    r.run("f", "f1_ht_put_100x10_loc_def", 100, new Workload() {
+      @Override
+      public long run() {
+        return cs.f1_ht_put_100x10_loc_def();
+      }
+    });
+    r.run("f", "f2_ht_put_100x10_loc_tuned", 100, new Workload() {
+      @Override
+      public long run() {
+        return cs.f2_ht_put_100x10_loc_tuned();
+      }
+    });
+    r.run("f", "f3_ht_put_100x10_loc_over", 100, new Workload() {
+      @Override
+      public long run() {
+        return cs.f3_ht_put_100x10_loc_over();
+      }
+    });
+    r.run("g", "g1_ht_put_100x10_glob_def", 100, new Workload() {
+      @Override
+      public long run() {
+        return cs.g1_ht_put_100x10_glob_def();
+      }
+    });
+    r.run("g", "g2_ht_put_100x10_glob_tuned", 100, new Workload() {
+      @Override
+      public long run() {
+        return cs.g2_ht_put_100x10_glob_tuned();
+      }
+    });
+    r.run("g", "g3_ht_put_100x10_glob_over", 100, new Workload() {
+      @Override
+      public long run() {
+        return cs.g3_ht_put_100x10_glob_over();
+      }
+    });
+    r.run("h", "h1_ht_get_100x10_glob_def", 100, new Workload() {
+      @Override
+      public long run() {
+        return cs.h1_ht_get_100x10_glob_def();
+      }
+    });
+    r.run("h", "h2_ht_get_100x10_glob_tuned", 100, new Workload() {
+      @Override
+      public long run() {
+        return cs.h2_ht_get_100x10_glob_tuned();
+      }
+    });
+    r.run("h", "h3_ht_get_100x10_glob_over", 100, new Workload() {
+      @Override
+      public long run() {
+        return cs.h3_ht_get_100x10_glob_over();
+      }
+    });
+    r.run("i", "i1_hm_put_1000x1_loc_def", 1000, new Workload() {
+      @Override
+      public long run() {
+        return cs.i1_hm_put_1000x1_loc_def();
+      }
+    });
+    r.run("i", "i2_hm_put_1000x1_loc_tuned", 1000, new Workload() {
+      @Override
+      public long run() {
+        return cs.i2_hm_put_1000x1_loc_tuned();
+      }
+    });
+    r.run("i", "i3_hm_put_1000x1_loc_over", 1000, new Workload() {
+      @Override
+      public long run() {
+        return cs.i3_hm_put_1000x1_loc_over();
+      }
+    });
+    r.run("j", "j1_hm_put_100x10_loc_def", 100, new Workload() {
+      @Override
+      public long run() {
+        return cs.j1_hm_put_100x10_loc_def();
+      }
+    });
+    r.run("j", "j2_hm_put_100x10_loc_tuned", 100, new Workload() {
+      @Override
+      public long run() {
+        return cs.j2_hm_put_100x10_loc_tuned();
+      }
+    });
+    r.run("j", "j3_hm_put_100x10_loc_over", 100, new Workload() {
+      @Override
+      public long run() {
+        return cs.j3_hm_put_100x10_loc_over();
+      }
+    });
+    r.run("k", "k1_hm_put_100x10_glob_def", 100, new Workload() {
+      @Override
+      public long run() {
+        return cs.k1_hm_put_100x10_glob_def();
+      }
+    });
+    r.run("k", "k2_hm_put_100x10_glob_tuned", 100, new Workload() {
+      @Override
+      public long run() {
+        return cs.k2_hm_put_100x10_glob_tuned();
+      }
+    });
+    r.run("k", "k3_hm_put_100x10_glob_over", 100, new Workload() {
+      @Override
+      public long run() {
+        return cs.k3_hm_put_100x10_glob_over();
+      }
+    });
+    r.run("l", "l1_hm_get_100x10_glob_def", 100, new Workload() {
+      @Override
+      public long run() {
+        return cs.l1_hm_get_100x10_glob_def();
+      }
+    });
+    r.run("l", "l2_hm_get_100x10_glob_tuned", 100, new Workload() {
+      @Override
+      public long run() {
+        return cs.l2_hm_get_100x10_glob_tuned();
+      }
+    });
+    r.run("l", "l3_hm_get_100x10_glob_over", 100, new Workload() {
+      @Override
+      public long run() {
+        return cs.l3_hm_get_100x10_glob_over();
+      }
+    });
+    if (r.accepts("m")) {
+      cs.z5_print_memory_per_entry();
+    }
+    r.run("m", "m1_cm_put_1000x1_loc_def", 1000, new Workload() {
+      @Override
+      public long run() {
+        return cs.m1_cm_put_1000x1_loc_def();
+      }
+    });
+    r.run("m", "m2_cm_put_1000x1_loc_tuned", 1000, new Workload() {
+      @Override
+      public long run() {
+        return cs.m2_cm_put_1000x1_loc_tuned();
+      }
+    });
+    r.run("m", "m3_cm_put_1000x1_loc_over", 1000, new Workload() {
+      @Override
+      public long run() {
+        return cs.m3_cm_put_1000x1_loc_over();
+      }
+    });
+    r.run("m", "m4_im_put_1000x1_loc_def", 1000, new Workload() {
+      @Override
+      public long run() {
+        return cs.m4_im_put_1000x1_loc_def();
+      }
+    });
+    r.run("m", "m5_im_put_1000x1_loc_tuned", 1000, new Workload() {
+      @Override
+      public long run() {
+        return cs.m5_im_put_1000x1_loc_tuned();
+      }
+    });
+    r.run("m", "m6_im_put_1000x1_loc_over", 1000, new Workload() {
+      @Override
+      public long run() {
+        return cs.m6_im_put_1000x1_loc_over();
+      }
+    });
+    r.run("m", "m7_cm_get_100x10_glob_def", 100, new Workload() {
+      @Override
+      public long run() {
+        return cs.m7_cm_get_100x10_glob_def();
+      }
+    });
+    r.run("m", "m8_cm_get_100x10_glob_tuned", 100, new Workload() {
+      @Override
+      public long run() {
+        return cs.m8_cm_get_100x10_glob_tuned();
+      }
+    });
+    r.run("m", "m9_cm_get_100x10_glob_over", 100, new Workload() {
+      @Override
+      public long run() {
+        return cs.m9_cm_get_100x10_glob_over();
+      }
+    });
+    r.run("m", "m10_im_get_100x10_glob_def", 100, new Workload() {
+      @Override
+      public long run() {
+        return cs.m10_im_get_100x10_glob_def();
+      }
+    });
+    r.run("m", "m11_im_get_100x10_glob_tuned", 100, new Workload() {
+      @Override
+      public long run() {
+        return cs.m11_im_get_100x10_glob_tuned();
+      }
+    });
+    r.run("m", "m12_im_get_100x10_glob_over", 100, new Workload() {
+      @Override
+      public long run() {
+        return cs.m12_im_get_100x10_glob_over();
+      }
+    });
+    final List<Result> scaling = new ArrayList<>();
+    for (final int t : r.threads()) {
+      scaling.add(r.runThreads("n", "n1_ht_get_100x10_shared", 100, t, new Workload() {
+        @Override
+        public long run() {
+          return cs.n1_ht_get_100x10_shared();
+        }
+      }));
+    }
+    for (final int t : r.threads()) {
+      scaling.add(r.runThreads("n", "n2_sm_get_100x10_shared", 100, t, new Workload() {
+        @Override
+        public long run() {
+          return cs.n2_sm_get_100x10_shared();
+        }
+      }));
+    }
+    for (final int t : r.threads()) {
+      scaling.add(r.runThreads("n", "n3_chm_get_100x10_shared", 100, t, new Workload() {
+        @Override
+        public long run() {
+          return cs.n3_chm_get_100x10_shared();
+        }
+      }));
+    }
+    for (final int t : r.threads()) {
+      scaling.add(r.runThreads("n", "n4_stm_get_100x10_shared", 100, t, new Workload() {
+        @Override
+        public long run() {
+          return cs.n4_stm_get_100x10_shared();
+        }
+      }));
+    }
+    for (final int t : r.threads()) {
+      scaling.add(r.runThreads("n", "n5_ht_put_100x10_shared", 100, t, new Workload() {
+        @Override
+        public long run() {
+          return cs.n5_ht_put_100x10_shared();
+        }
+      }));
+    }
+    for (final int t : r.threads()) {
+      scaling.add(r.runThreads("n", "n6_sm_put_100x10_shared", 100, t, new Workload() {
+        @Override
+        public long run() {
+          return cs.n6_sm_put_100x10_shared();
+        }
+      }));
+    }
+    for (final int t : r.threads()) {
+      scaling.add(r.runThreads("n", "n7_chm_put_100x10_shared", 100, t, new Workload() {
+        @Override
+        public long run() {
+          return cs.n7_chm_put_100x10_shared();
+        }
+      }));
+    }
+    for (final int t : r.threads()) {
+      scaling.add(r.runThreads("n", "n8_stm_put_100x10_shared", 100, t, new Workload() {
+        @Override
+        public long run() {
+          return cs.n8_stm_put_100x10_shared();
+        }
+      }));
+    }
+    Runner.printScaling(scaling);
+    final Workload[] vWls = {
+        new Workload() {
+          @Override
+          public long run() {
+            return v1_loc_strbuf_64();
+          }
+        }, new Workload() {
+          @Override
+          public long run() {
+            return v2_loc_strbui_64();
+          }
+        }, new Workload() {
+          @Override
+          public long run() {
+            return v3_byte_buf_64();
+          }
+        }, new Workload() {
+          @Override
+          public long run() {
+            return v4_byte_bui_64();
+          }
+        }, new Workload() {
+          @Override
+          public long run() {
+            return v5_strbuf_append_blocking();
+          }
+        }, new Workload() {
+          @Override
+          public long run() {
+            return v6_strbui_append_blocking();
+          }
+        }
+    };
+    final String[] vNames = {
+        "v1_loc_strbuf_64", "v2_loc_strbui_64", "v3_byte_buf_64", "v4_byte_bui_64", "v5_strbuf_append_blocking",
+        "v6_strbui_append_blocking"
+    };
+    final long[] vOps = {
+        64, 64, 64, 64, 1, 1
+    };
+    if (r.accepts("v")) {
+      final List<Result> vScaling = new ArrayList<>();
+      if (!VirtualThreads.supported()) {
+        System.out.println("virtual threads not available, platform threads only");
+      }
+      for (int k = 0; k < vWls.length; k++) {
+        for (final int t : r.threads()) {
+          vScaling.add(r.runThreads("v", vNames[k], vOps[k], t, vWls[k]));
+        }
+        if (VirtualThreads.supported()) {
+          for (final int t : r.virtualThreads()) {
+            vScaling.add(r.runThreads("v", vNames[k] + "_virtual", vOps[k], t, true, vWls[k]));
+          }
+        }
+      }
+      Runner.printScaling(vScaling);
+    }
+    final Workload[] wWls = {
+        new Workload() {
+          @Override
+          public long run() {
+            return cs.w1_fld_strbuf_shared();
+          }
+        }, new Workload() {
+          @Override
+          public long run() {
+            return cs.w2_fld_strbuf_shared_sync();
+          }
+        }, new Workload() {
+          @Override
+          public long run() {
+            return cs.w3_fld_strbui_shared_sync();
+          }
+        }, new Workload() {
+          @Override
+          public long run() {
+            return cs.w4_fld_strbui_shared_lock();
+          }
+        }
+    };
+    final String[] wNames = {
+        "w1_fld_strbuf_shared", "w2_fld_strbuf_shared_sync", "w3_fld_strbui_shared_sync",
+        "w4_fld_strbui_shared_lock"
+    };
+    final List<Result> wScaling = new ArrayList<>();
+    for (int k = 0; k < wWls.length; k++) {
+      for (final int t : r.threads()) {
+        wScaling.add(r.runThreads("w", wNames[k], 64, t, wWls[k]));
+      }
+    }
+    Runner.printScaling(wScaling);
+    r.run("p", "p1_plus_2_str", MAX_LOOP_2, new Workload() {
+      @Override
+      public long run() {
+        return p1_plus_2_str();
+      }
+    });
+    r.run("p", "p2_plus_5_str", MAX_LOOP_2, new Workload() {
+      @Override
+      public long run() {
+        return p2_plus_5_str();
+      }
+    });
+    r.run("p", "p3_plus_str_int", MAX_LOOP_2, new Workload() {
+      @Override
+      public long run() {
+        return p3_plus_str_int();
+      }
+    });
+    r.run("p", "p4_plus_str_char_long", MAX_LOOP_2, new Workload() {
+      @Override
+      public long run() {
+        return p4_plus_str_char_long();
+      }
+    });
+    r.run("p", "p5_plus_mixed_9", MAX_LOOP_2, new Workload() {
+      @Override
+      public long run() {
+        return p5_plus_mixed_9();
+      }
+    });
+    r.run("p", "p6_sbui_mixed_9", MAX_LOOP_2, new Workload() {
+      @Override
+      public long run() {
+        return p6_sbui_mixed_9();
+      }
+    });
+    if (r.accepts("q")) {
+      final Charset[] charsets = {
+          StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1, StandardCharsets.UTF_16
+      };
+      final String[] csNames = {
+          "utf8", "latin1", "utf16"
+      };
+      final String[] texts = {
+          LINE_64, Encodings.NON_LATIN_1
+      };
+      final String[] textNames = {
+          "latin1", "nonlatin1"
+      };
+      for (int c = 0; c < charsets.length; c++) {
+        for (int t = 0; t < texts.length; t++) {
+          final Encodings enc = new Encodings(charsets[c], texts[t]);
+          enc.check();
+          final String n = csNames[c] + "_" + textNames[t];
+          r.run("q", "q1_getBytes_" + n, Encodings.CONVERSIONS, new Workload() {
+            @Override
+            public long run() {
+              return enc.getBytes();
+            }
+          });
+          r.run("q", "q2_enc_heap_" + n, Encodings.CONVERSIONS, new Workload() {
+            @Override
+            public long run() {
+              return enc.encodeHeap();
+            }
+          });
+          r.run("q", "q3_enc_direct_" + n, Encodings.CONVERSIONS, new Workload() {
+            @Override
+            public long run() {
+              return enc.encodeDirect();
+            }
+          });
+        }
+      }
+    }
+    if (r.accepts("o")) {
+      for (final long n : r.sizes("64,1k,64k,1m")) {
+        if (n < 1 || n > OffHeapIntMap.MAX_ENTRIES) {
+          throw new IllegalArgumentException("Invalid size " + n + " for the o group (between 1 and "
+              + OffHeapIntMap.MAX_ENTRIES + " keys)");
+        }
+        SizedMaps.printFootprint((int) n);
+        final SizedMaps sm = new SizedMaps((int) n);
+        r.run("o", "o1_ht_get_" + n, SizedMaps.LOOKUPS, new Workload() {
+          @Override
+          public long run() {
+            return sm.ht_get();
+          }
+        });
+        r.run("o", "o2_hm_get_" + n, SizedMaps.LOOKUPS, new Workload() {
+          @Override
+          public long run() {
+            return sm.hm_get();
+          }
+        });
+        r.run("o", "o3_oh_get_" + n, SizedMaps.LOOKUPS, new Workload() {
+          @Override
+          public long run() {
+            return sm.oh_get();
+          }
+        });
+        r.run("o", "o4_ht_put_" + n, n, new Workload() {
+          @Override
+          public long run() {
+            return sm.ht_put();
+          }
+        });
+        r.run("o", "o5_hm_put_" + n, n, new Workload() {
+          @Override
+          public long run() {
+            return sm.hm_put();
+          }
+        });
+        r.run("o", "o6_oh_put_" + n, n, new Workload() {
+          @Override
+          public long run() {
+            return sm.oh_put();
+          }
+        });
+      }
+    }
+    if (r.accepts("s")) {
+      final List<Result> sThroughput = new ArrayList<>();
+      for (final long n : r.sizes("64,4k,256k,8m,256m")) {
+        final SizedScans ss = new SizedScans(n, LINE_64);
+        final Workload[] sWls = {
+            new Workload() {
+              @Override
+              public long run() {
+                return ss.heapChars();
+              }
+            }, new Workload() {
+              @Override
+              public long run() {
+                return ss.heapSwar();
+              }
+            }, new Workload() {
+              @Override
+              public long run() {
+                return ss.directSwar();
+              }
+            }, new Workload() {
+              @Override
+              public long run() {
+                return ss.mappedSwar();
+              }
+            }
+        };
+        for (int k = 0; k < sWls.length; k++) {
+          if (ss.has(k)) {
+            sThroughput.add(r.run("s", SizedScans.METHODS[k] + "_" + n, ss.passes * n, Runner.UNIT_ELEMENT,
+                sWls[k]));
+          }
+        }
+      }
+      SizedScans.printThroughput(sThroughput);
     }
-    System.out.println(iRes[lim1]);
+    r.finish();
   }
 }
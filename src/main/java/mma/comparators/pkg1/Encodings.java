@@ -0,0 +1,141 @@
+package mma.comparators.pkg1;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+
+/**
+ * The conversions of a text (held in a StringBuilder, as built by an output path) to the bytes of a charset, for
+ * the encoding group (q*) of {@link Compare_sc_gs_hh}: through getBytes(charset) (as the b* methods, allocating
+ * a String and a byte array per conversion), and through a reused CharsetEncoder into a reused heap or direct
+ * ByteBuffer (the characters being copied into a reused char array), without allocation.
+ * <p>
+ * The unmappable characters are replaced, as by getBytes(charset).
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+final class Encodings {
+  
+  /** The number of conversions of a method call */
+  static final int             CONVERSIONS = 10000;
+  /** A text of 64 non Latin-1 characters (26 ASCII letters and 38 Cyrillic letters) */
+  static final String          NON_LATIN_1;
+  
+  static {
+    final StringBuilder sb = new StringBuilder("azertyuiopqsdfghjklmwxcvbn");
+    for (int i = 0; i < 38; i++) {
+      sb.append((char) (0x0410 + i));
+    }
+    NON_LATIN_1 = sb.toString();
+  }
+  
+  private final Charset        charset;
+  private final StringBuilder  text;
+  private final char[]         chars;
+  private final CharBuffer     charBuf;
+  private final CharsetEncoder encoder;
+  private final ByteBuffer     heapBuf;
+  private final ByteBuffer     directBuf;
+  
+  /**
+   * Constructor: allocates the reused encoder and buffers.
+   *
+   * @param aCharset the charset
+   * @param aText the text
+   */
+  Encodings(final Charset aCharset, final String aText) {
+    charset = aCharset;
+    text = new StringBuilder(aText);
+    chars = new char[aText.length()];
+    charBuf = CharBuffer.wrap(chars);
+    encoder = aCharset.newEncoder().onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    // room for a byte order mark
+    final int max = (int) Math.ceil(encoder.maxBytesPerChar() * (aText.length() + 1));
+    heapBuf = ByteBuffer.allocate(max);
+    directBuf = ByteBuffer.allocateDirect(max);
+  }
+  
+  /**
+   * Converts the text through toString().getBytes(charset).
+   *
+   * @return the cumulated number of bytes
+   */
+  int getBytes() {
+    int l = 0;
+    for (int i = 0; i < CONVERSIONS; i++) {
+      l += text.toString().getBytes(charset).length;
+    }
+    return l;
+  }
+  
+  /**
+   * Converts the text through the reused encoder into the reused heap ByteBuffer.
+   *
+   * @return the cumulated number of bytes
+   */
+  int encodeHeap() {
+    int l = 0;
+    for (int i = 0; i < CONVERSIONS; i++) {
+      l += encode(heapBuf);
+    }
+    return l;
+  }
+  
+  /**
+   * Converts the text through the reused encoder into the reused direct ByteBuffer.
+   *
+   * @return the cumulated number of bytes
+   */
+  int encodeDirect() {
+    int l = 0;
+    for (int i = 0; i < CONVERSIONS; i++) {
+      l += encode(directBuf);
+    }
+    return l;
+  }
+  
+  /**
+   * @param aBuf the buffer to encode into
+   * @return the number of bytes
+   */
+  private int encode(final ByteBuffer aBuf) {
+    final int n = text.length();
+    text.getChars(0, n, chars, 0);
+    charBuf.clear().limit(n);
+    aBuf.clear();
+    encoder.reset();
+    CoderResult cr = encoder.encode(charBuf, aBuf, true);
+    if (!cr.isUnderflow()) {
+      throw new IllegalStateException("Cannot encode in " + charset + " : " + cr);
+    }
+    cr = encoder.flush(aBuf);
+    if (!cr.isUnderflow()) {
+      throw new IllegalStateException("Cannot flush in " + charset + " : " + cr);
+    }
+    return aBuf.position();
+  }
+  
+  /**
+   * Checks that the encoder gives the bytes of getBytes(charset).
+   *
+   * @throws IllegalStateException if the bytes differ
+   */
+  void check() {
+    final byte[] expected = text.toString().getBytes(charset);
+    final int n = encode(heapBuf);
+    heapBuf.flip();
+    final byte[] actual = new byte[n];
+    heapBuf.get(actual);
+    if (!Arrays.equals(expected, actual)) {
+      throw new IllegalStateException("Encoder and getBytes differ in " + charset);
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package mma.comparators.pkg1;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Off heap open addressing hash map with int keys and int values, stored in a direct ByteBuffer, so that the
+ * entries are neither objects nor scanned by the garbage collector.
+ * <p>
+ * Linear probing in a power of 2 number of 8 bytes slots (key, value), the keys being stored xor'ed with
+ * {@link #FREE} so that a zeroed slot is free (and the map can be cleared by bulk copies of zeros). The
+ * capacity is fixed at construction (resizing would leave the old buffers to the garbage collector, which frees
+ * the direct memory only when it collects them) ; no removal.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+final class OffHeapIntMap {
+  
+  /** The reserved key (its stored value being the one of a free slot) */
+  static final int            FREE        = Integer.MIN_VALUE;
+  /** The maximum number of entries (2^26, whose 2^27 slots of 8 bytes take the largest power of 2 int capacity) */
+  static final int            MAX_ENTRIES = 1 << 26;
+  private static final byte[] ZEROS       = new byte[4096];
+  
+  private final ByteBuffer    buf;
+  private final int           mask;
+  private final int           shift;
+  private final int           max;
+  private int                 size;
+  
+  /**
+   * Constructor.
+   *
+   * @param aExpected the maximum number of entries (at most {@link #MAX_ENTRIES}, for a 1 GB buffer)
+   */
+  OffHeapIntMap(final int aExpected) {
+    if (aExpected > MAX_ENTRIES) {
+      throw new IllegalArgumentException("Too many entries " + aExpected);
+    }
+    int cap = 2;
+    while (cap < 2 * aExpected) {
+      cap <<= 1;
+    }
+    buf = ByteBuffer.allocateDirect(8 * cap).order(ByteOrder.nativeOrder());
+    mask = cap - 1;
+    shift = 32 - Integer.numberOfTrailingZeros(cap);
+    max = Math.max(aExpected, cap >> 1);
+  }
+  
+  /**
+   * @param aKey a key
+   * @return the home slot of the key (Fibonacci hashing)
+   */
+  private int slot(final int aKey) {
+    return (aKey * 0x9E3779B9) >>> shift;
+  }
+  
+  /**
+   * Associates a value to a key.
+   *
+   * @param aKey the key (not {@link #FREE})
+   * @param aVal the value
+   * @return true if the key was added, false if its value was replaced
+   */
+  boolean put(final int aKey, final int aVal) {
+    if (aKey == FREE) {
+      throw new IllegalArgumentException("Reserved key " + aKey);
+    }
+    final int sk = aKey ^ FREE;
+    for (int i = slot(aKey);; i = (i + 1) & mask) {
+      final int k = buf.getInt(i << 3);
+      if (k == 0) {
+        if (size == max) {
+          throw new IllegalStateException("Map full (" + max + " entries)");
+        }
+        buf.putInt(i << 3, sk);
+        buf.putInt((i << 3) + 4, aVal);
+        size++;
+        return true;
+      }
+      if (k == sk) {
+        buf.putInt((i << 3) + 4, aVal);
+        return false;
+      }
+    }
+  }
+  
+  /**
+   * @param aKey a key
+   * @param aDef the value to return if the key is not in the map
+   * @return the value associated to the key, the default value if none
+   */
+  int get(final int aKey, final int aDef) {
+    if (aKey == FREE) {
+      return aDef;
+    }
+    final int sk = aKey ^ FREE;
+    for (int i = slot(aKey);; i = (i + 1) & mask) {
+      final int k = buf.getInt(i << 3);
+      if (k == sk) {
+        return buf.getInt((i << 3) + 4);
+      }
+      if (k == 0) {
+        return aDef;
+      }
+    }
+  }
+  
+  /**
+   * @return the number of entries
+   */
+  int size() {
+    return size;
+  }
+  
+  /**
+   * @return the number of off heap bytes
+   */
+  int offHeapBytes() {
+    return buf.capacity();
+  }
+  
+  /**
+   * Removes all the entries.
+   */
+  void clear() {
+    final ByteBuffer b = buf.duplicate();
+    b.clear();
+    while (b.remaining() > 0) {
+      b.put(ZEROS, 0, Math.min(ZEROS.length, b.remaining()));
+    }
+    size = 0;
+  }
+}
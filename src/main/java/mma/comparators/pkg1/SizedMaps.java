@@ -0,0 +1,197 @@
+package mma.comparators.pkg1;
+
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.Locale;
+import java.util.Random;
+
+import mma.bench.core.Allocations;
+
+/**
+ * The on heap (oversized Hashtable and HashMap, as globOverHT and globOverHM) and off heap ({@link OffHeapIntMap})
+ * maps of a given number of int keys, for the off heap group (o*) of {@link Compare_sc_gs_hh}.
+ * <p>
+ * The get methods perform {@link #LOOKUPS} lookups of keys in a random order (so that the big maps do not fit
+ * in the caches) ; the put methods clear the global map and insert all the keys (as the g* and k* methods).
+ * <br>
+ * The values are the keys (so that they cost nothing in the on heap maps), read as ints.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+final class SizedMaps {
+  
+  /** The number of lookups of a get method call */
+  static final int                         LOOKUPS = 65536;
+  /** The map kept alive during the footprint garbage collections */
+  private static Object                    alive;
+  
+  /** The number of keys */
+  final int                                size;
+  private final Integer[]                  keys;
+  private final int[]                      order   = new int[LOOKUPS];
+  private final Hashtable<Object, Integer> globHT;
+  private final HashMap<Object, Integer>   globHM;
+  private final OffHeapIntMap              globOH;
+  
+  /**
+   * Constructor: builds the keys, the lookups order and the global maps.
+   *
+   * @param aSize the number of keys
+   */
+  SizedMaps(final int aSize) {
+    size = aSize;
+    keys = new Integer[aSize];
+    for (int i = 0; i < aSize; i++) {
+      keys[i] = Integer.valueOf(i);
+    }
+    final Random rnd = new Random(aSize);
+    for (int i = 0; i < LOOKUPS; i++) {
+      order[i] = rnd.nextInt(aSize);
+    }
+    globHT = new Hashtable<>(2 * aSize);
+    globHM = new HashMap<>(2 * aSize);
+    globOH = new OffHeapIntMap(aSize);
+    for (int i = 0; i < aSize; i++) {
+      globHT.put(keys[i], keys[i]);
+      globHM.put(keys[i], keys[i]);
+      globOH.put(i, i);
+    }
+  }
+  
+  /**
+   * Retrieves {@link #LOOKUPS} keys in the global Hashtable.
+   *
+   * @return the cumulated values
+   */
+  int ht_get() {
+    int l = 0;
+    for (int i = 0; i < LOOKUPS; i++) {
+      l += globHT.get(keys[order[i]]).intValue();
+    }
+    return l;
+  }
+  
+  /**
+   * Retrieves {@link #LOOKUPS} keys in the global HashMap.
+   *
+   * @return the cumulated values
+   */
+  int hm_get() {
+    int l = 0;
+    for (int i = 0; i < LOOKUPS; i++) {
+      l += globHM.get(keys[order[i]]).intValue();
+    }
+    return l;
+  }
+  
+  /**
+   * Retrieves {@link #LOOKUPS} keys in the global off heap map.
+   *
+   * @return the cumulated values
+   */
+  int oh_get() {
+    int l = 0;
+    for (int i = 0; i < LOOKUPS; i++) {
+      l += globOH.get(order[i], 0);
+    }
+    return l;
+  }
+  
+  /**
+   * Clears the global Hashtable and inserts all the keys.
+   *
+   * @return the map size
+   */
+  int ht_put() {
+    globHT.clear();
+    for (int i = 0; i < size; i++) {
+      globHT.put(keys[i], keys[i]);
+    }
+    return globHT.size();
+  }
+  
+  /**
+   * Clears the global HashMap and inserts all the keys.
+   *
+   * @return the map size
+   */
+  int hm_put() {
+    globHM.clear();
+    for (int i = 0; i < size; i++) {
+      globHM.put(keys[i], keys[i]);
+    }
+    return globHM.size();
+  }
+  
+  /**
+   * Clears the global off heap map and inserts all the keys.
+   *
+   * @return the map size
+   */
+  int oh_put() {
+    globOH.clear();
+    for (int i = 0; i < size; i++) {
+      globOH.put(i, i);
+    }
+    return globOH.size();
+  }
+  
+  /**
+   * Prints, for each map kind, the heap bytes per entry (allocated to build the map, including the boxed keys),
+   * the off heap bytes per entry and the duration of a full garbage collection with the map alive, versus
+   * without any map (to be called before the construction of the global maps).
+   *
+   * @param aSize the number of keys
+   */
+  static void printFootprint(final int aSize) {
+    System.out.println("footprint of " + aSize + " entries maps (heap B/entry ; off heap B/entry ; full GC ms)");
+    System.out.println("  none : 0 ; 0 ; " + gcMillis());
+    for (int kind = 0; kind < 3; kind++) {
+      final long b = Allocations.current();
+      int off = 0;
+      if (kind == 0) {
+        final Hashtable<Object, Integer> ht = new Hashtable<>(2 * aSize);
+        for (int i = 0; i < aSize; i++) {
+          final Integer k = Integer.valueOf(i);
+          ht.put(k, k);
+        }
+        alive = ht;
+      } else if (kind == 1) {
+        final HashMap<Object, Integer> hm = new HashMap<>(2 * aSize);
+        for (int i = 0; i < aSize; i++) {
+          final Integer k = Integer.valueOf(i);
+          hm.put(k, k);
+        }
+        alive = hm;
+      } else {
+        final OffHeapIntMap oh = new OffHeapIntMap(aSize);
+        for (int i = 0; i < aSize; i++) {
+          oh.put(i, i);
+        }
+        off = oh.offHeapBytes();
+        alive = oh;
+      }
+      final long heap = Allocations.since(b);
+      final String gc = gcMillis();
+      alive = null;
+      System.out.println("  " + (kind == 0 ? "Hashtable" : kind == 1 ? "HashMap" : "OffHeapIntMap") + " : "
+          + (heap < 0 ? "?" : Double.toString((double) heap / aSize)) + " ; " + ((double) off / aSize) + " ; " + gc);
+    }
+  }
+  
+  /**
+   * @return the mean duration of 3 full garbage collections (System.gc()), in ms
+   */
+  private static String gcMillis() {
+    long t = 0;
+    for (int i = 0; i < 3; i++) {
+      final long bt = System.nanoTime();
+      System.gc();
+      t += System.nanoTime() - bt;
+    }
+    return String.format(Locale.ROOT, "%.2f", Double.valueOf(t / 3e6));
+  }
+}
@@ -0,0 +1,267 @@
+package mma.comparators.pkg1;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import mma.bench.core.Result;
+
+/**
+ * The inputs of a given number of bytes (from 64 bytes to gigabytes) of the scan scaling group (s*) of
+ * {@link Compare_sc_gs_hh}, filled with the 64 chars line and scanned with the {@link CharScans} logic: heap char
+ * arrays (as c4), and heap, direct and memory mapped byte buffers (SWAR, as c7, fast enough for the memory to
+ * be the limit), so that the throughput shows the L1 / L2 / L3 / DRAM / page cache cliffs.
+ * <p>
+ * The inputs are split in chunks of at most {@link #CHUNK} bytes (the arrays and buffers being limited to 2^31
+ * elements). The mapped file is created in java.io.tmpdir and deleted once mapped.<br>
+ * An input which cannot be allocated (heap or direct memory, see -Xmx and -XX:MaxDirectMemorySize) or mapped is
+ * skipped.<br>
+ * A method call scans the input as many times as needed to read about {@link #BYTES_PER_CALL} bytes; an
+ * operation is the scan of one byte, so the throughput in GB/s is the inverse of the time per operation in ns.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+final class SizedScans {
+  
+  /** The maximum number of bytes of a chunk */
+  static final int           CHUNK          = 1 << 30;
+  /** The minimum number of bytes scanned by a method call */
+  static final long          BYTES_PER_CALL = 1L << 26;
+  /** The scan methods names, without the size */
+  static final String[]      METHODS        = {
+      "s1_heap_chars", "s2_heap_swar", "s3_direct_swar", "s4_mapped_swar"
+  };
+  
+  /** The number of bytes */
+  final long                 size;
+  /** The number of scans of the input by a method call */
+  final long                 passes;
+  private final char[][]     heapChars;
+  private final ByteBuffer[] heapBufs;
+  private final ByteBuffer[] directBufs;
+  private final ByteBuffer[] mappedBufs;
+  
+  /**
+   * Constructor: allocates, maps and fills the inputs (printing the skipped ones).
+   *
+   * @param aSize the number of bytes (even)
+   * @param aLine the line repeated to fill the inputs
+   */
+  SizedScans(final long aSize, final String aLine) {
+    size = aSize;
+    passes = Math.max(1, BYTES_PER_CALL / aSize);
+    final int n = (int) ((aSize + CHUNK - 1) / CHUNK);
+    char[][] hc = new char[n][];
+    ByteBuffer[] hb = new ByteBuffer[n];
+    ByteBuffer[] db = new ByteBuffer[n];
+    try {
+      for (int i = 0; i < n; i++) {
+        hc[i] = new char[chunk(i) / 2];
+        fill(hc[i], aLine);
+      }
+    } catch (final OutOfMemoryError e) {
+      hc = null;
+      System.out.println("  " + METHODS[0] + "_" + aSize + " skipped : " + e);
+    }
+    try {
+      for (int i = 0; i < n; i++) {
+        hb[i] = ByteBuffer.allocate(chunk(i)).order(ByteOrder.LITTLE_ENDIAN);
+        fill(hb[i], aLine);
+      }
+    } catch (final OutOfMemoryError e) {
+      hb = null;
+      System.out.println("  " + METHODS[1] + "_" + aSize + " skipped : " + e);
+    }
+    try {
+      for (int i = 0; i < n; i++) {
+        db[i] = ByteBuffer.allocateDirect(chunk(i)).order(ByteOrder.LITTLE_ENDIAN);
+        fill(db[i], aLine);
+      }
+    } catch (final OutOfMemoryError e) {
+      db = null;
+      System.out.println("  " + METHODS[2] + "_" + aSize + " skipped : " + e);
+    }
+    heapChars = hc;
+    heapBufs = hb;
+    directBufs = db;
+    mappedBufs = map(aLine);
+  }
+  
+  /**
+   * @param aIndex a chunk index
+   * @return the number of bytes of the chunk
+   */
+  private int chunk(final int aIndex) {
+    return (int) Math.min(CHUNK, size - (long) aIndex * CHUNK);
+  }
+  
+  /**
+   * Maps a temporary file of the size in chunks and fills them.
+   *
+   * @param aLine the line repeated to fill the chunks
+   * @return the mapped chunks, null if the file cannot be created or mapped
+   */
+  private ByteBuffer[] map(final String aLine) {
+    final ByteBuffer[] mb = new ByteBuffer[(int) ((size + CHUNK - 1) / CHUNK)];
+    File f = null;
+    try {
+      f = File.createTempFile("sized_scans_", ".bin");
+      try (final RandomAccessFile raf = new RandomAccessFile(f, "rw")) {
+        raf.setLength(size);
+        final FileChannel fc = raf.getChannel();
+        for (int i = 0; i < mb.length; i++) {
+          mb[i] = fc.map(FileChannel.MapMode.READ_WRITE, (long) i * CHUNK, chunk(i)).order(ByteOrder.LITTLE_ENDIAN);
+          fill(mb[i], aLine);
+        }
+      }
+      return mb;
+    } catch (final IOException e) {
+      System.out.println("  " + METHODS[3] + "_" + size + " skipped : " + e);
+      return null;
+    } finally {
+      // the mappings stay valid after the deletion
+      if (f != null && !f.delete()) {
+        f.deleteOnExit();
+      }
+    }
+  }
+  
+  /**
+   * @param aChars the chars to fill with the repeated line
+   * @param aLine the line
+   */
+  private static void fill(final char[] aChars, final String aLine) {
+    final int l = aLine.length();
+    for (int i = 0; i < aChars.length; i++) {
+      aChars[i] = aLine.charAt(i % l);
+    }
+  }
+  
+  /**
+   * @param aBuf the buffer to fill with the repeated line (as ISO-8859-1 bytes)
+   * @param aLine the line
+   */
+  private static void fill(final ByteBuffer aBuf, final String aLine) {
+    final int l = aLine.length();
+    for (int i = 0; i < aBuf.limit(); i++) {
+      aBuf.put(i, (byte) aLine.charAt(i % l));
+    }
+  }
+  
+  /**
+   * @param aMethod the index of the scan method in {@link #METHODS}
+   * @return true if the input of the method could be allocated or mapped
+   */
+  boolean has(final int aMethod) {
+    return (aMethod == 0 ? heapChars : aMethod == 1 ? heapBufs : aMethod == 2 ? directBufs : mappedBufs) != null;
+  }
+  
+  /**
+   * Scans the heap char arrays {@link #passes} times (as c4).
+   *
+   * @return the cumulated number of digits
+   */
+  long heapChars() {
+    long l = 0;
+    for (long p = 0; p < passes; p++) {
+      for (int i = 0; i < heapChars.length; i++) {
+        l += CharScans.digits(heapChars[i]);
+      }
+    }
+    return l;
+  }
+  
+  /**
+   * Scans the heap byte buffers {@link #passes} times (as c7).
+   *
+   * @return the cumulated number of digits
+   */
+  long heapSwar() {
+    return swar(heapBufs);
+  }
+  
+  /**
+   * Scans the direct byte buffers {@link #passes} times (as c7).
+   *
+   * @return the cumulated number of digits
+   */
+  long directSwar() {
+    return swar(directBufs);
+  }
+  
+  /**
+   * Scans the mapped byte buffers {@link #passes} times (as c7).
+   *
+   * @return the cumulated number of digits
+   */
+  long mappedSwar() {
+    return swar(mappedBufs);
+  }
+  
+  /**
+   * @param aBufs the byte buffers
+   * @return the cumulated number of digits of {@link #passes} scans
+   */
+  private long swar(final ByteBuffer[] aBufs) {
+    long l = 0;
+    for (long p = 0; p < passes; p++) {
+      for (int i = 0; i < aBufs.length; i++) {
+        l += CharScans.digitsSwar(aBufs[i]);
+      }
+    }
+    return l;
+  }
+  
+  /**
+   * Prints the throughput of the scan methods per size, as a ';' separated table with a '#' header (bytes and
+   * GB/s of each method, empty if not run), to be plotted.
+   *
+   * @param aResults the results of the group (the null ones, of the methods not run, being ignored)
+   */
+  static void printThroughput(final List<Result> aResults) {
+    final Map<Long, String[]> bySize = new LinkedHashMap<>();
+    for (final Result r : aResults) {
+      if (r == null) {
+        continue;
+      }
+      final int u = r.method.lastIndexOf('_');
+      final Long sz = Long.valueOf(r.method.substring(u + 1));
+      String[] row = bySize.get(sz);
+      if (row == null) {
+        row = new String[METHODS.length];
+        bySize.put(sz, row);
+      }
+      for (int m = 0; m < METHODS.length; m++) {
+        if (METHODS[m].equals(r.method.substring(0, u))) {
+          row[m] = String.format(Locale.ROOT, "%.3f", Double.valueOf(1 / r.nsPerOp()));
+        }
+      }
+    }
+    if (bySize.isEmpty()) {
+      return;
+    }
+    System.out.println("scan throughput (GB/s)");
+    final StringBuilder hd = new StringBuilder("#bytes");
+    for (final String m : METHODS) {
+      hd.append(Result.SEP).append(m);
+    }
+    System.out.println(hd);
+    for (final Map.Entry<Long, String[]> e : bySize.entrySet()) {
+      final StringBuilder sb = new StringBuilder().append(e.getKey());
+      for (final String v : e.getValue()) {
+        sb.append(Result.SEP).append(v == null ? "" : v);
+      }
+      System.out.println(sb);
+    }
+  }
+}
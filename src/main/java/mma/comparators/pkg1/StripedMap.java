@@ -0,0 +1,81 @@
+package mma.comparators.pkg1;
+
+import java.util.HashMap;
+
+/**
+ * Thread safe hash map made of independent HashMaps (stripes), each one guarded by its own lock, so that the
+ * threads accessing different stripes do not contend (the lock striping of the Java 5 ConcurrentHashMap).
+ *
+ * @param <V> the values type
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+final class StripedMap<V> {
+  
+  private final HashMap<Object, V>[] stripes;
+  
+  /**
+   * Constructor.
+   *
+   * @param aStripes the number of stripes (rounded up to a power of 2)
+   * @param aCapacity the initial capacity of each stripe
+   */
+  StripedMap(final int aStripes, final int aCapacity) {
+    int n = 1;
+    while (n < aStripes) {
+      n <<= 1;
+    }
+    @SuppressWarnings("unchecked")
+    final HashMap<Object, V>[] a = (HashMap<Object, V>[]) new HashMap<?, ?>[n];
+    for (int i = 0; i < n; i++) {
+      a[i] = new HashMap<>(aCapacity);
+    }
+    stripes = a;
+  }
+  
+  /**
+   * @param aKey a key
+   * @return the stripe of the key (the lock being the stripe itself)
+   */
+  private HashMap<Object, V> stripe(final Object aKey) {
+    final int h = aKey.hashCode() * 0x9E3779B9;
+    return stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+  }
+  
+  /**
+   * @param aKey a key (not null)
+   * @param aVal a value
+   * @return the previous value, null if none
+   */
+  V put(final Object aKey, final V aVal) {
+    final HashMap<Object, V> s = stripe(aKey);
+    synchronized (s) {
+      return s.put(aKey, aVal);
+    }
+  }
+  
+  /**
+   * @param aKey a key (not null)
+   * @return the value associated to the key, null if none
+   */
+  V get(final Object aKey) {
+    final HashMap<Object, V> s = stripe(aKey);
+    synchronized (s) {
+      return s.get(aKey);
+    }
+  }
+  
+  /**
+   * @return the number of entries (not atomic across the stripes)
+   */
+  int size() {
+    int n = 0;
+    for (final HashMap<Object, V> s : stripes) {
+      synchronized (s) {
+        n += s.size();
+      }
+    }
+    return n;
+  }
+}
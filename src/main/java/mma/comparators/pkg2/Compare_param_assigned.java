@@ -1,5 +1,9 @@
 package mma.comparators.pkg2;
 
+import mma.bench.core.Result;
+import mma.bench.core.Runner;
+import mma.bench.core.Workload;
+
 /**
  * Simple program aimed at comparing performance of methods with assigned parameters of primitive types (
  * which are passed by value, but that the compiler flags with "parameter should not be assigned".<br>
@@ -7,6 +11,7 @@ package mma.comparators.pkg2;
  * @author Marc MAZAS - 2021
  *
  * @version 1.0 : creation <br>
+ *          1.1 : 2026 : timings, warmup and results through the bench core runner<br>
  *
  */
 @SuppressWarnings({
@@ -15,326 +20,379 @@ package mma.comparators.pkg2;
 public class Compare_param_assigned {
   
   private static final long NBCALLS = 10000000; // 100000000 without profiling
-  private static final long NBLOOPS = 100;      // 100 without profiling
-  private static long       total   = 0;
   
   public Compare_param_assigned() {
     //
   }
   
+  /**
+   * Measures each method with the bench core runner (see {@link Runner} for its system properties), a group
+   * per visibility.
+   *
+   * @param aArgs the command line parameters
+   */
   public static void main(final String[] aArgs) {
 
     System.out.println("Starting...          ; mx   ; mxn  ; mxf  ; mx_f ; mxf_f");
 
     final Compare_param_assigned pt = new Compare_param_assigned();
+    final Runner r = new Runner("Compare_param_assigned");
     
-    run_public(pt);
-    // System.gc();
-    run_protected(pt);
-    // System.gc();
-    run_package(pt);
-    // System.gc();
-    run_private(pt);
+    run_public(r, pt);
+    run_protected(r, pt);
+    run_package(r, pt);
+    run_private(r, pt);
     
-    System.out.println("total = " + total);
+    r.finish();
   }
 
-  private static void run_public(final Compare_param_assigned pt) {
-
-    long et;
-    long bt;
-    long tp;
-    long ctr;
-    final long[] tpa = new long[5];
-
-    for (int k = 0; k < NBLOOPS; k++) {
-      int l = 0;
+  private static void run_public(final Runner r, final Compare_param_assigned pt) {
+    final Result[] res = new Result[5];
+    int l = 0;
 
-      bt = System.currentTimeMillis();
-      ctr = 0;
-      for (long j = 0; j < NBCALLS; j++) {
-        pt.mu(j);
-        ctr += j;
+    res[l++] = r.run("public", "mu", NBCALLS, new Workload() {
+      @Override
+      public long run() {
+        return loop_mu(pt);
       }
-      et = System.currentTimeMillis();
-      tp = et - bt;
-      tpa[l++] += tp;
-      total += (ctr > 0 ? 1 : -1);
-
-      bt = System.currentTimeMillis();
-      ctr = 0;
-      for (long j = 0; j < NBCALLS; j++) {
-        pt.mun(j);
-        ctr += j;
+    });
+    res[l++] = r.run("public", "mun", NBCALLS, new Workload() {
+      @Override
+      public long run() {
+        return loop_mun(pt);
       }
-      et = System.currentTimeMillis();
-      tp = et - bt;
-      tpa[l++] += tp;
-      total += (ctr > 0 ? 1 : -1);
-
-      bt = System.currentTimeMillis();
-      ctr = 0;
-      for (long j = 0; j < NBCALLS; j++) {
-        pt.muf(j);
-        ctr += j;
+    });
+    res[l++] = r.run("public", "muf", NBCALLS, new Workload() {
+      @Override
+      public long run() {
+        return loop_muf(pt);
       }
-      et = System.currentTimeMillis();
-      tp = et - bt;
-      tpa[l++] += tp;
-      total += (ctr > 0 ? 1 : -1);
-
-      bt = System.currentTimeMillis();
-      ctr = 0;
-      for (long j = 0; j < NBCALLS; j++) {
-        pt.mu_f(j);
-        ctr += j;
+    });
+    res[l++] = r.run("public", "mu_f", NBCALLS, new Workload() {
+      @Override
+      public long run() {
+        return loop_mu_f(pt);
       }
-      et = System.currentTimeMillis();
-      tp = et - bt;
-      tpa[l++] += tp;
-      total += (ctr > 0 ? 1 : -1);
-
-      bt = System.currentTimeMillis();
-      ctr = 0;
-      for (long j = 0; j < NBCALLS; j++) {
-        pt.muf_f(j);
-        ctr += j;
+    });
+    res[l++] = r.run("public", "muf_f", NBCALLS, new Workload() {
+      @Override
+      public long run() {
+        return loop_muf_f(pt);
       }
-      et = System.currentTimeMillis();
-      tp = et - bt;
-      tpa[l++] += tp;
-      total += (ctr > 0 ? 1 : -1);
-
-    }
-    System.out.print("results for public   ; ");
-    for (int m = 0; m < 5; m++) {
-      System.out.print(tpa[m] + " ; ");
-    }
-    System.out.println();
+    });
+    print("results for public   ; ", res);
   }
 
-  private static void run_protected(final Compare_param_assigned pt) {
-    
-    long et;
-    long bt;
-    long tp;
-    long ctr;
-    final long[] tpa = new long[5];
-    
-    for (int k = 0; k < NBLOOPS; k++) {
-      int l = 0;
-      
-      bt = System.currentTimeMillis();
-      ctr = 0;
-      for (long j = 0; j < NBCALLS; j++) {
-        pt.mo(j);
-        ctr += j;
+  private static void run_protected(final Runner r, final Compare_param_assigned pt) {
+    final Result[] res = new Result[5];
+    int l = 0;
+
+    res[l++] = r.run("protected", "mo", NBCALLS, new Workload() {
+      @Override
+      public long run() {
+        return loop_mo(pt);
       }
-      et = System.currentTimeMillis();
-      tp = et - bt;
-      tpa[l++] += tp;
-      total += (ctr > 0 ? 1 : -1);
-      
-      bt = System.currentTimeMillis();
-      ctr = 0;
-      for (long j = 0; j < NBCALLS; j++) {
-        pt.mon(j);
-        ctr += j;
+    });
+    res[l++] = r.run("protected", "mon", NBCALLS, new Workload() {
+      @Override
+      public long run() {
+        return loop_mon(pt);
       }
-      et = System.currentTimeMillis();
-      tp = et - bt;
-      tpa[l++] += tp;
-      total += (ctr > 0 ? 1 : -1);
-      
-      bt = System.currentTimeMillis();
-      ctr = 0;
-      for (long j = 0; j < NBCALLS; j++) {
-        pt.mof(j);
-        ctr += j;
+    });
+    res[l++] = r.run("protected", "mof", NBCALLS, new Workload() {
+      @Override
+      public long run() {
+        return loop_mof(pt);
       }
-      et = System.currentTimeMillis();
-      tp = et - bt;
-      tpa[l++] += tp;
-      total += (ctr > 0 ? 1 : -1);
-      
-      bt = System.currentTimeMillis();
-      ctr = 0;
-      for (long j = 0; j < NBCALLS; j++) {
-        pt.mo_f(j);
-        ctr += j;
+    });
+    res[l++] = r.run("protected", "mo_f", NBCALLS, new Workload() {
+      @Override
+      public long run() {
+        return loop_mo_f(pt);
       }
-      et = System.currentTimeMillis();
-      tp = et - bt;
-      tpa[l++] += tp;
-      total += (ctr > 0 ? 1 : -1);
-      
-      bt = System.currentTimeMillis();
-      ctr = 0;
-      for (long j = 0; j < NBCALLS; j++) {
-        pt.mof_f(j);
-        ctr += j;
+    });
+    res[l++] = r.run("protected", "mof_f", NBCALLS, new Workload() {
+      @Override
+      public long run() {
+        return loop_mof_f(pt);
       }
-      et = System.currentTimeMillis();
-      tp = et - bt;
-      tpa[l++] += tp;
-      total += (ctr > 0 ? 1 : -1);
-      
-    }
-    System.out.print("results for protected; ");
-    for (int m = 0; m < 5; m++) {
-      System.out.print(tpa[m] + " ; ");
-    }
-    System.out.println();
+    });
+    print("results for protected; ", res);
   }
 
-  private static void run_package(final Compare_param_assigned pt) {
-    
-    long et;
-    long bt;
-    long tp;
-    long ctr;
-    final long[] tpa = new long[5];
-    
-    for (int k = 0; k < NBLOOPS; k++) {
-      int l = 0;
-      
-      bt = System.currentTimeMillis();
-      ctr = 0;
-      for (long j = 0; j < NBCALLS; j++) {
-        pt.mp(j);
-        ctr += j;
+  private static void run_package(final Runner r, final Compare_param_assigned pt) {
+    final Result[] res = new Result[5];
+    int l = 0;
+
+    res[l++] = r.run("package", "mp", NBCALLS, new Workload() {
+      @Override
+      public long run() {
+        return loop_mp(pt);
       }
-      et = System.currentTimeMillis();
-      tp = et - bt;
-      tpa[l++] += tp;
-      total += (ctr > 0 ? 1 : -1);
-      
-      bt = System.currentTimeMillis();
-      ctr = 0;
-      for (long j = 0; j < NBCALLS; j++) {
-        pt.mpn(j);
-        ctr += j;
+    });
+    res[l++] = r.run("package", "mpn", NBCALLS, new Workload() {
+      @Override
+      public long run() {
+        return loop_mpn(pt);
       }
-      et = System.currentTimeMillis();
-      tp = et - bt;
-      tpa[l++] += tp;
-      total += (ctr > 0 ? 1 : -1);
-      
-      bt = System.currentTimeMillis();
-      ctr = 0;
-      for (long j = 0; j < NBCALLS; j++) {
-        pt.mpf(j);
-        ctr += j;
+    });
+    res[l++] = r.run("package", "mpf", NBCALLS, new Workload() {
+      @Override
+      public long run() {
+        return loop_mpf(pt);
       }
-      et = System.currentTimeMillis();
-      tp = et - bt;
-      tpa[l++] += tp;
-      total += (ctr > 0 ? 1 : -1);
-      
-      bt = System.currentTimeMillis();
-      ctr = 0;
-      for (long j = 0; j < NBCALLS; j++) {
-        pt.mp_f(j);
-        ctr += j;
+    });
+    res[l++] = r.run("package", "mp_f", NBCALLS, new Workload() {
+      @Override
+      public long run() {
+        return loop_mp_f(pt);
       }
-      et = System.currentTimeMillis();
-      tp = et - bt;
-      tpa[l++] += tp;
-      total += (ctr > 0 ? 1 : -1);
-      
-      bt = System.currentTimeMillis();
-      ctr = 0;
-      for (long j = 0; j < NBCALLS; j++) {
-        pt.mpf_f(j);
-        ctr += j;
+    });
+    res[l++] = r.run("package", "mpf_f", NBCALLS, new Workload() {
+      @Override
+      public long run() {
+        return loop_mpf_f(pt);
       }
-      et = System.currentTimeMillis();
-      tp = et - bt;
-      tpa[l++] += tp;
-      total += (ctr > 0 ? 1 : -1);
-      
-    }
-    System.out.print("results for package  ; ");
-    for (int m = 0; m < 5; m++) {
-      System.out.print(tpa[m] + " ; ");
-    }
-    System.out.println();
+    });
+    print("results for package  ; ", res);
   }
 
-  private static void run_private(final Compare_param_assigned pt) {
-    
-    long et;
-    long bt;
-    long tp;
-    long ctr;
-    final long[] tpa = new long[5];
-    
-    for (int k = 0; k < NBLOOPS; k++) {
-      int l = 0;
-      
-      bt = System.currentTimeMillis();
-      ctr = 0;
-      for (long j = 0; j < NBCALLS; j++) {
-        pt.mi(j);
-        ctr += j;
+  private static void run_private(final Runner r, final Compare_param_assigned pt) {
+    final Result[] res = new Result[5];
+    int l = 0;
+
+    res[l++] = r.run("private", "mi", NBCALLS, new Workload() {
+      @Override
+      public long run() {
+        return loop_mi(pt);
       }
-      et = System.currentTimeMillis();
-      tp = et - bt;
-      tpa[l++] += tp;
-      total += (ctr > 0 ? 1 : -1);
-      
-      bt = System.currentTimeMillis();
-      ctr = 0;
-      for (long j = 0; j < NBCALLS; j++) {
-        pt.min(j);
-        ctr += j;
+    });
+    res[l++] = r.run("private", "min", NBCALLS, new Workload() {
+      @Override
+      public long run() {
+        return loop_min(pt);
       }
-      et = System.currentTimeMillis();
-      tp = et - bt;
-      tpa[l++] += tp;
-      total += (ctr > 0 ? 1 : -1);
-      
-      bt = System.currentTimeMillis();
-      ctr = 0;
-      for (long j = 0; j < NBCALLS; j++) {
-        pt.mif(j);
-        ctr += j;
+    });
+    res[l++] = r.run("private", "mif", NBCALLS, new Workload() {
+      @Override
+      public long run() {
+        return loop_mif(pt);
       }
-      et = System.currentTimeMillis();
-      tp = et - bt;
-      tpa[l++] += tp;
-      total += (ctr > 0 ? 1 : -1);
-      
-      bt = System.currentTimeMillis();
-      ctr = 0;
-      for (long j = 0; j < NBCALLS; j++) {
-        pt.mi_f(j);
-        ctr += j;
+    });
+    res[l++] = r.run("private", "mi_f", NBCALLS, new Workload() {
+      @Override
+      public long run() {
+        return loop_mi_f(pt);
       }
-      et = System.currentTimeMillis();
-      tp = et - bt;
-      tpa[l++] += tp;
-      total += (ctr > 0 ? 1 : -1);
-      
-      bt = System.currentTimeMillis();
-      ctr = 0;
-      for (long j = 0; j < NBCALLS; j++) {
-        pt.mif_f(j);
-        ctr += j;
+    });
+    res[l++] = r.run("private", "mif_f", NBCALLS, new Workload() {
+      @Override
+      public long run() {
+        return loop_mif_f(pt);
       }
-      et = System.currentTimeMillis();
-      tp = et - bt;
-      tpa[l++] += tp;
-      total += (ctr > 0 ? 1 : -1);
-      
+    });
+    print("results for private  ; ", res);
+  }
+
+  /**
+   * Prints the mean times per call of a group, in ms per NBCALLS calls (the unit of the former results).
+   *
+   * @param aTitle the line title
+   * @param aRes the group results (null if the group was not run)
+   */
+  private static void print(final String aTitle, final Result[] aRes) {
+    if (aRes[0] == null) {
+      return;
     }
-    System.out.print("results for private  ; ");
-    for (int m = 0; m < 5; m++) {
-      System.out.print(tpa[m] + " ; ");
+    System.out.print(aTitle);
+    for (int m = 0; m < aRes.length; m++) {
+      System.out.print((Math.round(aRes[m].nsPerOp() * NBCALLS / 1000) / 1000.0) + " ; ");
     }
     System.out.println();
   }
 
+  /* loops, package level static so that no synthetic accessor is involved when called from the workloads */
+
+  static long loop_mu(final Compare_param_assigned pt) {
+    long ctr = 0;
+    for (long j = 0; j < NBCALLS; j++) {
+      pt.mu(j);
+      ctr += j;
+    }
+    return ctr;
+  }
+
+  static long loop_mun(final Compare_param_assigned pt) {
+    long ctr = 0;
+    for (long j = 0; j < NBCALLS; j++) {
+      pt.mun(j);
+      ctr += j;
+    }
+    return ctr;
+  }
+
+  static long loop_muf(final Compare_param_assigned pt) {
+    long ctr = 0;
+    for (long j = 0; j < NBCALLS; j++) {
+      pt.muf(j);
+      ctr += j;
+    }
+    return ctr;
+  }
+
+  static long loop_mu_f(final Compare_param_assigned pt) {
+    long ctr = 0;
+    for (long j = 0; j < NBCALLS; j++) {
+      pt.mu_f(j);
+      ctr += j;
+    }
+    return ctr;
+  }
+
+  static long loop_muf_f(final Compare_param_assigned pt) {
+    long ctr = 0;
+    for (long j = 0; j < NBCALLS; j++) {
+      pt.muf_f(j);
+      ctr += j;
+    }
+    return ctr;
+  }
+
+  static long loop_mo(final Compare_param_assigned pt) {
+    long ctr = 0;
+    for (long j = 0; j < NBCALLS; j++) {
+      pt.mo(j);
+      ctr += j;
+    }
+    return ctr;
+  }
+
+  static long loop_mon(final Compare_param_assigned pt) {
+    long ctr = 0;
+    for (long j = 0; j < NBCALLS; j++) {
+      pt.mon(j);
+      ctr += j;
+    }
+    return ctr;
+  }
+
+  static long loop_mof(final Compare_param_assigned pt) {
+    long ctr = 0;
+    for (long j = 0; j < NBCALLS; j++) {
+      pt.mof(j);
+      ctr += j;
+    }
+    return ctr;
+  }
+
+  static long loop_mo_f(final Compare_param_assigned pt) {
+    long ctr = 0;
+    for (long j = 0; j < NBCALLS; j++) {
+      pt.mo_f(j);
+      ctr += j;
+    }
+    return ctr;
+  }
+
+  static long loop_mof_f(final Compare_param_assigned pt) {
+    long ctr = 0;
+    for (long j = 0; j < NBCALLS; j++) {
+      pt.mof_f(j);
+      ctr += j;
+    }
+    return ctr;
+  }
+
+  static long loop_mp(final Compare_param_assigned pt) {
+    long ctr = 0;
+    for (long j = 0; j < NBCALLS; j++) {
+      pt.mp(j);
+      ctr += j;
+    }
+    return ctr;
+  }
+
+  static long loop_mpn(final Compare_param_assigned pt) {
+    long ctr = 0;
+    for (long j = 0; j < NBCALLS; j++) {
+      pt.mpn(j);
+      ctr += j;
+    }
+    return ctr;
+  }
+
+  static long loop_mpf(final Compare_param_assigned pt) {
+    long ctr = 0;
+    for (long j = 0; j < NBCALLS; j++) {
+      pt.mpf(j);
+      ctr += j;
+    }
+    return ctr;
+  }
+
+  static long loop_mp_f(final Compare_param_assigned pt) {
+    long ctr = 0;
+    for (long j = 0; j < NBCALLS; j++) {
+      pt.mp_f(j);
+      ctr += j;
+    }
+    return ctr;
+  }
+
+  static long loop_mpf_f(final Compare_param_assigned pt) {
+    long ctr = 0;
+    for (long j = 0; j < NBCALLS; j++) {
+      pt.mpf_f(j);
+      ctr += j;
+    }
+    return ctr;
+  }
+
+  static long loop_mi(final Compare_param_assigned pt) {
+    long ctr = 0;
+    for (long j = 0; j < NBCALLS; j++) {
+      pt.mi(j);
+      ctr += j;
+    }
+    return ctr;
+  }
+
+  static long loop_min(final Compare_param_assigned pt) {
+    long ctr = 0;
+    for (long j = 0; j < NBCALLS; j++) {
+      pt.min(j);
+      ctr += j;
+    }
+    return ctr;
+  }
+
+  static long loop_mif(final Compare_param_assigned pt) {
+    long ctr = 0;
+    for (long j = 0; j < NBCALLS; j++) {
+      pt.mif(j);
+      ctr += j;
+    }
+    return ctr;
+  }
+
+  static long loop_mi_f(final Compare_param_assigned pt) {
+    long ctr = 0;
+    for (long j = 0; j < NBCALLS; j++) {
+      pt.mi_f(j);
+      ctr += j;
+    }
+    return ctr;
+  }
+
+  static long loop_mif_f(final Compare_param_assigned pt) {
+    long ctr = 0;
+    for (long j = 0; j < NBCALLS; j++) {
+      pt.mif_f(j);
+      ctr += j;
+    }
+    return ctr;
+  }
+
   /* public */
 
   public void mu(long aI) {
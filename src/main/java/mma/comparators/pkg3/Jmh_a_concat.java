@@ -0,0 +1,111 @@
+package mma.comparators.pkg3;
+
+import static mma.comparators.pkg3.Jmh_data.LINE_36;
+import static mma.comparators.pkg3.Jmh_data.LINE_64;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH port of the a* group (string concatenation) of {@link mma.comparators.pkg1.Compare_sc_gs_hh}.
+ * <p>
+ * One operation is one iteration of the MAX_LOOP_2 loop of the original methods. The middle operand is read
+ * from a non final field (like the l26 local variable of the original methods) so that the concatenation is
+ * not folded into a constant by javac.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+@SuppressWarnings("javadoc")
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 3)
+public class Jmh_a_concat {
+  
+  private String        l26 = Jmh_data.LINE_26;
+  private StringBuffer  sbuf;
+  private StringBuilder sbui;
+  
+  @Benchmark
+  public int a1_concat_str() {
+    final String s = "".concat(LINE_64).concat(l26).concat(LINE_36);
+    return s.length();
+  }
+  
+  @Benchmark
+  public int a2_plus_str() {
+    String s = "";
+    s = s + LINE_64 + l26 + LINE_36;
+    return s.length();
+  }
+  
+  @Benchmark
+  public int a3_loc_strbuf_def() {
+    final StringBuffer sb = new StringBuffer();
+    sb.append(LINE_64).append(l26).append(LINE_36);
+    return sb.length();
+  }
+  
+  @Benchmark
+  public int a4_loc_strbuf_tuned() {
+    final StringBuffer sb = new StringBuffer(128);
+    sb.append(LINE_64).append(l26).append(LINE_36);
+    return sb.length();
+  }
+  
+  @Benchmark
+  public int a5_loc_strbui_def() {
+    final StringBuilder sb = new StringBuilder();
+    sb.append(LINE_64).append(l26).append(LINE_36);
+    return sb.length();
+  }
+  
+  @Benchmark
+  public int a6_loc_strbui_tuned() {
+    final StringBuilder sb = new StringBuilder(128);
+    sb.append(LINE_64).append(l26).append(LINE_36);
+    return sb.length();
+  }
+  
+  @Benchmark
+  public int a7_fld_strbuf_def() {
+    sbuf = new StringBuffer();
+    sbuf.append(LINE_64).append(l26).append(LINE_36);
+    return sbuf.length();
+  }
+  
+  @Benchmark
+  public int a8_fld_strbuf_tuned() {
+    sbuf = new StringBuffer(128);
+    sbuf.append(LINE_64).append(l26).append(LINE_36);
+    return sbuf.length();
+  }
+  
+  @Benchmark
+  public int a9_fld_strbui_def() {
+    sbui = new StringBuilder();
+    sbui.append(LINE_64).append(l26).append(LINE_36);
+    return sbui.length();
+  }
+  
+  @Benchmark
+  public int a10_fld_strbui_tuned() {
+    sbui = new StringBuilder(128);
+    sbui.append(LINE_64).append(l26).append(LINE_36);
+    return sbui.length();
+  }
+}
@@ -0,0 +1,54 @@
+package mma.comparators.pkg3;
+
+import static mma.comparators.pkg3.Jmh_data.LINE_64;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH port of the b* group (buffer to byte array conversion) of
+ * {@link mma.comparators.pkg1.Compare_sc_gs_hh}.
+ * <p>
+ * One operation is one iteration of the MAX_LOOP_3 loop of the original methods.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+@SuppressWarnings("javadoc")
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 3)
+public class Jmh_b_bytes {
+  
+  private final StringBuffer  sbuf = new StringBuffer(LINE_64);
+  private final StringBuilder sbui = new StringBuilder(LINE_64);
+  
+  @Benchmark
+  public byte[] b1_byte_buf_toString() {
+    return sbuf.toString().getBytes();
+  }
+  
+  @Benchmark
+  public byte[] b2_byte_newString() {
+    return (new String(sbuf)).getBytes();
+  }
+  
+  @Benchmark
+  public byte[] b3_byte_bui_toString() {
+    return sbui.toString().getBytes();
+  }
+}
@@ -0,0 +1,77 @@
+package mma.comparators.pkg3;
+
+import static mma.comparators.pkg3.Jmh_data.LINE_64;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH port of the c* group (for loops) of {@link mma.comparators.pkg1.Compare_sc_gs_hh}.
+ * <p>
+ * One operation is one scan of the 64 characters buffer (the inner loop of the original methods). The
+ * character test is the original one (never true), the counter is returned so that the loop is not
+ * eliminated as a whole.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+@SuppressWarnings("javadoc")
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 3)
+public class Jmh_c_for_loops {
+  
+  private static final StringBuffer STSB64 = new StringBuffer(LINE_64);
+  private final StringBuffer        sb     = new StringBuffer(LINE_64);
+  
+  @Benchmark
+  public int c1_for_methods() {
+    int l = 0;
+    for (int j = 0; j < sb.length(); j++) {
+      if ((sb.charAt(j) < '0') && (sb.charAt(j) > 'z')) {
+        l++;
+      }
+    }
+    return l;
+  }
+  
+  @Benchmark
+  public int c2_for_variables() {
+    int l = 0;
+    final int sbl = sb.length();
+    for (int j = 0; j < sbl; j++) {
+      final char c = sb.charAt(j);
+      if ((c < '0') && (c > 'z')) {
+        l++;
+      }
+    }
+    return l;
+  }
+  
+  @Benchmark
+  public int c3_for_static() {
+    int l = 0;
+    final int sbl = STSB64.length();
+    for (int j = 0; j < sbl; j++) {
+      final char c = STSB64.charAt(j);
+      if ((c < '0') && (c > 'z')) {
+        l++;
+      }
+    }
+    return l;
+  }
+}
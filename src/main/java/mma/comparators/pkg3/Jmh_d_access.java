@@ -0,0 +1,64 @@
+package mma.comparators.pkg3;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH port of the d* group (getters & setters versus direct access) of
+ * {@link mma.comparators.pkg1.Compare_sc_gs_hh}.
+ * <p>
+ * One operation is one iteration of the original loops ; as the small (d1, d2) and big (d3, d4) variants
+ * only differ by their loop count, which JMH takes care of, only the two access styles are kept. The loop
+ * index is replaced by a field incremented at each operation.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+@SuppressWarnings("javadoc")
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 3)
+public class Jmh_d_access {
+  
+  protected int anInt;
+  private int   i;
+  private int   j;
+  
+  public final int z1_getAnInt() {
+    return anInt;
+  }
+  
+  public final void z2_setAnInt(final int aCpt) {
+    anInt = aCpt;
+  }
+  
+  @Benchmark
+  public int d1_access_getter_setter() {
+    i++;
+    z2_setAnInt(j + i + 1);
+    j = z1_getAnInt() - 1 - i;
+    return j;
+  }
+  
+  @Benchmark
+  public int d2_access_protected_variable() {
+    i++;
+    anInt = j + i + 1;
+    j = anInt - 1 - i;
+    return j;
+  }
+}
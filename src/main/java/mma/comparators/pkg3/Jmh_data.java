@@ -0,0 +1,30 @@
+package mma.comparators.pkg3;
+
+/**
+ * Data shared by the JMH benchmarks of this package, copied from
+ * {@link mma.comparators.pkg1.Compare_sc_gs_hh} (where they are private).
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+final class Jmh_data {
+  static final String LINE_64 = "azertyuiopqsdfghjklmwxcvbn1234567890AZERTYUIOPQSDFGHJKLMWXCVBNaz";
+  static final String LINE_26 = "azertyuiopqsdfghjklmwxcvbn";
+  static final String LINE_36 = "azertyuiopqsdfghjklmwxcvbn1234567890";
+  
+  private Jmh_data() {
+    // no instances
+  }
+  
+  /**
+   * @return the 64 boxed characters of LINE_64, as built in the Compare_sc_gs_hh constructor
+   */
+  static Object[] newObjArr64() {
+    final Object[] objArr64 = new Object[LINE_64.length()];
+    for (int i = 0; i < LINE_64.length(); i++) {
+      objArr64[i] = Character.valueOf(LINE_64.charAt(i));
+    }
+    return objArr64;
+  }
+}
@@ -0,0 +1,143 @@
+package mma.comparators.pkg3;
+
+import java.util.Hashtable;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH port of the e* to h* groups (Hashtables) of {@link mma.comparators.pkg1.Compare_sc_gs_hh}.
+ * <p>
+ * One operation is one iteration of the outer k loop of the original methods: 64 puts for e*, 10x64 puts
+ * for f* and g*, 10x64 gets for h*. The global maps are filled in the setup, so that the h* methods find
+ * them populated.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+@SuppressWarnings("javadoc")
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 3)
+public class Jmh_efgh_hashtable {
+  
+  private static final StringBuffer             STSB64      = new StringBuffer(Jmh_data.LINE_64);
+  private final Object[]                        objArr64    = Jmh_data.newObjArr64();
+  private final Hashtable<Object, StringBuffer> globDefHT   = new Hashtable<>();
+  private final Hashtable<Object, StringBuffer> globTunedHT = new Hashtable<>(101);
+  private final Hashtable<Object, StringBuffer> globOverHT  = new Hashtable<>(1001);
+  
+  @Setup(Level.Trial)
+  public void setup() {
+    for (int j = 0; j < 64; j++) {
+      globDefHT.put(objArr64[j], STSB64);
+      globTunedHT.put(objArr64[j], STSB64);
+      globOverHT.put(objArr64[j], STSB64);
+    }
+  }
+  
+  private int put_1x1_loc(final Hashtable<Object, StringBuffer> ht) {
+    for (int j = 0; j < 64; j++) {
+      ht.put(objArr64[j], STSB64);
+    }
+    return ht.size();
+  }
+  
+  private int put_1x10(final Hashtable<Object, StringBuffer> ht) {
+    int l = 0;
+    for (int i = 0; i < 10; i++) {
+      for (int j = 0; j < 64; j++) {
+        ht.put(objArr64[j], STSB64);
+      }
+      l += ht.size();
+    }
+    return l;
+  }
+  
+  private void get_1x10(final Hashtable<Object, StringBuffer> ht, final Blackhole aBh) {
+    for (int i = 0; i < 10; i++) {
+      for (int j = 0; j < 64; j++) {
+        aBh.consume(ht.get(objArr64[j]));
+      }
+    }
+  }
+  
+  @Benchmark
+  public int e1_ht_put_1000x1_loc_def() {
+    return put_1x1_loc(new Hashtable<Object, StringBuffer>());
+  }
+  
+  @Benchmark
+  public int e2_ht_put_1000x1_loc_tuned() {
+    return put_1x1_loc(new Hashtable<Object, StringBuffer>(101));
+  }
+  
+  @Benchmark
+  public int e3_ht_put_1000x1_loc_over() {
+    return put_1x1_loc(new Hashtable<Object, StringBuffer>(1001));
+  }
+  
+  @Benchmark
+  public int f1_ht_put_100x10_loc_def() {
+    return put_1x10(new Hashtable<Object, StringBuffer>());
+  }
+  
+  @Benchmark
+  public int f2_ht_put_100x10_loc_tuned() {
+    return put_1x10(new Hashtable<Object, StringBuffer>(101));
+  }
+  
+  @Benchmark
+  public int f3_ht_put_100x10_loc_over() {
+    return put_1x10(new Hashtable<Object, StringBuffer>(1001));
+  }
+  
+  @Benchmark
+  public int g1_ht_put_100x10_glob_def() {
+    globDefHT.clear();
+    return put_1x10(globDefHT);
+  }
+  
+  @Benchmark
+  public int g2_ht_put_100x10_glob_tuned() {
+    globTunedHT.clear();
+    return put_1x10(globTunedHT);
+  }
+  
+  @Benchmark
+  public int g3_ht_put_100x10_glob_over() {
+    globOverHT.clear();
+    return put_1x10(globOverHT);
+  }
+  
+  @Benchmark
+  public void h1_ht_get_100x10_glob_def(final Blackhole aBh) {
+    get_1x10(globDefHT, aBh);
+  }
+  
+  @Benchmark
+  public void h2_ht_get_100x10_glob_tuned(final Blackhole aBh) {
+    get_1x10(globTunedHT, aBh);
+  }
+  
+  @Benchmark
+  public void h3_ht_get_100x10_glob_over(final Blackhole aBh) {
+    get_1x10(globOverHT, aBh);
+  }
+}
@@ -0,0 +1,143 @@
+package mma.comparators.pkg3;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH port of the i* to l* groups (HashMaps) of {@link mma.comparators.pkg1.Compare_sc_gs_hh}.
+ * <p>
+ * One operation is one iteration of the outer k loop of the original methods: 64 puts for i*, 10x64 puts
+ * for j* and k*, 10x64 gets for l*. The global maps are filled in the setup, so that the l* methods find
+ * them populated.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+@SuppressWarnings("javadoc")
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 3)
+public class Jmh_ijkl_hashmap {
+  
+  private static final StringBuffer           STSB64      = new StringBuffer(Jmh_data.LINE_64);
+  private final Object[]                      objArr64    = Jmh_data.newObjArr64();
+  private final HashMap<Object, StringBuffer> globDefHM   = new HashMap<>();
+  private final HashMap<Object, StringBuffer> globTunedHM = new HashMap<>(128);
+  private final HashMap<Object, StringBuffer> globOverHM  = new HashMap<>(1024);
+  
+  @Setup(Level.Trial)
+  public void setup() {
+    for (int j = 0; j < 64; j++) {
+      globDefHM.put(objArr64[j], STSB64);
+      globTunedHM.put(objArr64[j], STSB64);
+      globOverHM.put(objArr64[j], STSB64);
+    }
+  }
+  
+  private int put_1x1_loc(final HashMap<Object, StringBuffer> hm) {
+    for (int j = 0; j < 64; j++) {
+      hm.put(objArr64[j], STSB64);
+    }
+    return hm.size();
+  }
+  
+  private int put_1x10(final HashMap<Object, StringBuffer> hm) {
+    int l = 0;
+    for (int i = 0; i < 10; i++) {
+      for (int j = 0; j < 64; j++) {
+        hm.put(objArr64[j], STSB64);
+      }
+      l += hm.size();
+    }
+    return l;
+  }
+  
+  private void get_1x10(final HashMap<Object, StringBuffer> hm, final Blackhole aBh) {
+    for (int i = 0; i < 10; i++) {
+      for (int j = 0; j < 64; j++) {
+        aBh.consume(hm.get(objArr64[j]));
+      }
+    }
+  }
+  
+  @Benchmark
+  public int i1_hm_put_1000x1_loc_def() {
+    return put_1x1_loc(new HashMap<Object, StringBuffer>());
+  }
+  
+  @Benchmark
+  public int i2_hm_put_1000x1_loc_tuned() {
+    return put_1x1_loc(new HashMap<Object, StringBuffer>(128));
+  }
+  
+  @Benchmark
+  public int i3_hm_put_1000x1_loc_over() {
+    return put_1x1_loc(new HashMap<Object, StringBuffer>(1024));
+  }
+  
+  @Benchmark
+  public int j1_hm_put_100x10_loc_def() {
+    return put_1x10(new HashMap<Object, StringBuffer>());
+  }
+  
+  @Benchmark
+  public int j2_hm_put_100x10_loc_tuned() {
+    return put_1x10(new HashMap<Object, StringBuffer>(128));
+  }
+  
+  @Benchmark
+  public int j3_hm_put_100x10_loc_over() {
+    return put_1x10(new HashMap<Object, StringBuffer>(1024));
+  }
+  
+  @Benchmark
+  public int k1_hm_put_100x10_glob_def() {
+    globDefHM.clear();
+    return put_1x10(globDefHM);
+  }
+  
+  @Benchmark
+  public int k2_hm_put_100x10_glob_tuned() {
+    globTunedHM.clear();
+    return put_1x10(globTunedHM);
+  }
+  
+  @Benchmark
+  public int k3_hm_put_100x10_glob_over() {
+    globOverHM.clear();
+    return put_1x10(globOverHM);
+  }
+  
+  @Benchmark
+  public void l1_hm_get_100x10_glob_def(final Blackhole aBh) {
+    get_1x10(globDefHM, aBh);
+  }
+  
+  @Benchmark
+  public void l2_hm_get_100x10_glob_tuned(final Blackhole aBh) {
+    get_1x10(globTunedHM, aBh);
+  }
+  
+  @Benchmark
+  public void l3_hm_get_100x10_glob_over(final Blackhole aBh) {
+    get_1x10(globOverHM, aBh);
+  }
+}
@@ -0,0 +1,588 @@
+package mma.comparators.pkg3;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH port of {@link mma.comparators.pkg2.Compare_param_assigned}.
+ * <p>
+ * The called method is selected by 3 parameters:
+ * <ul>
+ * <li>visibility: public (mu*), protected (mo*), package (mp*), private (mi*)
+ * <li>finalMethod: false (mx*) or true (mxf*)
+ * <li>param: assigned (<code>aI++</code>), local (<code>long i = aI; i++;</code>) or final_local (same with a
+ * final parameter, mx*_f)
+ * </ul>
+ * Unlike the original methods, the called methods return their result, which is consumed through a
+ * Blackhole, so the JIT cannot eliminate them.<br>
+ * Each method exists in 2 copies, one forced inline (*_inl, called by the inline benchmark) and one never
+ * inlined (*_dnl, called by the dont_inline benchmark): a difference seen only in the inline benchmark comes
+ * from the caller optimizations, a difference seen in both comes from the method code itself.<br>
+ * The variant dispatch (a switch on a field set in the setup) is the same for all the variants, so it
+ * does not bias the comparisons.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+@SuppressWarnings({
+    "static-method", "javadoc"
+})
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 3)
+public class Jmh_param_assigned {
+  
+  @Param({
+      "public", "protected", "package", "private"
+  })
+  private String  visibility;
+  
+  @Param({
+      "false", "true"
+  })
+  private boolean finalMethod;
+  
+  @Param({
+      "assigned", "local", "final_local"
+  })
+  private String  param;
+  
+  /** The index of the called variant: visibility * 6 + finalMethod * 3 + param */
+  private int     variant;
+  
+  /** The argument passed to the called methods, incremented at each call */
+  private long    arg;
+  
+  @Setup(Level.Trial)
+  public void setup() {
+    variant = (indexOf(visibility, "public", "protected", "package", "private") * 6) + (finalMethod ? 3 : 0)
+        + indexOf(param, "assigned", "local", "final_local");
+  }
+  
+  private static int indexOf(final String aVal, final String... aVals) {
+    for (int i = 0; i < aVals.length; i++) {
+      if (aVals[i].equals(aVal)) {
+        return i;
+      }
+    }
+    throw new IllegalArgumentException("Unknown parameter value " + aVal);
+  }
+  
+  @Benchmark
+  public void inline(final Blackhole aBh) {
+    final long a = arg++;
+    switch (variant) {
+      case 0:
+        aBh.consume(mu_inl(a));
+        break;
+      case 1:
+        aBh.consume(mun_inl(a));
+        break;
+      case 2:
+        aBh.consume(mu_f_inl(a));
+        break;
+      case 3:
+        aBh.consume(muf_inl(a));
+        break;
+      case 4:
+        aBh.consume(mufn_inl(a));
+        break;
+      case 5:
+        aBh.consume(muf_f_inl(a));
+        break;
+      case 6:
+        aBh.consume(mo_inl(a));
+        break;
+      case 7:
+        aBh.consume(mon_inl(a));
+        break;
+      case 8:
+        aBh.consume(mo_f_inl(a));
+        break;
+      case 9:
+        aBh.consume(mof_inl(a));
+        break;
+      case 10:
+        aBh.consume(mofn_inl(a));
+        break;
+      case 11:
+        aBh.consume(mof_f_inl(a));
+        break;
+      case 12:
+        aBh.consume(mp_inl(a));
+        break;
+      case 13:
+        aBh.consume(mpn_inl(a));
+        break;
+      case 14:
+        aBh.consume(mp_f_inl(a));
+        break;
+      case 15:
+        aBh.consume(mpf_inl(a));
+        break;
+      case 16:
+        aBh.consume(mpfn_inl(a));
+        break;
+      case 17:
+        aBh.consume(mpf_f_inl(a));
+        break;
+      case 18:
+        aBh.consume(mi_inl(a));
+        break;
+      case 19:
+        aBh.consume(min_inl(a));
+        break;
+      case 20:
+        aBh.consume(mi_f_inl(a));
+        break;
+      case 21:
+        aBh.consume(mif_inl(a));
+        break;
+      case 22:
+        aBh.consume(mifn_inl(a));
+        break;
+      case 23:
+        aBh.consume(mif_f_inl(a));
+        break;
+      default:
+        throw new IllegalStateException("Unknown variant " + variant);
+    }
+  }
+  
+  @Benchmark
+  public void dont_inline(final Blackhole aBh) {
+    final long a = arg++;
+    switch (variant) {
+      case 0:
+        aBh.consume(mu_dnl(a));
+        break;
+      case 1:
+        aBh.consume(mun_dnl(a));
+        break;
+      case 2:
+        aBh.consume(mu_f_dnl(a));
+        break;
+      case 3:
+        aBh.consume(muf_dnl(a));
+        break;
+      case 4:
+        aBh.consume(mufn_dnl(a));
+        break;
+      case 5:
+        aBh.consume(muf_f_dnl(a));
+        break;
+      case 6:
+        aBh.consume(mo_dnl(a));
+        break;
+      case 7:
+        aBh.consume(mon_dnl(a));
+        break;
+      case 8:
+        aBh.consume(mo_f_dnl(a));
+        break;
+      case 9:
+        aBh.consume(mof_dnl(a));
+        break;
+      case 10:
+        aBh.consume(mofn_dnl(a));
+        break;
+      case 11:
+        aBh.consume(mof_f_dnl(a));
+        break;
+      case 12:
+        aBh.consume(mp_dnl(a));
+        break;
+      case 13:
+        aBh.consume(mpn_dnl(a));
+        break;
+      case 14:
+        aBh.consume(mp_f_dnl(a));
+        break;
+      case 15:
+        aBh.consume(mpf_dnl(a));
+        break;
+      case 16:
+        aBh.consume(mpfn_dnl(a));
+        break;
+      case 17:
+        aBh.consume(mpf_f_dnl(a));
+        break;
+      case 18:
+        aBh.consume(mi_dnl(a));
+        break;
+      case 19:
+        aBh.consume(min_dnl(a));
+        break;
+      case 20:
+        aBh.consume(mi_f_dnl(a));
+        break;
+      case 21:
+        aBh.consume(mif_dnl(a));
+        break;
+      case 22:
+        aBh.consume(mifn_dnl(a));
+        break;
+      case 23:
+        aBh.consume(mif_f_dnl(a));
+        break;
+      default:
+        throw new IllegalStateException("Unknown variant " + variant);
+    }
+  }
+  
+  /* public, inlined */
+  
+  @CompilerControl(CompilerControl.Mode.INLINE)
+  public long mu_inl(long aI) {
+    aI++;
+    return aI;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.INLINE)
+  public long mun_inl(long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.INLINE)
+  public long mu_f_inl(final long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.INLINE)
+  public final long muf_inl(long aI) {
+    aI++;
+    return aI;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.INLINE)
+  public final long mufn_inl(long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.INLINE)
+  public final long muf_f_inl(final long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  /* public, not inlined */
+  
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  public long mu_dnl(long aI) {
+    aI++;
+    return aI;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  public long mun_dnl(long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  public long mu_f_dnl(final long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  public final long muf_dnl(long aI) {
+    aI++;
+    return aI;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  public final long mufn_dnl(long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  public final long muf_f_dnl(final long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  /* protected, inlined */
+  
+  @CompilerControl(CompilerControl.Mode.INLINE)
+  protected long mo_inl(long aI) {
+    aI++;
+    return aI;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.INLINE)
+  protected long mon_inl(long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.INLINE)
+  protected long mo_f_inl(final long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.INLINE)
+  protected final long mof_inl(long aI) {
+    aI++;
+    return aI;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.INLINE)
+  protected final long mofn_inl(long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.INLINE)
+  protected final long mof_f_inl(final long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  /* protected, not inlined */
+  
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  protected long mo_dnl(long aI) {
+    aI++;
+    return aI;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  protected long mon_dnl(long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  protected long mo_f_dnl(final long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  protected final long mof_dnl(long aI) {
+    aI++;
+    return aI;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  protected final long mofn_dnl(long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  protected final long mof_f_dnl(final long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  /* package, inlined */
+  
+  @CompilerControl(CompilerControl.Mode.INLINE)
+  long mp_inl(long aI) {
+    aI++;
+    return aI;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.INLINE)
+  long mpn_inl(long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.INLINE)
+  long mp_f_inl(final long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.INLINE)
+  final long mpf_inl(long aI) {
+    aI++;
+    return aI;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.INLINE)
+  final long mpfn_inl(long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.INLINE)
+  final long mpf_f_inl(final long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  /* package, not inlined */
+  
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  long mp_dnl(long aI) {
+    aI++;
+    return aI;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  long mpn_dnl(long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  long mp_f_dnl(final long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  final long mpf_dnl(long aI) {
+    aI++;
+    return aI;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  final long mpfn_dnl(long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  final long mpf_f_dnl(final long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  /* private, inlined */
+  
+  @CompilerControl(CompilerControl.Mode.INLINE)
+  private long mi_inl(long aI) {
+    aI++;
+    return aI;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.INLINE)
+  private long min_inl(long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.INLINE)
+  private long mi_f_inl(final long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.INLINE)
+  private final long mif_inl(long aI) {
+    aI++;
+    return aI;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.INLINE)
+  private final long mifn_inl(long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.INLINE)
+  private final long mif_f_inl(final long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  /* private, not inlined */
+  
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  private long mi_dnl(long aI) {
+    aI++;
+    return aI;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  private long min_dnl(long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  private long mi_f_dnl(final long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  private final long mif_dnl(long aI) {
+    aI++;
+    return aI;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  private final long mifn_dnl(long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  private final long mif_f_dnl(final long aI) {
+    long i = aI;
+    i++;
+    return i;
+  }
+  
+}
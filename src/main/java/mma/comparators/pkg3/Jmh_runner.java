@@ -0,0 +1,42 @@
+package mma.comparators.pkg3;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Launcher of the JMH benchmarks of this package, writing the results in JSON.
+ * <p>
+ * Each benchmark class (one per group of {@link mma.comparators.pkg1.Compare_sc_gs_hh}) declares its own
+ * fork count, so each group (and in fact each benchmark method) runs in its own JVMs.<br>
+ * It is equivalent to
+ * <code>java -jar benchmarks.jar mma.comparators.pkg3 -rf json -rff &lt;file&gt;</code>.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public class Jmh_runner {
+  
+  /** The default JSON result file name */
+  public static final String DEF_RESULT_FILE = "jmh_pkg3.json";
+  
+  /**
+   * @param args the command line parameters: optional JSON result file name, optional benchmarks regexp
+   *          (default: all the benchmarks of this package)
+   * @throws RunnerException if JMH fails
+   */
+  public static void main(final String[] args) throws RunnerException {
+    final String file = args.length > 0 ? args[0] : DEF_RESULT_FILE;
+    final String regexp = args.length > 1 ? args[1] : Jmh_runner.class.getPackage().getName() + ".Jmh_";
+    final Options opt = new OptionsBuilder() //
+        .include(regexp) //
+        .resultFormat(ResultFormatType.JSON) //
+        .result(file) //
+        .build();
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,116 @@
+package mma.comparators.pkg4;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import mma.bench.core.Runner;
+import mma.comparators.pkg1.CharScans;
+
+/**
+ * Program comparing the character class scans of the for loops group of
+ * {@link mma.comparators.pkg1.Compare_sc_gs_hh} (scalar with and without branch, SWAR, see {@link CharScans})
+ * with the Vector API (<code>jdk.incubator.vector</code>, JDK &ge; 16, to be compiled and run with
+ * <code>--add-modules jdk.incubator.vector</code>), on byte arrays of the bench.sizes sizes (default 64 and 4k).
+ * <p>
+ * An operation is the scan of one byte, so the times are per byte.<br>
+ * To check the auto vectorization of the scalar loops by C2, compare the runs with and without
+ * <code>-XX:-UseSuperWord</code> (see src/main/resources/variants-superword.txt).
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public class Compare_vector_scan {
+  
+  /** The number of bytes scanned by a call */
+  private static final int                 BYTES_PER_CALL = 640 * 1024;
+  /** The text repeated to fill the arrays */
+  private static final String              LINE_64        = "azertyuiopqsdfghjklmwxcvbn1234567890"
+      + "AZERTYUIOPQSDFGHJKLMWXCVBNaz";
+  /** The preferred byte vector species of the platform */
+  private static final VectorSpecies<Byte> SPECIES        = ByteVector.SPECIES_PREFERRED;
+  
+  private Compare_vector_scan() {
+    // no instances
+  }
+  
+  /**
+   * @param aBytes the bytes
+   * @return the number of ASCII digits, tested a vector of bytes at a time (the last bytes one at a time)
+   */
+  static int digitsVector(final byte[] aBytes) {
+    int n = 0;
+    final int end = SPECIES.loopBound(aBytes.length);
+    int i = 0;
+    for (; i < end; i += SPECIES.length()) {
+      final ByteVector v = ByteVector.fromArray(SPECIES, aBytes, i);
+      n += v.compare(VectorOperators.GE, (byte) '0').and(v.compare(VectorOperators.LE, (byte) '9')).trueCount();
+    }
+    for (; i < aBytes.length; i++) {
+      final byte b = aBytes[i];
+      if (b >= '0' && b <= '9') {
+        n++;
+      }
+    }
+    return n;
+  }
+  
+  /**
+   * Measures the scans with the bench core runner (see {@link Runner} for its system properties), in group c.
+   *
+   * @param aArgs the command line parameters (not used)
+   */
+  public static void main(final String[] aArgs) {
+    System.out.println("Vector species : " + SPECIES + ", " + SPECIES.length() + " bytes");
+    final Runner r = new Runner("Compare_vector_scan");
+    for (final long s : r.sizes("64,4k")) {
+      final int size = (int) s;
+      final StringBuilder sb = new StringBuilder(size + 64);
+      while (sb.length() < size) {
+        sb.append(LINE_64);
+      }
+      final byte[] bytes = sb.substring(0, size).getBytes(StandardCharsets.ISO_8859_1);
+      final ByteBuffer words = CharScans.words(bytes);
+      final int expected = CharScans.digits(bytes);
+      if (digitsVector(bytes) != expected || CharScans.digitsSwar(words) != expected
+          || CharScans.digitsBranchFree(bytes) != expected) {
+        throw new IllegalStateException("Scans differ on " + size + " bytes");
+      }
+      final int scans = Math.max(1, BYTES_PER_CALL / size);
+      final long ops = (long) scans * size;
+      r.run("c", "c5_scan_bytes_" + size, ops, Runner.UNIT_ELEMENT, () -> {
+        int l = 0;
+        for (int i = 0; i < scans; i++) {
+          l += CharScans.digits(bytes);
+        }
+        return l;
+      });
+      r.run("c", "c6_scan_bytes_branch_free_" + size, ops, Runner.UNIT_ELEMENT, () -> {
+        int l = 0;
+        for (int i = 0; i < scans; i++) {
+          l += CharScans.digitsBranchFree(bytes);
+        }
+        return l;
+      });
+      r.run("c", "c7_scan_bytes_swar_" + size, ops, Runner.UNIT_ELEMENT, () -> {
+        int l = 0;
+        for (int i = 0; i < scans; i++) {
+          l += CharScans.digitsSwar(words);
+        }
+        return l;
+      });
+      r.run("c", "c8_scan_bytes_vector_" + size, ops, Runner.UNIT_ELEMENT, () -> {
+        int l = 0;
+        for (int i = 0; i < scans; i++) {
+          l += digitsVector(bytes);
+        }
+        return l;
+      });
+    }
+    r.finish();
+  }
+}
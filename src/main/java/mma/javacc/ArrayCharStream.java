@@ -0,0 +1,209 @@
+package mma.javacc;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A JavaCC character stream over characters already in memory (a <code>char[]</code>), for the token managers
+ * generated with the <code>USER_CHAR_STREAM</code> option.
+ * <p>
+ * It has the methods of the <code>CharStream</code> interface JavaCC generates in the parser package ; as that
+ * interface only exists once the parser is generated, a generated subclass declares it (e.g.
+ * <code>public final class ArrayStream extends mma.javacc.ArrayCharStream implements CharStream</code>).<br>
+ * Compared to SimpleCharStream / JavaCharStream over a {@link java.io.Reader}, there is no reading, no buffer
+ * filling nor expansion, and no per character line / column update: the lines starts are found in a single scan
+ * at construction, and the lines and columns of the tokens are computed from their positions (by a cursor moving
+ * along the lines, the tokens positions increasing).<br>
+ * The columns count a tab as one column (the JavaCC 7 default tab size), the unicode escapes are not processed
+ * (as with the JAVA_UNICODE_ESCAPE option off).
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public class ArrayCharStream {
+  
+  private final char[] buf;
+  private final int    start;
+  private final int    end;
+  /** The position of the next character to read */
+  private int          pos;
+  /** The position of the first character of the current token */
+  private int          tokenBegin;
+  /** The positions of the lines starts */
+  private int[]        lines           = new int[64];
+  /** The number of lines */
+  private int          nbLines;
+  /** The index of the line of the last position queried */
+  private int          cursor;
+  private int          tabSize         = 1;
+  private boolean      trackLineColumn = true;
+  
+  /**
+   * Constructor.
+   *
+   * @param aBuf the characters
+   * @param aStart the position of the first character
+   * @param aEnd the position after the last character
+   */
+  public ArrayCharStream(final char[] aBuf, final int aStart, final int aEnd) {
+    buf = aBuf;
+    start = aStart;
+    end = aEnd;
+    pos = aStart;
+    tokenBegin = aStart;
+    lines[nbLines++] = aStart;
+    for (int i = aStart; i < aEnd; i++) {
+      final char c = aBuf[i];
+      if (c == '\n' || c == '\r' && (i + 1 == aEnd || aBuf[i + 1] != '\n')) {
+        if (nbLines == lines.length) {
+          lines = Arrays.copyOf(lines, 2 * nbLines);
+        }
+        lines[nbLines++] = i + 1;
+      }
+    }
+  }
+  
+  /**
+   * @return the next character
+   * @throws IOException at the end of the characters
+   */
+  public char readChar() throws IOException {
+    if (pos >= end) {
+      throw new IOException("End of stream");
+    }
+    return buf[pos++];
+  }
+  
+  /**
+   * @return the first character of a new token
+   * @throws IOException at the end of the characters
+   */
+  public char BeginToken() throws IOException {
+    tokenBegin = pos;
+    return readChar();
+  }
+  
+  /**
+   * @param aAmount the number of characters to read again
+   */
+  public void backup(final int aAmount) {
+    pos -= aAmount;
+  }
+  
+  /**
+   * @return the image of the current token
+   */
+  public String GetImage() {
+    return new String(buf, tokenBegin, pos - tokenBegin);
+  }
+  
+  /**
+   * @param aLen a length
+   * @return the last characters read
+   */
+  public char[] GetSuffix(final int aLen) {
+    final char[] s = new char[aLen];
+    System.arraycopy(buf, pos - aLen, s, 0, aLen);
+    return s;
+  }
+  
+  /**
+   * Releases the resources (none).
+   */
+  public void Done() {
+    // nothing to release
+  }
+  
+  /**
+   * @param aPos a position
+   * @return the index of its line
+   */
+  private int line(final int aPos) {
+    int c = cursor;
+    while (c + 1 < nbLines && lines[c + 1] <= aPos) {
+      c++;
+    }
+    while (c > 0 && lines[c] > aPos) {
+      c--;
+    }
+    cursor = c;
+    return c;
+  }
+  
+  /**
+   * @return the line of the first character of the current token
+   */
+  public int getBeginLine() {
+    return line(tokenBegin) + 1;
+  }
+  
+  /**
+   * @return the column of the first character of the current token
+   */
+  public int getBeginColumn() {
+    return tokenBegin - lines[line(tokenBegin)] + 1;
+  }
+  
+  /**
+   * @return the line of the last character read
+   */
+  public int getEndLine() {
+    return line(Math.max(start, pos - 1)) + 1;
+  }
+  
+  /**
+   * @return the column of the last character read
+   */
+  public int getEndColumn() {
+    final int p = Math.max(start, pos - 1);
+    return p - lines[line(p)] + 1;
+  }
+  
+  /**
+   * @return the line of the last character read
+   * @deprecated see {@link #getEndLine()}
+   */
+  @Deprecated
+  public int getLine() {
+    return getEndLine();
+  }
+  
+  /**
+   * @return the column of the last character read
+   * @deprecated see {@link #getEndColumn()}
+   */
+  @Deprecated
+  public int getColumn() {
+    return getEndColumn();
+  }
+  
+  /**
+   * @param aTabSize the tab size (kept, but the tabs count as one column)
+   */
+  public void setTabSize(final int aTabSize) {
+    tabSize = aTabSize;
+  }
+  
+  /**
+   * @return the tab size
+   */
+  public int getTabSize() {
+    return tabSize;
+  }
+  
+  /**
+   * @return the line and column tracking flag (kept, but the lines and columns are always computed)
+   */
+  public boolean getTrackLineColumn() {
+    return trackLineColumn;
+  }
+  
+  /**
+   * @param aTrackLineColumn the line and column tracking flag
+   */
+  public void setTrackLineColumn(final boolean aTrackLineColumn) {
+    trackLineColumn = aTrackLineColumn;
+  }
+}
@@ -0,0 +1,274 @@
+package mma.javacc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import mma.bench.core.Result;
+import mma.bench.core.Runner;
+
+/**
+ * Program comparing the character streams of the JavaCC token managers of the Java grammar (see {@link Grammar}),
+ * on inputs of several sizes made of the corpus files (see {@link Corpus}): the lexer throughput and the bytes
+ * allocated per token and per input byte.
+ * <p>
+ * The lexers (an operation being a token, a call the lexing of an input, through the token manager
+ * <code>getNextToken()</code> until the end of file):
+ * <ul>
+ * <li>l1_simple_reader: the generated SimpleCharStream (JAVA_UNICODE_ESCAPE off) over an
+ * {@link java.io.InputStreamReader} on the input file
+ * <li>l2_java_reader: the generated JavaCharStream (JAVA_UNICODE_ESCAPE on, the grammar as is) over an
+ * {@link java.io.InputStreamReader} on the input file
+ * <li>l3_mapped: a {@link MappedCharStream} (USER_CHAR_STREAM on), the input file being mapped and decoded in bulk
+ * <li>l4_array: an {@link ArrayCharStream} (USER_CHAR_STREAM on) on the input characters, preloaded (so without
+ * reading nor decoding)
+ * </ul>
+ * The three grammar variants are generated by JavaCC (javacc.javaccDir, see {@link Generator}) with the options
+ * changed, and compiled with a lexer driver (and the subclasses of the two streams declaring the generated
+ * CharStream interface) by the compiler of the running JDK.<br>
+ * The inputs are written in a temporary directory of <i>javacc.dir</i> (default java.io.tmpdir), of the
+ * bench.sizes sizes (default {@value #DEF_SIZES}), filled with the corpus files which fit (so slightly smaller) ;
+ * the files are read from the file system cache, so the measures are for hot files.<br>
+ * After the group, a ';' separated table gives per method the input size, the MB/s, the tokens/s and the bytes
+ * allocated per token and per input byte.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public class Compare_char_streams {
+  
+  /** The default inputs sizes */
+  static final String          DEF_SIZES = "4k,64k,1m,16m";
+  
+  private static final Pattern OPTIONS   = Pattern.compile("options\\s*\\{");
+  
+  private Compare_char_streams() {
+    // no instances
+  }
+  
+  /**
+   * Measures the lexers with the bench core runner (see {@link Runner} for its system properties).
+   *
+   * @param aArgs the command line parameters (not used)
+   * @throws IOException if the grammar or the corpus cannot be read or the inputs cannot be written
+   */
+  public static void main(final String[] aArgs) throws IOException {
+    final Grammar g = Grammar.named(Compare_parsing.GRAMMAR);
+    final Corpus c = new Corpus();
+    final Runner r = new Runner("Compare_char_streams");
+    final File work = Generator.workDir("char-streams-");
+    try {
+      Generator javacc = null;
+      for (final Generator gen : Generator.configured()) {
+        if (Generator.JAVACC.equals(gen.name)) {
+          javacc = gen;
+        }
+      }
+      if (javacc == null) {
+        throw new IllegalStateException("Generator " + Generator.JAVACC + " not configured (see "
+            + Generator.class.getName() + ")");
+      }
+      final String tm = g.parser + "TokenManager";
+      final Map<String, ToIntFunction<Object>> lexers = new LinkedHashMap<>();
+      lexers.put("l1_simple_reader", lexers(javacc, g, new File(work, "simple"), new String[] {
+          "JAVA_UNICODE_ESCAPE", "false"
+      }, "ReaderLexer", lexer(g.pkg, "ReaderLexer", tm, "new SimpleCharStream(r)", true)).get(0));
+      lexers.put("l2_java_reader", lexers(javacc, g, new File(work, "java"), new String[0], "ReaderLexer",
+          lexer(g.pkg, "ReaderLexer", tm, "new JavaCharStream(r)", true)).get(0));
+      final List<ToIntFunction<Object>> user = lexers(javacc, g, new File(work, "user"), new String[] {
+          "JAVA_UNICODE_ESCAPE", "false", "USER_CHAR_STREAM", "true"
+      }, "MappedLexer", lexer(g.pkg, "MappedLexer", tm, "new MappedStream((java.nio.file.Path) aInput)", false),
+          "MappedStream", adapter(g.pkg, "MappedStream", MappedCharStream.class, "final java.nio.file.Path aFile",
+              "aFile"),
+          "ArrayLexer", lexer(g.pkg, "ArrayLexer", tm,
+              "new ArrayStream((char[]) aInput, 0, ((char[]) aInput).length)", false),
+          "ArrayStream", adapter(g.pkg, "ArrayStream", ArrayCharStream.class,
+              "final char[] aBuf, final int aStart, final int aEnd", "aBuf, aStart, aEnd"));
+      lexers.put("l3_mapped", user.get(0));
+      lexers.put("l4_array", user.get(1));
+      final List<String[]> rows = new ArrayList<>();
+      for (final long size : r.sizes(DEF_SIZES)) {
+        final byte[] bytes = input(c, size);
+        if (bytes.length == 0) {
+          System.out.println("No input of " + size + " bytes : no corpus file is small enough");
+          continue;
+        }
+        final Path file = new File(work, "input-" + size + ".java").toPath();
+        Files.write(file, bytes);
+        final CharBuffer cb = MappedCharStream.decode(file);
+        final char[] chars = Arrays.copyOfRange(cb.array(), cb.arrayOffset(), cb.arrayOffset() + cb.limit());
+        for (final Map.Entry<String, ToIntFunction<Object>> e : lexers.entrySet()) {
+          final ToIntFunction<Object> l = e.getValue();
+          final Object in = "l4_array".equals(e.getKey()) ? chars : file;
+          final long tokens = l.applyAsInt(in);
+          final Result res = r.run("l", e.getKey() + "_" + size, tokens, Runner.UNIT_ELEMENT,
+              () -> l.applyAsInt(in));
+          if (res != null) {
+            final double tps = res.opsPerSec();
+            final double bpt = (double) bytes.length / tokens;
+            rows.add(new String[] {
+                res.method, Integer.toString(bytes.length), Long.toString(tokens),
+                Compare_parsing.fmt(tps * bpt / (1024 * 1024)), Compare_parsing.fmt(tps),
+                Compare_parsing.fmt(res.allocBytesPerOp),
+                Compare_parsing.fmt(res.allocBytesPerOp < 0 ? -1 : res.allocBytesPerOp / bpt)
+            });
+          }
+        }
+      }
+      if (!rows.isEmpty()) {
+        System.out.println("lexing throughput");
+        System.out.println("#method;bytes;tokens;MBperSec;tokensPerSec;allocBytesPerToken;allocBytesPerByte");
+        for (final String[] row : rows) {
+          System.out.println(String.join(";", row));
+        }
+      }
+    } finally {
+      Generator.delete(work);
+    }
+    r.finish();
+  }
+  
+  /**
+   * @param aCorpus the corpus
+   * @param aSize the input size
+   * @return the concatenation of the corpus files which fit in the size, the corpus being read again while a file
+   *         fits
+   */
+  private static byte[] input(final Corpus aCorpus, final long aSize) {
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream((int) Math.min(aSize, Integer.MAX_VALUE - 8));
+    boolean added = true;
+    while (added) {
+      added = false;
+      for (final byte[] s : aCorpus.sources) {
+        if (bos.size() + (long) s.length <= aSize) {
+          bos.write(s, 0, s.length);
+          added = true;
+        }
+      }
+    }
+    return bos.toByteArray();
+  }
+  
+  /**
+   * Generates a variant of a grammar with JavaCC, and compiles it with additional classes.
+   *
+   * @param aJavacc the JavaCC generator
+   * @param aGrammar the grammar
+   * @param aDir the work directory of the variant
+   * @param aOptions the changed options, as name and value pairs
+   * @param aClasses the additional classes, as simple name and source pairs, the lexers (implementing
+   *          ToIntFunction) first
+   * @return the lexers (the additional classes implementing ToIntFunction), in their order
+   * @throws IOException if the variant cannot be written
+   * @throws IllegalStateException if the generation, the compilation or the loading fails
+   */
+  @SuppressWarnings("unchecked")
+  private static List<ToIntFunction<Object>> lexers(final Generator aJavacc, final Grammar aGrammar,
+      final File aDir, final String[] aOptions, final String... aClasses) throws IOException {
+    String s = new String(Files.readAllBytes(aGrammar.file.toPath()), StandardCharsets.ISO_8859_1);
+    for (int i = 0; i < aOptions.length; i += 2) {
+      final Matcher m = Pattern.compile("\\b" + aOptions[i] + "\\s*=\\s*\\w+\\s*;").matcher(s);
+      final String o = aOptions[i] + " = " + aOptions[i + 1] + ";";
+      s = m.find() ? m.replaceFirst(o) : OPTIONS.matcher(s).replaceFirst("options {\n  " + o);
+    }
+    aDir.mkdirs();
+    final File jj = new File(aDir, aGrammar.file.getName());
+    Files.write(jj.toPath(), s.getBytes(StandardCharsets.ISO_8859_1));
+    final Grammar variant = new Grammar(jj);
+    final File src = new File(aDir, "src");
+    final File classes = new File(aDir, "classes");
+    aJavacc.generate(variant, src);
+    for (int i = 0; i < aClasses.length; i += 2) {
+      Files.write(new File(src, aClasses[i] + ".java").toPath(), aClasses[i + 1].getBytes(StandardCharsets.UTF_8));
+    }
+    GeneratedParser.compile(src, classes, System.getProperty("java.class.path"), "the lexers of " + jj);
+    final List<ToIntFunction<Object>> lexers = new ArrayList<>();
+    try {
+      @SuppressWarnings("resource")
+      final URLClassLoader cl = new URLClassLoader(new URL[] {
+          classes.toURI().toURL()
+      }, Compare_char_streams.class.getClassLoader());
+      for (int i = 0; i < aClasses.length; i += 2) {
+        final Class<?> k = Class.forName(aGrammar.pkg.isEmpty() ? aClasses[i] : aGrammar.pkg + "." + aClasses[i],
+            true, cl);
+        if (ToIntFunction.class.isAssignableFrom(k)) {
+          lexers.add((ToIntFunction<Object>) k.getConstructor().newInstance());
+        }
+      }
+    } catch (final ReflectiveOperationException e) {
+      throw new IllegalStateException("Cannot load the lexers of " + jj, e);
+    }
+    return lexers;
+  }
+  
+  /**
+   * @param aPkg the parser package
+   * @return the package declaration
+   */
+  private static String pkg(final String aPkg) {
+    return aPkg.isEmpty() ? "" : "package " + aPkg + ";\n\n";
+  }
+  
+  /**
+   * @param aPkg the parser package
+   * @param aClass the lexer class
+   * @param aTm the token manager class
+   * @param aStream the expression creating the stream from aInput (or from the reader r)
+   * @param aReader true to open the reader r on the input file
+   * @return the source of the lexer class, counting the tokens of the input given to applyAsInt
+   */
+  private static String lexer(final String aPkg, final String aClass, final String aTm, final String aStream,
+      final boolean aReader) {
+    final StringBuilder sb = new StringBuilder(1024);
+    sb.append("// Generated by ").append(Compare_char_streams.class.getName()).append("\n\n");
+    sb.append(pkg(aPkg));
+    sb.append("public final class ").append(aClass);
+    sb.append(" implements java.util.function.ToIntFunction<Object> {\n\n");
+    sb.append("  @Override\n  public int applyAsInt(final Object aInput) {\n");
+    sb.append(aReader ? "    try (java.io.Reader r = new java.io.InputStreamReader(\n"
+        + "        java.nio.file.Files.newInputStream((java.nio.file.Path) aInput),\n"
+        + "        java.nio.charset.StandardCharsets.UTF_8)) {\n" : "    try {\n");
+    sb.append("      final ").append(aTm).append(" tm = new ").append(aTm).append('(').append(aStream).append(");\n");
+    sb.append("      int n = 0;\n      while (tm.getNextToken().kind != 0) {\n        n++;\n      }\n");
+    sb.append("      return n;\n    } catch (final java.io.IOException e) {\n");
+    sb.append("      throw new java.io.UncheckedIOException(e);\n    }\n  }\n}\n");
+    return sb.toString();
+  }
+  
+  /**
+   * @param aPkg the parser package
+   * @param aClass the adapter class
+   * @param aSuper the stream class
+   * @param aParams the constructor parameters
+   * @param aArgs the super constructor arguments
+   * @return the source of the subclass of the stream declaring the generated CharStream interface
+   */
+  private static String adapter(final String aPkg, final String aClass, final Class<?> aSuper,
+      final String aParams, final String aArgs) {
+    final StringBuilder sb = new StringBuilder(512);
+    sb.append("// Generated by ").append(Compare_char_streams.class.getName()).append("\n\n");
+    sb.append(pkg(aPkg));
+    sb.append("public final class ").append(aClass).append(" extends ").append(aSuper.getName())
+        .append(" implements CharStream {\n\n");
+    sb.append("  public ").append(aClass).append('(').append(aParams).append(") throws java.io.IOException {\n");
+    sb.append("    super(").append(aArgs).append(");\n  }\n}\n");
+    return sb.toString();
+  }
+}
+  
\ No newline at end of file
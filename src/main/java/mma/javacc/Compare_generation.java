@@ -0,0 +1,125 @@
+package mma.javacc;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import mma.bench.core.Allocations;
+import mma.bench.core.Runner;
+
+/**
+ * Program comparing the parser generators (JavaCC, JTB followed by JavaCC, JavaCC21, see {@link Generator}) on
+ * the grammars corpus (see {@link Grammar}, from a small expressions grammar to a full Java grammar): the wall
+ * time, the peak heap and the bytes allocated by a generation, per generator and grammar, to choose a generator
+ * and a JDK for the builds.
+ * <p>
+ * Groups:
+ * <ul>
+ * <li>g: in process generations (g1 JavaCC, g2 JTB + JavaCC, g3 JavaCC21), the generators classes being loaded
+ * once and compiled by the JIT along the iterations, as in a build daemon
+ * <li>f: forked generations (f1 to f3), each call starting a JVM of the same JDK, as in a command line build ;
+ * the time includes the JVM startup and the generator classes loading and interpretation
+ * </ul>
+ * An operation is a generation of all the files of a grammar, in an emptied output directory.<br>
+ * After each group, the peak heap (after a GC, see {@link Memory}) and the bytes allocated by a generation are
+ * printed per method, as a ';' separated table ; for the forks, they are the ones of the forked JVM.<br>
+ * The outputs are written in a temporary directory of <i>javacc.dir</i> (default java.io.tmpdir), deleted at the
+ * end.<br>
+ * With the matrix, the javacc.* system properties are passed to the forks, e.g.:<br>
+ * <code>-Djavacc.javaccDir=lib/javacc -Djavacc.jtbDir=lib/jtb mma.bench.matrix.Matrix
+ * mma.javacc.Compare_generation:g,f</code>
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public class Compare_generation {
+  
+  private Compare_generation() {
+    // no instances
+  }
+  
+  /**
+   * Measures the generations with the bench core runner (see {@link Runner} for its system properties).
+   *
+   * @param aArgs the command line parameters (not used)
+   * @throws IOException if the grammars cannot be read or the output directory cannot be created
+   */
+  public static void main(final String[] aArgs) throws IOException {
+    final List<Grammar> grammars = Grammar.load();
+    for (final Grammar g : grammars) {
+      System.out.println("Grammar " + g);
+    }
+    final List<Generator> gens = Generator.configured();
+    final Runner r = new Runner("Compare_generation");
+    final File work = Generator.workDir("generation-");
+    try {
+      if (r.accepts("g")) {
+        final List<String[]> mem = new ArrayList<>();
+        for (int i = 0; i < gens.size(); i++) {
+          final Generator gen = gens.get(i);
+          for (final Grammar g : grammars) {
+            final String m = "g" + (i + 1) + "_" + gen.name + "_" + g.name;
+            final File out = new File(work, m);
+            r.run("g", m, 1, () -> gen.generate(g, out));
+            Memory.resetPeakHeap();
+            final long a = Allocations.current();
+            gen.generate(g, out);
+            final long alloc = Allocations.since(a);
+            mem.add(new String[] {
+                m, kb(Memory.peakHeap()), kb(alloc)
+            });
+          }
+        }
+        printMemory("in process", mem);
+      }
+      if (r.accepts("f")) {
+        final List<String[]> mem = new ArrayList<>();
+        for (int i = 0; i < gens.size(); i++) {
+          final Generator gen = gens.get(i);
+          for (final Grammar g : grammars) {
+            final String m = "f" + (i + 1) + "_" + gen.name + "_" + g.name;
+            final File out = new File(work, m);
+            final long[] stats = new long[2];
+            r.run("f", m, 1, () -> gen.fork(g, out, stats));
+            mem.add(new String[] {
+                m, kb(stats[0]), kb(stats[1])
+            });
+          }
+        }
+        printMemory("forked JVMs", mem);
+      }
+    } finally {
+      Generator.delete(work);
+    }
+    r.finish();
+  }
+  
+  /**
+   * @param aBytes a number of bytes, negative if unknown
+   * @return the number of KB, empty if unknown
+   */
+  private static String kb(final long aBytes) {
+    return aBytes < 0 ? "" : String.format(Locale.ROOT, "%.1f", Double.valueOf(aBytes / 1024.0));
+  }
+  
+  /**
+   * Prints the memory table of a group (method, peak heap and allocated KB).
+   *
+   * @param aTitle the group title
+   * @param aRows the rows
+   */
+  private static void printMemory(final String aTitle, final List<String[]> aRows) {
+    if (aRows.isEmpty()) {
+      return;
+    }
+    System.out.println("generation memory, " + aTitle + " (KB)");
+    System.out.println("#method;peakHeapKB;allocatedKB");
+    for (final String[] row : aRows) {
+      System.out.println(String.join(";", row));
+    }
+  }
+}
@@ -0,0 +1,352 @@
+package mma.javacc;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import mma.bench.core.Runner;
+import mma.bench.core.Workload;
+
+/**
+ * Program measuring the JTB syntax trees of the Java grammar (see {@link Grammar}): their build cost, their
+ * retained size, and the traversal throughput of three walkers (see {@link JtbWalkers}: the depth first visitor,
+ * a GJ return value visitor and an iterative walker with an explicit stack), on the corpus (see {@link Corpus})
+ * and on synthetic deep and wide sources, to know where the recursion and allocation limits lie.
+ * <p>
+ * The inputs:
+ * <ul>
+ * <li>corpus: the corpus files (those the JavaCC and JTB parsers accept)
+ * <li>deep&lt;n&gt;: a class with a field initialized by an expression nested in n parentheses (about twenty
+ * productions, so stack frames of the parser and of the recursive walkers, per level), for the n of the
+ * <i>javacc.depths</i> property (default {@value #DEF_DEPTHS})
+ * <li>wide&lt;n&gt;: a class with a method of n statements (a single list of n nodes), for the n of the
+ * <i>javacc.widths</i> property (default {@value #DEF_WIDTHS})
+ * </ul>
+ * The trees of the inputs are built once, by a thread with a large stack (<i>javacc.buildStack</i>, default
+ * {@value #DEF_BUILD_STACK}, with an optional k, m or g suffix), so that the deep trees exist even when the
+ * measured code cannot build or walk them with the stack of the main thread (-Xss).<br>
+ * Groups (an operation being a token of the tree, the end of file one included):
+ * <ul>
+ * <li>b: the parsing of the input without tree (b1, JavaCC parser) and with tree (b2, JTB parser), the
+ * difference being the tree build cost
+ * <li>t: the traversal of the input trees by the walkers (t1 depth first visitor, t2 GJ return value visitor,
+ * t3 iterative walker)
+ * </ul>
+ * A method which overflows the stack of the main thread is not measured, and is listed at the end with the
+ * error.<br>
+ * The retained size of the trees of each input (the used heap after a GC with and without them, see
+ * {@link Memory}, the inputs smaller than {@value #RETAINED_SOURCE} bytes being parsed several times up to this
+ * size) is printed as a ';' separated table, in bytes per KB of source and per token.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public class Compare_jtb_visitors {
+  
+  /** The default depths of the deep inputs */
+  static final String DEF_DEPTHS      = "10,100,1000";
+  /** The default widths of the wide inputs */
+  static final String DEF_WIDTHS      = "100,10000,100000";
+  /** The default stack size of the thread building the trees */
+  static final String DEF_BUILD_STACK = "512m";
+  /** The minimum source size of the retained size measurement, the smaller inputs being parsed several times */
+  static final long   RETAINED_SOURCE = 1 << 20;
+  
+  /**
+   * An input of the benchmark: sources and their syntax trees.
+   */
+  private static final class Input {
+    
+    /** The input name */
+    final String       name;
+    /** The sources */
+    final List<byte[]> sources;
+    /** The sources total size */
+    long               bytes;
+    /** The syntax trees of the sources */
+    Object[]           trees;
+    /** The number of tokens of the trees */
+    long               tokens;
+    /** The retained size of the trees */
+    long               retained;
+    
+    /**
+     * Constructor.
+     *
+     * @param aName the input name
+     * @param aSources the sources
+     */
+    Input(final String aName, final List<byte[]> aSources) {
+      name = aName;
+      sources = aSources;
+      for (final byte[] s : aSources) {
+        bytes += s.length;
+      }
+    }
+  }
+  
+  private Compare_jtb_visitors() {
+    // no instances
+  }
+  
+  /**
+   * Measures the trees and the walkers with the bench core runner (see {@link Runner} for its system properties).
+   *
+   * @param aArgs the command line parameters (not used)
+   * @throws IOException if the grammar or the corpus cannot be read or the work directory cannot be created
+   * @throws InterruptedException if interrupted while the trees are built
+   */
+  public static void main(final String[] aArgs) throws IOException, InterruptedException {
+    final Grammar g = Grammar.named(Compare_parsing.GRAMMAR);
+    final Corpus c = new Corpus();
+    final Runner r = new Runner("Compare_jtb_visitors");
+    final File work = Generator.workDir("visitors-");
+    try {
+      final List<GeneratedParser> parsers = Compare_parsing.build(g, work);
+      final GeneratedParser javacc = parser(parsers, Generator.JAVACC);
+      final GeneratedParser jtb = parser(parsers, Generator.JTB);
+      final Map<String, ToIntFunction<Object>> walkers = JtbWalkers.build(jtb, new File(work, "walkers"));
+      c.retainParsed(javacc);
+      c.retainParsed(jtb);
+      final List<Input> inputs = new ArrayList<>();
+      inputs.add(new Input("corpus", c.sources));
+      for (final int d : ints("javacc.depths", DEF_DEPTHS)) {
+        inputs.add(new Input("deep" + d, Collections.singletonList(deep(d))));
+      }
+      for (final int w : ints("javacc.widths", DEF_WIDTHS)) {
+        inputs.add(new Input("wide" + w, Collections.singletonList(wide(w))));
+      }
+      final long stack = bytes(System.getProperty("javacc.buildStack", DEF_BUILD_STACK));
+      for (final Input in : inputs) {
+        final int copies = (int) Math.max(1, RETAINED_SOURCE / in.bytes);
+        final List<byte[]> sources = new ArrayList<>();
+        for (int k = 0; k < copies; k++) {
+          sources.addAll(in.sources);
+        }
+        final long u = Memory.usedHeap();
+        final Object[] trees = buildTrees(jtb, sources, stack);
+        in.retained = (Memory.usedHeap() - u) / copies;
+        in.trees = Arrays.copyOf(trees, in.sources.size());
+        in.tokens = tokens(in, walkers);
+        System.out.println("Input " + in.name + " : " + in.sources.size() + " sources, " + in.bytes + " bytes, "
+            + in.tokens + " tokens");
+      }
+      final List<String> overflows = new ArrayList<>();
+      for (final Input in : inputs) {
+        measure(r, "b", "b1_javacc_" + in.name, in.tokens, () -> Compare_parsing.parseAll(javacc, in.sources,
+            r.sink()), overflows);
+        measure(r, "b", "b2_jtb_" + in.name, in.tokens, () -> Compare_parsing.parseAll(jtb, in.sources, r.sink()),
+            overflows);
+      }
+      for (final Input in : inputs) {
+        int i = 1;
+        for (final Map.Entry<String, ToIntFunction<Object>> e : walkers.entrySet()) {
+          final ToIntFunction<Object> w = e.getValue();
+          measure(r, "t", "t" + i++ + "_" + e.getKey() + "_" + in.name, in.tokens, () -> walk(w, in.trees),
+              overflows);
+        }
+      }
+      printMemory(inputs);
+      if (!overflows.isEmpty()) {
+        System.out.println("stack overflows (increase -Xss)");
+        System.out.println("#method;error");
+        for (final String o : overflows) {
+          System.out.println(o);
+        }
+      }
+    } finally {
+      Generator.delete(work);
+    }
+    r.finish();
+  }
+  
+  /**
+   * @param aParsers the parsers
+   * @param aGenerator a generator name
+   * @return the parser of the generator
+   * @throws IllegalStateException if the generator is not configured
+   */
+  private static GeneratedParser parser(final List<GeneratedParser> aParsers, final String aGenerator) {
+    for (final GeneratedParser p : aParsers) {
+      if (p.generator.name.equals(aGenerator)) {
+        return p;
+      }
+    }
+    throw new IllegalStateException("Generator " + aGenerator + " not configured (see "
+        + Generator.class.getName() + ")");
+  }
+  
+  /**
+   * @param aProp a property
+   * @param aDefault the property default value
+   * @return the positive numbers of the comma separated list of the property
+   */
+  private static int[] ints(final String aProp, final String aDefault) {
+    final String[] v = System.getProperty(aProp, aDefault).trim().split("\\s*,\\s*");
+    final int[] ints = new int[v.length];
+    for (int i = 0; i < v.length; i++) {
+      ints[i] = Math.max(1, Integer.parseInt(v[i]));
+    }
+    return ints;
+  }
+  
+  /**
+   * @param aSize a size, with an optional k, m or g (1024 based) suffix
+   * @return the size in bytes
+   */
+  private static long bytes(final String aSize) {
+    final String v = aSize.trim().toLowerCase(Locale.ROOT);
+    final int u = "kmg".indexOf(v.charAt(v.length() - 1));
+    return Long.parseLong(u < 0 ? v : v.substring(0, v.length() - 1)) << (u < 0 ? 0 : 10 * (u + 1));
+  }
+  
+  /**
+   * @param aDepth the number of nested parentheses
+   * @return the source of the deep input
+   */
+  private static byte[] deep(final int aDepth) {
+    final StringBuilder sb = new StringBuilder(2 * aDepth + 64);
+    sb.append("class Deep {\n  int x = ");
+    for (int i = 0; i < aDepth; i++) {
+      sb.append('(');
+    }
+    sb.append('1');
+    for (int i = 0; i < aDepth; i++) {
+      sb.append(')');
+    }
+    return sb.append(";\n}\n").toString().getBytes(StandardCharsets.UTF_8);
+  }
+  
+  /**
+   * @param aWidth the number of statements
+   * @return the source of the wide input
+   */
+  private static byte[] wide(final int aWidth) {
+    final StringBuilder sb = new StringBuilder(16 * aWidth + 64);
+    sb.append("class Wide {\n  void m() {\n    int x;\n");
+    for (int i = 0; i < aWidth; i++) {
+      sb.append("    x = ").append(i).append(";\n");
+    }
+    return sb.append("  }\n}\n").toString().getBytes(StandardCharsets.UTF_8);
+  }
+  
+  /**
+   * Builds the syntax trees of sources in a thread with a given stack size.
+   *
+   * @param aParser the JTB parser
+   * @param aSources the sources
+   * @param aStack the stack size of the thread
+   * @return the syntax trees
+   * @throws InterruptedException if interrupted while waiting for the thread
+   * @throws IllegalStateException if a tree cannot be built
+   */
+  private static Object[] buildTrees(final GeneratedParser aParser, final List<byte[]> aSources, final long aStack)
+      throws InterruptedException {
+    final Object[] trees = new Object[aSources.size()];
+    final Throwable[] error = new Throwable[1];
+    final Thread t = new Thread(null, () -> {
+      try {
+        for (int i = 0; i < trees.length; i++) {
+          trees[i] = aParser.parse(aSources.get(i));
+        }
+      } catch (final RuntimeException | Error e) {
+        error[0] = e;
+      }
+    }, "tree-builder", aStack);
+    t.start();
+    t.join();
+    if (error[0] != null) {
+      throw new IllegalStateException("Cannot build the trees (increase javacc.buildStack ?) : " + error[0],
+          error[0]);
+    }
+    return trees;
+  }
+  
+  /**
+   * Counts the tokens of the trees of an input with the iterative walker, and checks the other walkers count the
+   * same (if they do not overflow the stack).
+   *
+   * @param aInput the input
+   * @param aWalkers the walkers
+   * @return the number of tokens
+   * @throws IllegalStateException if a walker counts differently
+   */
+  private static long tokens(final Input aInput, final Map<String, ToIntFunction<Object>> aWalkers) {
+    final long n = walk(aWalkers.get(JtbWalkers.ITERATIVE), aInput.trees);
+    for (final Map.Entry<String, ToIntFunction<Object>> e : aWalkers.entrySet()) {
+      try {
+        final long m = walk(e.getValue(), aInput.trees);
+        if (m != n) {
+          throw new IllegalStateException("Walker " + e.getKey() + " counts " + m + " tokens instead of " + n
+              + " in " + aInput.name);
+        }
+      } catch (final StackOverflowError soe) {
+        // reported by the measurement
+      }
+    }
+    return n;
+  }
+  
+  /**
+   * @param aWalker a walker
+   * @param aTrees syntax trees
+   * @return the number of tokens of the trees
+   */
+  private static long walk(final ToIntFunction<Object> aWalker, final Object[] aTrees) {
+    long n = 0;
+    for (final Object t : aTrees) {
+      n += aWalker.applyAsInt(t);
+    }
+    return n;
+  }
+  
+  /**
+   * Measures a workload, unless a first call overflows the stack.
+   *
+   * @param aRunner the runner
+   * @param aGroup the group
+   * @param aMethod the method
+   * @param aOps the number of operations of a call
+   * @param aWl the workload
+   * @param aOverflows the list receiving the method and the error if the first call overflows the stack
+   */
+  private static void measure(final Runner aRunner, final String aGroup, final String aMethod, final long aOps,
+      final Workload aWl, final List<String> aOverflows) {
+    if (!aRunner.accepts(aGroup)) {
+      return;
+    }
+    try {
+      aWl.run();
+    } catch (final StackOverflowError e) {
+      System.out.println(aMethod + " not measured : " + e);
+      aOverflows.add(aMethod + ";" + e);
+      return;
+    }
+    aRunner.run(aGroup, aMethod, aOps, Runner.UNIT_ELEMENT, aWl);
+  }
+  
+  /**
+   * Prints the retained size of the trees of the inputs.
+   *
+   * @param aInputs the inputs
+   */
+  private static void printMemory(final List<Input> aInputs) {
+    System.out.println("syntax trees retained size");
+    System.out.println("#input;sources;sourceBytes;tokens;retainedBytes;retainedBytesPerSourceKB;"
+        + "retainedBytesPerToken");
+    for (final Input in : aInputs) {
+      System.out.println(in.name + ";" + in.sources.size() + ";" + in.bytes + ";" + in.tokens + ";" + in.retained
+          + ";" + Compare_parsing.fmt(in.retained * 1024.0 / in.bytes) + ";"
+          + Compare_parsing.fmt((double) in.retained / in.tokens));
+    }
+  }
+}
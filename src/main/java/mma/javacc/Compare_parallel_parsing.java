@@ -0,0 +1,406 @@
+package mma.javacc;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import mma.bench.core.Result;
+import mma.bench.core.Runner;
+import mma.bench.core.Sink;
+import mma.bench.core.VirtualThreads;
+
+/**
+ * Program comparing the ways of parsing a corpus of Java sources (see {@link Corpus}) on several cores with the
+ * parsers generated from the Java grammar (see {@link Grammar}), a parser being a single threaded object used by
+ * one task at a time: the throughput against the number of threads, the allocations and the garbage collection
+ * pressure, and the parser reuse versus its recreation, to find how to saturate a many cores box.
+ * <p>
+ * The parsers are generated, compiled and loaded at startup (see {@link GeneratedParser}), as in
+ * {@link Compare_parsing}. A call parses all the corpus files, a task per file, an operation being a token:
+ * <ul>
+ * <li>group f: a {@link ForkJoinPool} of n threads, the files range being split in halves down to a file
+ * ({@link RecursiveAction}s), the idle threads stealing the halves of the busy ones
+ * <li>group t: a fixed thread pool of n threads ({@link Executors#newFixedThreadPool(int)}, a
+ * {@link java.util.concurrent.ThreadPoolExecutor} with an unbounded queue), a task submitted per file
+ * <li>group v: a virtual thread started per file (if available, see {@link VirtualThreads}), on the carrier
+ * threads of the default scheduler, whose number is set at the JVM start by
+ * <i>jdk.virtualThreadScheduler.parallelism</i> (default the number of processors), so measured once
+ * </ul>
+ * The f and t methods are measured for each number of threads of bench.threads (default 1,2,4,8, e.g.
+ * 1,2,4,8,16,32,64 on a 64 cores box), the n of the method name, and the v methods with the number of carriers.
+ * <br>
+ * For each parser (JavaCC, JTB and JavaCC21, the parsers without a <code>ReInit(Reader)</code> method having only
+ * the new mode):
+ * <ul>
+ * <li>mode new: each task creates its parser (its token manager and character stream)
+ * <li>mode reuse: the tasks take a parser from a shared pool (created if the pool is empty, so at most one per
+ * concurrent task), reinitialize it on their file (see {@link GeneratedParser#reInit(Object, byte[])}) and give
+ * it back
+ * </ul>
+ * The measures are made by the calling thread (the one waiting for the tasks), so the bytes allocated are read
+ * for all the threads (see {@link Memory#allocatedSince(Map)}), with the garbage collection time and count, around
+ * each run (warmup included).<br>
+ * After the groups, a ';' separated table gives per method the number of threads, the MB/s, the tokens/s, the
+ * speedup versus the first method of the same parser and mode (the fork/join one with the smallest number of
+ * threads), the bytes allocated per token, the garbage collection time and count per corpus parsing and in
+ * percents of the run, and the number of parsers created per corpus parsing.<br>
+ * With the matrix, the javacc.* system properties are passed to the forks, e.g.:<br>
+ * <code>-Djavacc.javaccDir=lib/javacc -Djavacc.jtbDir=lib/jtb -Djavacc.corpus=$JAVA_HOME/lib/src.zip
+ * -Dbench.threads=1,2,4,8,16,32,64 mma.bench.matrix.Matrix mma.javacc.Compare_parallel_parsing:f,t,v</code>
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public class Compare_parallel_parsing {
+  
+  /** The default number of carrier threads of the virtual threads scheduler */
+  private static final int DEF_CARRIERS = Runtime.getRuntime().availableProcessors();
+  
+  private Compare_parallel_parsing() {
+    // no instances
+  }
+  
+  /**
+   * Measures the parallel parsings with the bench core runner (see {@link Runner} for its system properties).
+   *
+   * @param aArgs the command line parameters (not used)
+   * @throws IOException if the grammar or the corpus cannot be read or the work directory cannot be created
+   */
+  public static void main(final String[] aArgs) throws IOException {
+    final Grammar g = Grammar.named(Compare_parsing.GRAMMAR);
+    final Corpus c = new Corpus();
+    final Runner r = new Runner("Compare_parallel_parsing");
+    final File work = Generator.workDir("parallel-");
+    try {
+      final List<GeneratedParser> parsers = Compare_parsing.build(g, work);
+      for (final GeneratedParser p : parsers) {
+        c.retainParsed(p);
+      }
+      final long tokens = Compare_parsing.tokens(parsers, c);
+      System.out.println("Corpus " + c + ", " + tokens + " tokens, " + DEF_CARRIERS + " processors");
+      final int[] threads = r.threads();
+      Arrays.sort(threads);
+      final int carriers = Integer.getInteger("jdk.virtualThreadScheduler.parallelism", DEF_CARRIERS).intValue();
+      final List<String[]> rows = new ArrayList<>();
+      final Map<String, Double> bases = new HashMap<>();
+      int i = 0;
+      for (final GeneratedParser p : parsers) {
+        for (final boolean reuse : p.reusable() ? new boolean[] {
+            false, true
+        } : new boolean[] {
+            false
+        }) {
+          i++;
+          final String pm = p.generator.name + "_" + (reuse ? "reuse" : "new");
+          for (final int n : threads) {
+            final ForkJoinPool fj = new ForkJoinPool(n);
+            try {
+              measure(r, "f", "f" + i + "_" + pm + "_" + n, n, new Pass(p, c, reuse) {
+                @Override
+                void parseAll() {
+                  fj.invoke(new Split(this, 0, results.length));
+                }
+              }, tokens, rows, bases);
+            } finally {
+              stop(fj);
+            }
+          }
+          for (final int n : threads) {
+            final ExecutorService es = Executors.newFixedThreadPool(n);
+            try {
+              measure(r, "t", "t" + i + "_" + pm + "_" + n, n, new Pass(p, c, reuse) {
+                @Override
+                void parseAll() {
+                  submitAll(es, this);
+                }
+              }, tokens, rows, bases);
+            } finally {
+              stop(es);
+            }
+          }
+          if (VirtualThreads.supported()) {
+            measure(r, "v", "v" + i + "_" + pm + "_" + carriers, carriers, new Pass(p, c, reuse) {
+              @Override
+              void parseAll() {
+                startAll(this);
+              }
+            }, tokens, rows, bases);
+          } else if (r.accepts("v")) {
+            System.out.println("v" + i + "_" + pm + " : virtual threads not available");
+          }
+        }
+      }
+      printScaling(rows);
+    } finally {
+      Generator.delete(work);
+    }
+    r.finish();
+  }
+  
+  /**
+   * Measures a parallel parsing of the corpus (if its group is to be run) and adds its row.
+   *
+   * @param aRunner the runner
+   * @param aGroup the group
+   * @param aMethod the method
+   * @param aThreads the number of threads
+   * @param aPass the corpus parsing
+   * @param aTokens the number of tokens of the corpus
+   * @param aRows the rows
+   * @param aBases the tokens/s of the first method of each parser and mode
+   */
+  private static void measure(final Runner aRunner, final String aGroup, final String aMethod, final int aThreads,
+      final Pass aPass, final long aTokens, final List<String[]> aRows, final Map<String, Double> aBases) {
+    if (!aRunner.accepts(aGroup)) {
+      return;
+    }
+    final long[] passes = new long[1];
+    final long gc = Memory.gcMillis();
+    final long gcn = Memory.gcCount();
+    final Map<Long, Long> ab = Memory.allocatedBytes();
+    final long bt = System.nanoTime();
+    final Result res = aRunner.run(aGroup, aMethod, aTokens, Runner.UNIT_ELEMENT, () -> {
+      passes[0]++;
+      return aPass.run(aRunner.sink());
+    });
+    final long nanos = System.nanoTime() - bt;
+    final long alloc = Memory.allocatedSince(ab);
+    if (res == null) {
+      return;
+    }
+    final long gcMs = Memory.gcMillis() - gc;
+    final long p = passes[0];
+    final double tps = res.opsPerSec();
+    final String key = aPass.parser.generator.name + aPass.reuse;
+    if (!aBases.containsKey(key)) {
+      aBases.put(key, Double.valueOf(tps));
+    }
+    final double bpt = (double) aPass.corpus.bytes() / aTokens;
+    aRows.add(new String[] {
+        aMethod, Integer.toString(aThreads), Compare_parsing.fmt(tps * bpt / (1024 * 1024)),
+        Compare_parsing.fmt(tps), Compare_parsing.fmt(tps / aBases.get(key).doubleValue()),
+        Compare_parsing.fmt(alloc < 0 ? -1 : (double) alloc / (p * aTokens)), Compare_parsing.fmt((double) gcMs / p),
+        Compare_parsing.fmt((double) (Memory.gcCount() - gcn) / p), Compare_parsing.fmt(gcMs * 1e8 / nanos),
+        Compare_parsing.fmt((double) aPass.created.get() / p)
+    });
+  }
+  
+  /**
+   * Prints the scaling table.
+   *
+   * @param aRows the rows
+   */
+  private static void printScaling(final List<String[]> aRows) {
+    if (aRows.isEmpty()) {
+      return;
+    }
+    System.out.println("parallel parsing scaling");
+    System.out.println("#method;threads;MBperSec;tokensPerSec;speedup;allocBytesPerToken;gcMsPerPass;"
+        + "gcCountPerPass;gcPct;parsersPerPass");
+    for (final String[] row : aRows) {
+      System.out.println(String.join(";", row));
+    }
+  }
+  
+  /**
+   * Parses the files of a corpus, a task per file.
+   */
+  private abstract static class Pass {
+    
+    /** The parser */
+    final GeneratedParser                       parser;
+    /** The corpus */
+    final Corpus                                corpus;
+    /** True to reuse the parsers */
+    final boolean                               reuse;
+    /** The identity hash codes of the values returned by the start production, per file */
+    final int[]                                 results;
+    /** The number of parsers created */
+    final AtomicInteger                         created = new AtomicInteger();
+    /** The parsers not in use, in reuse mode */
+    private final ConcurrentLinkedQueue<Object> idle    = new ConcurrentLinkedQueue<>();
+    
+    /**
+     * Constructor.
+     *
+     * @param aParser the parser
+     * @param aCorpus the corpus
+     * @param aReuse true to reuse the parsers
+     */
+    Pass(final GeneratedParser aParser, final Corpus aCorpus, final boolean aReuse) {
+      parser = aParser;
+      corpus = aCorpus;
+      reuse = aReuse;
+      results = new int[aCorpus.sources.size()];
+    }
+    
+    /**
+     * Parses all the files.
+     *
+     * @param aSink the sink consuming the per file results
+     * @return the number of parsed files
+     */
+    long run(final Sink aSink) {
+      parseAll();
+      long h = 0;
+      for (final int f : results) {
+        h += f;
+      }
+      aSink.consume(h);
+      return results.length;
+    }
+    
+    /**
+     * Runs {@link #parse(int)} on each file, in parallel, and waits for the end of the tasks.
+     */
+    abstract void parseAll();
+    
+    /**
+     * Parses a file (a task).
+     *
+     * @param aFile the index of the file
+     */
+    void parse(final int aFile) {
+      final byte[] s = corpus.sources.get(aFile);
+      if (!reuse) {
+        created.incrementAndGet();
+        results[aFile] = System.identityHashCode(parser.parse(s));
+        return;
+      }
+      Object p = idle.poll();
+      if (p == null) {
+        created.incrementAndGet();
+        p = parser.newParser(s);
+      } else {
+        parser.reInit(p, s);
+      }
+      results[aFile] = System.identityHashCode(parser.start(p));
+      idle.offer(p);
+    }
+  }
+  
+  /**
+   * The fork/join task of a files range, split in halves down to a file.
+   */
+  private static final class Split extends RecursiveAction {
+    
+    private static final long serialVersionUID = 1L;
+    private final transient Pass pass;
+    private final int            from;
+    private final int            to;
+    
+    /**
+     * Constructor.
+     *
+     * @param aPass the corpus parsing
+     * @param aFrom the index of the first file
+     * @param aTo the index after the last file
+     */
+    Split(final Pass aPass, final int aFrom, final int aTo) {
+      pass = aPass;
+      from = aFrom;
+      to = aTo;
+    }
+    
+    @Override
+    protected void compute() {
+      if (to - from == 1) {
+        pass.parse(from);
+      } else if (to > from) {
+        final int mid = (from + to) >>> 1;
+        invokeAll(new Split(pass, from, mid), new Split(pass, mid, to));
+      }
+    }
+  }
+  
+  /**
+   * Submits a task per file to a thread pool and waits for their end.
+   *
+   * @param aPool the thread pool
+   * @param aPass the corpus parsing
+   * @throws IllegalStateException if a task fails or if the waiting is interrupted
+   */
+  static void submitAll(final ExecutorService aPool, final Pass aPass) {
+    final List<Future<?>> fs = new ArrayList<>(aPass.results.length);
+    for (int i = 0; i < aPass.results.length; i++) {
+      final int f = i;
+      fs.add(aPool.submit(() -> aPass.parse(f)));
+    }
+    try {
+      for (final Future<?> f : fs) {
+        f.get();
+      }
+    } catch (final ExecutionException e) {
+      throw new IllegalStateException(e.getCause().toString(), e.getCause());
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted", e);
+    }
+  }
+  
+  /**
+   * Shuts a thread pool down and waits for the end of its tasks, so that its threads do not run during the next
+   * measure.
+   *
+   * @param aPool the thread pool
+   * @throws IllegalStateException if the waiting is interrupted
+   */
+  private static void stop(final ExecutorService aPool) {
+    aPool.shutdown();
+    try {
+      aPool.awaitTermination(1, TimeUnit.MINUTES);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted", e);
+    }
+  }
+  
+  /**
+   * Starts a virtual thread per file and waits for their end.
+   *
+   * @param aPass the corpus parsing
+   * @throws IllegalStateException if a task fails or if the waiting is interrupted
+   */
+  static void startAll(final Pass aPass) {
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+    final Thread[] ts = new Thread[aPass.results.length];
+    for (int i = 0; i < ts.length; i++) {
+      final int f = i;
+      ts[i] = VirtualThreads.newThread(() -> {
+        try {
+          aPass.parse(f);
+        } catch (final RuntimeException | Error e) {
+          failure.compareAndSet(null, e);
+        }
+      }, "parse-" + i);
+      ts[i].start();
+    }
+    try {
+      for (final Thread t : ts) {
+        t.join();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted", e);
+    }
+    if (failure.get() != null) {
+      throw new IllegalStateException(failure.get().toString(), failure.get());
+    }
+  }
+}
@@ -0,0 +1,194 @@
+package mma.javacc;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import mma.bench.core.Result;
+import mma.bench.core.Runner;
+import mma.bench.core.Sink;
+
+/**
+ * Program comparing the execution of the parsers generated from the Java grammar (see {@link Grammar}) by each
+ * generator (see {@link Generator}), on a corpus of Java sources (see {@link Corpus}): the throughput in MB/s and
+ * tokens/s, the bytes allocated per token and the garbage collection time, to compare the generators, the cost of
+ * the JTB syntax tree and the JDKs on the production hot path.
+ * <p>
+ * The parsers are generated, compiled and loaded at startup (see {@link GeneratedParser}), in a temporary
+ * directory of <i>javacc.dir</i> (default java.io.tmpdir) ; the corpus files one of the parsers rejects are
+ * removed from the corpus, so that all the parsers parse the same files.<br>
+ * Group p: p1 JavaCC (no tree), p2 JTB then JavaCC (the same parser building the JTB syntax tree), p3 JavaCC21
+ * (with its default tree building) ; an operation is a token, a call the parsing of all the corpus files, each
+ * one by a new parser on an {@link java.io.InputStreamReader} (so including the UTF-8 decoding).<br>
+ * The tokens are counted once through the token manager of the first parser which allows it (see
+ * {@link GeneratedParser#tokens(byte[])}).<br>
+ * After the group, a ';' separated table gives per method the MB/s, the tokens/s, the bytes allocated per token
+ * and per source byte, and the garbage collection time (see {@link Memory}) per corpus parsing and in percents
+ * of the run (warmup included).<br>
+ * With the matrix, the javacc.* system properties are passed to the forks, e.g.:<br>
+ * <code>-Djavacc.javaccDir=lib/javacc -Djavacc.jtbDir=lib/jtb -Djavacc.corpus=$JAVA_HOME/lib/src.zip
+ * -Djavacc.corpusFiles=2000 mma.bench.matrix.Matrix mma.javacc.Compare_parsing:p</code>
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public class Compare_parsing {
+  
+  /** The grammar name of the parsers */
+  static final String GRAMMAR = "java";
+  
+  private Compare_parsing() {
+    // no instances
+  }
+  
+  /**
+   * Measures the parsers with the bench core runner (see {@link Runner} for its system properties).
+   *
+   * @param aArgs the command line parameters (not used)
+   * @throws IOException if the grammar or the corpus cannot be read or the work directory cannot be created
+   */
+  public static void main(final String[] aArgs) throws IOException {
+    final Grammar g = Grammar.named(GRAMMAR);
+    final Corpus c = new Corpus();
+    final Runner r = new Runner("Compare_parsing");
+    final File work = Generator.workDir("parsing-");
+    try {
+      final List<GeneratedParser> parsers = build(g, work);
+      for (final GeneratedParser p : parsers) {
+        c.retainParsed(p);
+      }
+      final long tokens = tokens(parsers, c);
+      System.out.println("Corpus " + c + ", " + tokens + " tokens");
+      final List<String[]> rows = new ArrayList<>();
+      for (int i = 0; i < parsers.size(); i++) {
+        final GeneratedParser p = parsers.get(i);
+        final String m = "p" + (i + 1) + "_" + p.generator.name;
+        final long[] passes = new long[1];
+        final long gc = Memory.gcMillis();
+        final long bt = System.nanoTime();
+        final Result res = r.run("p", m, tokens, Runner.UNIT_ELEMENT, () -> {
+          passes[0]++;
+          return parseAll(p, c.sources, r.sink());
+        });
+        if (res != null) {
+          rows.add(throughput(res, c, tokens, passes[0], Memory.gcMillis() - gc, System.nanoTime() - bt));
+        }
+      }
+      printThroughput(rows);
+    } finally {
+      Generator.delete(work);
+    }
+    r.finish();
+  }
+  
+  /**
+   * Generates, compiles and loads the parsers of a grammar with the configured generators.
+   *
+   * @param aGrammar the grammar
+   * @param aWork the work directory
+   * @return the parsers, in the generators order
+   * @throws IllegalStateException if no generator is configured or if a parser cannot be built
+   */
+  static List<GeneratedParser> build(final Grammar aGrammar, final File aWork) {
+    final List<GeneratedParser> parsers = new ArrayList<>();
+    for (final Generator gen : Generator.configured()) {
+      final long bt = System.nanoTime();
+      parsers.add(GeneratedParser.build(gen, aGrammar, new File(aWork, gen.name)));
+      System.out.println("Parser " + parsers.get(parsers.size() - 1) + " built in "
+          + (System.nanoTime() - bt) / 1000000 + " ms");
+    }
+    if (parsers.isEmpty()) {
+      throw new IllegalStateException("No generator configured (see " + Generator.class.getName() + ")");
+    }
+    return parsers;
+  }
+  
+  /**
+   * @param aParsers the parsers
+   * @param aCorpus the corpus
+   * @return the number of tokens of the corpus, counted by the first parser which allows it
+   * @throws IllegalStateException if no parser allows it
+   */
+  static long tokens(final List<GeneratedParser> aParsers, final Corpus aCorpus) {
+    IllegalStateException ex = null;
+    for (final GeneratedParser p : aParsers) {
+      try {
+        long n = 0;
+        for (final byte[] s : aCorpus.sources) {
+          n += p.tokens(s);
+        }
+        return n;
+      } catch (final IllegalStateException e) {
+        ex = e;
+      }
+    }
+    throw ex;
+  }
+  
+  /**
+   * Parses sources, each one with a new parser.
+   *
+   * @param aParser the parser
+   * @param aSources the sources (e.g. the corpus files)
+   * @param aSink the sink consuming the start productions values
+   * @return the number of parsed sources
+   */
+  static long parseAll(final GeneratedParser aParser, final List<byte[]> aSources, final Sink aSink) {
+    long n = 0;
+    for (final byte[] s : aSources) {
+      aSink.consume(aParser.parse(s));
+      n++;
+    }
+    return n;
+  }
+  
+  /**
+   * @param aRes a result (an operation being a token)
+   * @param aCorpus the corpus
+   * @param aTokens the number of tokens of the corpus
+   * @param aPasses the number of corpus parsings of the run (warmup included)
+   * @param aGcMs the garbage collection time of the run
+   * @param aNanos the run duration
+   * @return the throughput row of the result
+   */
+  private static String[] throughput(final Result aRes, final Corpus aCorpus, final long aTokens,
+      final long aPasses, final long aGcMs, final long aNanos) {
+    final double tps = aRes.opsPerSec();
+    final double bpt = (double) aCorpus.bytes() / aTokens;
+    return new String[] {
+        aRes.method, Integer.toString(aCorpus.files()), Long.toString(aCorpus.bytes()), Long.toString(aTokens),
+        fmt(tps * bpt / (1024 * 1024)), fmt(tps), fmt(aRes.allocBytesPerOp),
+        fmt(aRes.allocBytesPerOp < 0 ? -1 : aRes.allocBytesPerOp / bpt), fmt((double) aGcMs / aPasses),
+        fmt(aGcMs * 1e8 / aNanos)
+    };
+  }
+  
+  /**
+   * @param aVal a value
+   * @return the value with 2 decimals
+   */
+  static String fmt(final double aVal) {
+    return String.format(Locale.ROOT, "%.2f", Double.valueOf(aVal));
+  }
+  
+  /**
+   * Prints the throughput table.
+   *
+   * @param aRows the rows
+   */
+  private static void printThroughput(final List<String[]> aRows) {
+    if (aRows.isEmpty()) {
+      return;
+    }
+    System.out.println("parsing throughput");
+    System.out.println("#method;files;bytes;tokens;MBperSec;tokensPerSec;allocBytesPerToken;allocBytesPerByte;"
+        + "gcMsPerPass;gcPct");
+    for (final String[] row : aRows) {
+      System.out.println(String.join(";", row));
+    }
+  }
+}
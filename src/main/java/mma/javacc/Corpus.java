@@ -0,0 +1,185 @@
+package mma.javacc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * A corpus of Java source files, read in memory (so that the benchmarks do not measure the disk), from a directory
+ * (recursively) or a zip file (e.g. the src.zip of a JDK).
+ * <p>
+ * The corpus is configured by the following system properties:
+ * <ul>
+ * <li>javacc.corpus: the directory or the zip file (default {@value #DEF_CORPUS})
+ * <li>javacc.corpusFiles: the maximum number of files, the first ones in the names order (default all)
+ * </ul>
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class Corpus {
+  
+  /** The corpus property */
+  public static final String P_CORPUS       = "javacc.corpus";
+  /** The corpus maximum number of files property */
+  public static final String P_CORPUS_FILES = "javacc.corpusFiles";
+  /** The default corpus */
+  public static final String DEF_CORPUS     = "src/main/java";
+  
+  /** The corpus directory or zip file */
+  public final String        location;
+  /** The files names (relative to the directory or the zip root) */
+  public final List<String>  names          = new ArrayList<>();
+  /** The files contents (UTF-8) */
+  public final List<byte[]>  sources        = new ArrayList<>();
+  private long               bytes;
+  
+  /**
+   * Constructor, reading the corpus of the system properties.
+   *
+   * @throws IOException if the corpus cannot be read or has no Java file
+   */
+  public Corpus() throws IOException {
+    this(System.getProperty(P_CORPUS, DEF_CORPUS),
+        Integer.getInteger(P_CORPUS_FILES, Integer.MAX_VALUE).intValue());
+  }
+  
+  /**
+   * Constructor.
+   *
+   * @param aLocation the directory or zip file
+   * @param aMaxFiles the maximum number of files
+   * @throws IOException if the corpus cannot be read or has no Java file
+   */
+  public Corpus(final String aLocation, final int aMaxFiles) throws IOException {
+    location = aLocation;
+    final File f = new File(aLocation);
+    if (f.isDirectory()) {
+      final List<File> files = new ArrayList<>();
+      list(f, files);
+      Collections.sort(files);
+      final int pl = f.getPath().length() + 1;
+      for (final File jf : files) {
+        if (names.size() == aMaxFiles) {
+          break;
+        }
+        add(jf.getPath().substring(pl), Files.readAllBytes(jf.toPath()));
+      }
+    } else {
+      try (ZipFile zf = new ZipFile(f)) {
+        final List<String> entries = new ArrayList<>();
+        for (final Enumeration<? extends ZipEntry> e = zf.entries(); e.hasMoreElements();) {
+          final ZipEntry ze = e.nextElement();
+          if (!ze.isDirectory() && ze.getName().endsWith(".java")) {
+            entries.add(ze.getName());
+          }
+        }
+        Collections.sort(entries);
+        for (final String n : entries) {
+          if (names.size() == aMaxFiles) {
+            break;
+          }
+          try (InputStream is = zf.getInputStream(zf.getEntry(n))) {
+            add(n, read(is));
+          }
+        }
+      }
+    }
+    if (names.isEmpty()) {
+      throw new IOException("No Java file in " + aLocation + " (see " + P_CORPUS + ")");
+    }
+  }
+  
+  /**
+   * @param aDir a directory
+   * @param aFiles the list receiving the Java files of the directory and its sub directories
+   */
+  private static void list(final File aDir, final List<File> aFiles) {
+    final File[] files = aDir.listFiles();
+    if (files != null) {
+      for (final File f : files) {
+        if (f.isDirectory()) {
+          list(f, aFiles);
+        } else if (f.getName().endsWith(".java")) {
+          aFiles.add(f);
+        }
+      }
+    }
+  }
+  
+  /**
+   * @param aIs an input stream
+   * @return its content
+   * @throws IOException if the stream cannot be read
+   */
+  private static byte[] read(final InputStream aIs) throws IOException {
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream(8192);
+    final byte[] buf = new byte[8192];
+    int n;
+    while ((n = aIs.read(buf)) > 0) {
+      bos.write(buf, 0, n);
+    }
+    return bos.toByteArray();
+  }
+  
+  /**
+   * @param aName a file name
+   * @param aSource the file content
+   */
+  private void add(final String aName, final byte[] aSource) {
+    names.add(aName);
+    sources.add(aSource);
+    bytes += aSource.length;
+  }
+  
+  /**
+   * Removes the files a parser rejects (e.g. the files of a later Java version than the grammar), printing them.
+   *
+   * @param aParser the parser
+   * @return the number of removed files
+   */
+  public int retainParsed(final GeneratedParser aParser) {
+    int n = 0;
+    for (int i = names.size() - 1; i >= 0; i--) {
+      try {
+        aParser.parse(sources.get(i));
+      } catch (final IllegalStateException e) {
+        System.out.println("  " + names.get(i) + " removed from the corpus : " + e.getMessage());
+        bytes -= sources.get(i).length;
+        names.remove(i);
+        sources.remove(i);
+        n++;
+      }
+    }
+    return n;
+  }
+  
+  /**
+   * @return the number of files
+   */
+  public int files() {
+    return names.size();
+  }
+  
+  /**
+   * @return the total size of the files, in bytes
+   */
+  public long bytes() {
+    return bytes;
+  }
+  
+  @Override
+  public String toString() {
+    return location + " (" + files() + " files, " + bytes + " bytes)";
+  }
+}
@@ -0,0 +1,277 @@
+package mma.javacc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+/**
+ * A parser generated from a grammar by a {@link Generator}, compiled with the compiler of the running JDK (through
+ * {@link javax.tools}) and loaded in its own class loader, so that it is compiled and run by the JDK under test.
+ * <p>
+ * The parser is created on a {@link Reader} (a constructor the JavaCC, JTB and JavaCC21 parsers all have) and run
+ * through the start production of the grammar, through reflection (the parsers being generated at run time, this
+ * adds a constant cost per file, small compared to a file parsing).
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class GeneratedParser {
+  
+  /** The generator of the parser */
+  public final Generator       generator;
+  /** The grammar of the parser */
+  public final Grammar         grammar;
+  /** The parser class */
+  public final Class<?>        parserClass;
+  /** The compiled classes directory */
+  public final File            classes;
+  private final URLClassLoader loader;
+  private final Constructor<?> ctor;
+  private final Method         start;
+  /** The <code>ReInit(Reader)</code> method, null if the parser has not it */
+  private final Method         reInit;
+  
+  /**
+   * Constructor.
+   *
+   * @param aGenerator the generator
+   * @param aGrammar the grammar
+   * @param aClasses the compiled classes directory
+   * @throws ReflectiveOperationException if the parser class, its constructor or its start method is not found
+   * @throws MalformedURLException if the directory cannot be converted to an URL
+   */
+  private GeneratedParser(final Generator aGenerator, final Grammar aGrammar, final File aClasses)
+      throws ReflectiveOperationException, MalformedURLException {
+    generator = aGenerator;
+    grammar = aGrammar;
+    classes = aClasses;
+    loader = new URLClassLoader(new URL[] {
+        aClasses.toURI().toURL()
+    }, GeneratedParser.class.getClassLoader());
+    parserClass = Class.forName(aGrammar.parserClass(), true, loader);
+    ctor = parserClass.getConstructor(Reader.class);
+    start = parserClass.getMethod(aGrammar.start);
+    Method m = null;
+    try {
+      m = parserClass.getMethod("ReInit", Reader.class);
+    } catch (final NoSuchMethodException e) {
+      m = null;
+    }
+    reInit = m;
+  }
+  
+  /**
+   * Generates, compiles and loads the parser of a grammar.
+   *
+   * @param aGenerator the generator
+   * @param aGrammar the grammar
+   * @param aDir the work directory (the sources being generated in its src sub directory, and compiled in its
+   *          classes one)
+   * @return the parser
+   * @throws IllegalStateException if the generation, the compilation or the loading fails
+   */
+  public static GeneratedParser build(final Generator aGenerator, final Grammar aGrammar, final File aDir) {
+    final File src = new File(aDir, "src");
+    final File classes = new File(aDir, "classes");
+    aGenerator.generate(aGrammar, src);
+    compile(src, classes, null, "the " + aGenerator.name + " parser of " + aGrammar.name);
+    try {
+      return new GeneratedParser(aGenerator, aGrammar, classes);
+    } catch (final ReflectiveOperationException | MalformedURLException e) {
+      throw new IllegalStateException("Cannot load the " + aGenerator.name + " parser of " + aGrammar.name, e);
+    }
+  }
+  
+  /**
+   * Compiles the Java files of a directory with the compiler of the running JDK.
+   *
+   * @param aSrc the sources directory (with its sub directories)
+   * @param aClasses the classes directory, emptied before
+   * @param aClasspath the compilation class path, null for none
+   * @param aWhat the compiled code, for the failure message
+   * @throws IllegalStateException if the running JDK has no compiler or if the compilation fails
+   */
+  static void compile(final File aSrc, final File aClasses, final String aClasspath, final String aWhat) {
+    Generator.delete(aClasses);
+    aClasses.mkdirs();
+    final JavaCompiler jc = ToolProvider.getSystemJavaCompiler();
+    if (jc == null) {
+      throw new IllegalStateException("No Java compiler in " + System.getProperty("java.home") + " (not a JDK)");
+    }
+    final List<String> args = new ArrayList<>(Arrays.asList("-nowarn", "-encoding", "UTF-8", "-d",
+        aClasses.getPath()));
+    if (aClasspath != null) {
+      args.add("-cp");
+      args.add(aClasspath);
+    }
+    sources(aSrc, args);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    if (jc.run(null, out, out, args.toArray(new String[args.size()])) != 0) {
+      throw new IllegalStateException("Compilation of " + aWhat + " failed :\n"
+          + new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+  }
+  
+  /**
+   * @param aDir a directory
+   * @param aFiles the list receiving the paths of the Java files of the directory and its sub directories
+   */
+  private static void sources(final File aDir, final List<String> aFiles) {
+    final File[] files = aDir.listFiles();
+    if (files != null) {
+      for (final File f : files) {
+        if (f.isDirectory()) {
+          sources(f, aFiles);
+        } else if (f.getName().endsWith(".java")) {
+          aFiles.add(f.getPath());
+        }
+      }
+    }
+  }
+  
+  /**
+   * @return the class loader of the parser classes (e.g. to load the JTB visitors)
+   */
+  public ClassLoader loader() {
+    return loader;
+  }
+  
+  /**
+   * @param aSource a source (UTF-8)
+   * @return a new parser on the source, decoded by an {@link InputStreamReader}
+   */
+  public Object newParser(final byte[] aSource) {
+    return newParser(new InputStreamReader(new ByteArrayInputStream(aSource), StandardCharsets.UTF_8));
+  }
+  
+  /**
+   * @param aReader a reader
+   * @return a new parser on the reader
+   */
+  public Object newParser(final Reader aReader) {
+    try {
+      return ctor.newInstance(aReader);
+    } catch (final InvocationTargetException e) {
+      throw new IllegalStateException(e.getCause().toString(), e.getCause());
+    } catch (final ReflectiveOperationException e) {
+      throw new IllegalStateException(e.toString(), e);
+    }
+  }
+  
+  /**
+   * @return true if a parser can be reused on another source (see {@link #reInit(Object, byte[])})
+   */
+  public boolean reusable() {
+    return reInit != null;
+  }
+  
+  /**
+   * Reinitializes a parser on another source, through its <code>ReInit(Reader)</code> method (JavaCC and JTB
+   * parsers), which resets the token manager and its character stream instead of creating them.
+   *
+   * @param aParser a parser (created by {@link #newParser(Reader)})
+   * @param aSource the new source (UTF-8), decoded by an {@link InputStreamReader}
+   * @throws IllegalStateException if the parser cannot be reused
+   */
+  public void reInit(final Object aParser, final byte[] aSource) {
+    if (reInit == null) {
+      throw new IllegalStateException("The " + generator.name + " parser has no ReInit(Reader) method");
+    }
+    try {
+      reInit.invoke(aParser, new InputStreamReader(new ByteArrayInputStream(aSource), StandardCharsets.UTF_8));
+    } catch (final InvocationTargetException e) {
+      throw new IllegalStateException(e.getCause().toString(), e.getCause());
+    } catch (final ReflectiveOperationException e) {
+      throw new IllegalStateException(e.toString(), e);
+    }
+  }
+  
+  /**
+   * Parses a source with a new parser.
+   *
+   * @param aSource the source (UTF-8)
+   * @return the value returned by the start production (the syntax tree root for JTB, null for JavaCC)
+   * @throws IllegalStateException if the source cannot be parsed
+   */
+  public Object parse(final byte[] aSource) {
+    return start(newParser(aSource));
+  }
+  
+  /**
+   * Runs the start production of a parser.
+   *
+   * @param aParser a parser (created by {@link #newParser(Reader)})
+   * @return the value returned by the start production
+   * @throws IllegalStateException if the source cannot be parsed
+   * @throws Error the errors of the parser as is (e.g. a StackOverflowError on a deeply nested source)
+   */
+  public Object start(final Object aParser) {
+    try {
+      return start.invoke(aParser);
+    } catch (final InvocationTargetException e) {
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      final String m = String.valueOf(e.getCause().getMessage());
+      final int nl = m.indexOf('\n');
+      throw new IllegalStateException(nl < 0 ? m : m.substring(0, nl), e.getCause());
+    } catch (final ReflectiveOperationException e) {
+      throw new IllegalStateException(e.toString(), e);
+    }
+  }
+  
+  /**
+   * Counts the tokens of a source, through the <code>getNextToken()</code> method of the parser and the
+   * <code>kind</code> field of its tokens (JavaCC parsers).
+   *
+   * @param aSource the source (UTF-8)
+   * @return the number of tokens, without the end of file one
+   * @throws IllegalStateException if the parser has not this method or its tokens this field, or if the source
+   *           cannot be tokenized
+   */
+  public int tokens(final byte[] aSource) {
+    final Object p = newParser(aSource);
+    try {
+      final Method m = parserClass.getMethod("getNextToken");
+      Field kind = null;
+      int n = 0;
+      while (true) {
+        final Object t = m.invoke(p);
+        if (kind == null) {
+          kind = t.getClass().getField("kind");
+        }
+        if (kind.getInt(t) == 0) {
+          return n;
+        }
+        n++;
+      }
+    } catch (final InvocationTargetException e) {
+      throw new IllegalStateException(e.getCause().toString(), e.getCause());
+    } catch (final ReflectiveOperationException e) {
+      throw new IllegalStateException(generator.name + " parser tokens cannot be counted : " + e, e);
+    }
+  }
+  
+  @Override
+  public String toString() {
+    return generator.name + " " + grammar.parserClass();
+  }
+}
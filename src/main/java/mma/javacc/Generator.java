@@ -0,0 +1,428 @@
+package mma.javacc;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import mma.bench.core.Allocations;
+
+/**
+ * A parser generator (JavaCC, JTB followed by JavaCC, JavaCC21), run through reflection from the jars of a
+ * directory, in process or in a forked JVM.
+ * <p>
+ * The generators are configured by the following system properties (a generator whose directory is not given
+ * or has no jar is skipped):
+ * <ul>
+ * <li>javacc.javaccDir: the directory of the JavaCC jar (e.g. javacc-7.0.13.jar), run through
+ * <code>org.javacc.parser.Main.mainProgram</code>
+ * <li>javacc.jtbDir: the directory of the JTB jar (e.g. jtb-1.3.2.jar), run through
+ * <code>EDU.purdue.jtb.JTB.main</code> then JavaCC on the annotated grammar (so javacc.javaccDir is also needed)
+ * <li>javacc.jtbArgs: the JTB arguments (default <code>{@value #DEF_JTB_ARGS}</code>)
+ * <li>javacc.javacc21Dir: the directory of the JavaCC21 jar (e.g. javacc-full.jar)
+ * <li>javacc.javacc21Main: the JavaCC21 main class (default {@value #DEF_JAVACC21_MAIN})
+ * <li>javacc.javacc21Args: the JavaCC21 arguments (default <code>{@value #DEF_JAVACC21_ARGS}</code>)
+ * <li>javacc.forkJvmArgs: the JVM arguments of the forked generations, separated by spaces (default none, e.g.
+ * <code>-XX:TieredStopAtLevel=1</code>)
+ * </ul>
+ * In the arguments, {out} is replaced by the output directory, {pkg} by the grammar package and {grammar} by the
+ * grammar file (the arguments being separated by spaces, the paths should not contain spaces).<br>
+ * A main class is run through its <code>static int mainProgram(String[])</code> method if it has one, its
+ * <code>main(String[])</code> method otherwise ; a generator which exits the JVM can only be forked.<br>
+ * The JTB 1.3.2 parser being static (its state is kept in static fields, and it cannot be created twice), JTB is
+ * loaded in a new class loader for each in process run, so its classes are interpreted and compiled again (JavaCC
+ * being run in the shared class loader) ; as JTB writes its syntaxtree and visitor directories in the current
+ * directory, they are moved to the output directory after each run.<br>
+ * The output of the generators is captured, and printed only if they fail.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class Generator {
+  
+  /** The JavaCC generator name */
+  public static final String            JAVACC            = "javacc";
+  /** The JTB (followed by JavaCC) generator name */
+  public static final String            JTB               = "jtb";
+  /** The JavaCC21 generator name */
+  public static final String            JAVACC21          = "javacc21";
+  /** The JavaCC main class */
+  static final String                   JAVACC_MAIN       = "org.javacc.parser.Main";
+  /** The JTB main class */
+  static final String                   JTB_MAIN          = "EDU.purdue.jtb.JTB";
+  /** The default JTB arguments */
+  static final String                   DEF_JTB_ARGS      = "-o {out}/jtb.out.jj -p {pkg} {grammar}";
+  /** The default JavaCC21 main class */
+  static final String                   DEF_JAVACC21_MAIN = "com.javacc.Main";
+  /** The default JavaCC21 arguments */
+  static final String                   DEF_JAVACC21_ARGS = "-n -q -d {out} {grammar}";
+  /** The prefix of the statistics line printed by a forked generation */
+  static final String                   STATS             = "generation stats (peak heap;allocated) : ";
+  
+  /** The generator name */
+  public final String                   name;
+  /** The generator jars (with the JavaCC ones for JTB) */
+  public final List<File>               jars;
+  private final URLClassLoader          loader;
+  private final URL[]                   statics;
+  private final String                  mainClass;
+  private final String                  args;
+  private final Map<String, Method>     entries           = new HashMap<>();
+  private final ByteArrayOutputStream   output            = new ByteArrayOutputStream();
+  private final PrintStream             capture;
+  
+  /**
+   * Constructor.
+   *
+   * @param aName the generator name
+   * @param aJars the generator jars
+   * @param aMainClass the generator main class
+   * @param aArgs the generator arguments, with the placeholders
+   * @param aStatics the number of first jars of the main class, to load in a new class loader for each run (0 for
+   *          none)
+   */
+  private Generator(final String aName, final List<File> aJars, final String aMainClass, final String aArgs,
+      final int aStatics) {
+    name = aName;
+    jars = aJars;
+    mainClass = aMainClass;
+    args = aArgs;
+    final URL[] urls = new URL[aJars.size()];
+    try {
+      for (int i = 0; i < urls.length; i++) {
+        urls[i] = aJars.get(i).toURI().toURL();
+      }
+      capture = new PrintStream(output, true, "UTF-8");
+    } catch (final MalformedURLException | UnsupportedEncodingException e) {
+      throw new IllegalStateException("Cannot configure " + aName, e);
+    }
+    loader = new URLClassLoader(urls, Generator.class.getClassLoader());
+    statics = aStatics == 0 ? null : Arrays.copyOf(urls, aStatics);
+  }
+  
+  /**
+   * @return the configured generators (printing the skipped ones)
+   */
+  public static List<Generator> configured() {
+    final List<Generator> gens = new ArrayList<>();
+    final List<File> javacc = jars("javacc.javaccDir");
+    if (javacc.isEmpty()) {
+      System.out.println("  " + JAVACC + " and " + JTB + " skipped : no jar in javacc.javaccDir");
+    } else {
+      gens.add(new Generator(JAVACC, javacc, JAVACC_MAIN, null, 0));
+      final List<File> jtb = jars("javacc.jtbDir");
+      if (jtb.isEmpty()) {
+        System.out.println("  " + JTB + " skipped : no jar in javacc.jtbDir");
+      } else {
+        final int n = jtb.size();
+        jtb.addAll(javacc);
+        gens.add(new Generator(JTB, jtb, JTB_MAIN, System.getProperty("javacc.jtbArgs", DEF_JTB_ARGS), n));
+      }
+    }
+    final List<File> javacc21 = jars("javacc.javacc21Dir");
+    if (javacc21.isEmpty()) {
+      System.out.println("  " + JAVACC21 + " skipped : no jar in javacc.javacc21Dir");
+    } else {
+      gens.add(new Generator(JAVACC21, javacc21, System.getProperty("javacc.javacc21Main", DEF_JAVACC21_MAIN),
+          System.getProperty("javacc.javacc21Args", DEF_JAVACC21_ARGS), 0));
+    }
+    return gens;
+  }
+  
+  /**
+   * @param aProperty a directory property
+   * @return the jars of the directory, empty if the property is not set or the directory has none
+   */
+  private static List<File> jars(final String aProperty) {
+    final List<File> jars = new ArrayList<>();
+    final String d = System.getProperty(aProperty);
+    final File[] files = d == null ? null : new File(d).listFiles();
+    if (files != null) {
+      for (final File f : files) {
+        if (f.getName().endsWith(".jar")) {
+          jars.add(f);
+        }
+      }
+    }
+    return jars;
+  }
+  
+  /**
+   * Generates the parser of a grammar in process, in an emptied output directory.
+   *
+   * @param aGrammar the grammar
+   * @param aOut the output directory
+   * @return the number of generated files
+   * @throws IllegalStateException if the generation fails
+   */
+  public long generate(final Grammar aGrammar, final File aOut) {
+    delete(aOut);
+    aOut.mkdirs();
+    final String grammar = aGrammar.file.getAbsolutePath();
+    if (JAVACC.equals(name)) {
+      javacc(grammar, aGrammar, aOut);
+    } else if (JTB.equals(name)) {
+      final File jj = new File(aOut, "jtb.out.jj");
+      run(mainClass, expand(aGrammar, aOut), jj, statics);
+      moveToOut(aOut, "syntaxtree");
+      moveToOut(aOut, "visitor");
+      javacc(jj.getPath(), aGrammar, aOut);
+    } else {
+      run(mainClass, expand(aGrammar, aOut), null, null);
+    }
+    final String[] files = aOut.list();
+    return files == null ? 0 : files.length;
+  }
+  
+  /**
+   * Runs JavaCC on a grammar file.
+   *
+   * @param aFile the grammar file path (the grammar or the JTB annotated one)
+   * @param aGrammar the grammar
+   * @param aOut the output directory
+   */
+  private void javacc(final String aFile, final Grammar aGrammar, final File aOut) {
+    run(JAVACC_MAIN, new String[] {
+        "-OUTPUT_DIRECTORY=" + aOut.getPath(), aFile
+    }, new File(aOut, aGrammar.parser + ".java"), null);
+  }
+  
+  /**
+   * @param aGrammar the grammar
+   * @param aOut the output directory
+   * @return the generator arguments with the placeholders replaced
+   */
+  private String[] expand(final Grammar aGrammar, final File aOut) {
+    return args.trim().replace("{out}", aOut.getPath()).replace("{pkg}", aGrammar.pkg)
+        .replace("{grammar}", aGrammar.file.getAbsolutePath()).split("\\s+");
+  }
+  
+  /**
+   * Runs a main class of the generator, with its output captured.
+   *
+   * @param aClass the main class
+   * @param aArgs the arguments
+   * @param aExpected a file or directory which must exist after the run, null for none
+   * @param aStatics the jars to load in a new class loader for this run, null for the shared class loader
+   * @throws IllegalStateException if the run fails or if the expected file is not created
+   */
+  private void run(final String aClass, final String[] aArgs, final File aExpected, final URL[] aStatics) {
+    final PrintStream out = System.out;
+    final PrintStream err = System.err;
+    final Thread t = Thread.currentThread();
+    final ClassLoader ccl = t.getContextClassLoader();
+    final URLClassLoader cl = aStatics == null ? loader
+        : new URLClassLoader(aStatics, Generator.class.getClassLoader());
+    int rc;
+    output.reset();
+    System.setOut(capture);
+    System.setErr(capture);
+    t.setContextClassLoader(cl);
+    try {
+      final Object o = entry(aClass, cl).invoke(null, (Object) aArgs);
+      rc = o instanceof Integer ? ((Integer) o).intValue() : 0;
+    } catch (final InvocationTargetException e) {
+      throw new IllegalStateException(failure(aClass, aArgs, e.getCause().toString()), e.getCause());
+    } catch (final ReflectiveOperationException e) {
+      throw new IllegalStateException(failure(aClass, aArgs, e.toString()), e);
+    } finally {
+      t.setContextClassLoader(ccl);
+      System.setOut(out);
+      System.setErr(err);
+      if (cl != loader) {
+        close(cl);
+      }
+    }
+    if (rc != 0 || aExpected != null && !aExpected.exists()) {
+      throw new IllegalStateException(failure(aClass, aArgs, "rc = " + rc));
+    }
+  }
+  
+  /**
+   * @param aClass the main class
+   * @param aArgs the arguments
+   * @param aCause the failure cause
+   * @return the failure message, with the captured output
+   */
+  private String failure(final String aClass, final String[] aArgs, final String aCause) {
+    return name + " (" + aClass + " " + Arrays.toString(aArgs) + ") failed : " + aCause + "\n"
+        + new String(output.toByteArray(), StandardCharsets.UTF_8);
+  }
+  
+  /**
+   * @param aClass a main class
+   * @param aLoader the class loader of the run
+   * @return its mainProgram(String[]) method, or its main(String[]) one (cached for the shared class loader)
+   * @throws ReflectiveOperationException if the class or the methods cannot be found
+   */
+  private Method entry(final String aClass, final ClassLoader aLoader) throws ReflectiveOperationException {
+    Method m = aLoader == loader ? entries.get(aClass) : null;
+    if (m == null) {
+      final Class<?> c = Class.forName(aClass, true, aLoader);
+      try {
+        m = c.getMethod("mainProgram", String[].class);
+      } catch (final NoSuchMethodException e) {
+        m = c.getMethod("main", String[].class);
+      }
+      if (aLoader == loader) {
+        entries.put(aClass, m);
+      }
+    }
+    return m;
+  }
+  
+  /**
+   * @param aLoader a class loader of a single run, to close
+   */
+  private static void close(final URLClassLoader aLoader) {
+    try {
+      aLoader.close();
+    } catch (final IOException e) {
+      // only the jars files remain open
+    }
+  }
+  
+  /**
+   * Moves a directory written by the generator in the current directory to the output directory.
+   *
+   * @param aOut the output directory
+   * @param aDir the directory name
+   */
+  private static void moveToOut(final File aOut, final String aDir) {
+    final File src = new File(aDir).getAbsoluteFile();
+    final File dst = new File(aOut, aDir).getAbsoluteFile();
+    if (src.isDirectory() && !src.equals(dst)) {
+      delete(dst);
+      try {
+        Files.move(src.toPath(), dst.toPath());
+      } catch (final IOException e) {
+        throw new IllegalStateException("Cannot move " + src + " to " + dst, e);
+      }
+    }
+  }
+  
+  /**
+   * @param aFile a file or directory to delete, with its content
+   */
+  static void delete(final File aFile) {
+    final File[] files = aFile.listFiles();
+    if (files != null) {
+      for (final File f : files) {
+        delete(f);
+      }
+    }
+    aFile.delete();
+  }
+  
+  /**
+   * @param aPrefix the prefix of the directory name
+   * @return a new temporary directory in the javacc.dir directory (default java.io.tmpdir)
+   * @throws IOException if the directory cannot be created
+   */
+  public static File workDir(final String aPrefix) throws IOException {
+    final File d = new File(System.getProperty("javacc.dir", System.getProperty("java.io.tmpdir")));
+    d.mkdirs();
+    return Files.createTempDirectory(d.toPath(), aPrefix).toFile();
+  }
+  
+  /**
+   * Generates the parser of a grammar in a forked JVM (of the current JDK, see {@link #main(String[])}).
+   *
+   * @param aGrammar the grammar
+   * @param aOut the output directory
+   * @param aStats the array receiving the peak heap and the allocated bytes of the forked JVM (-1 if not printed)
+   * @return the number of generated files
+   * @throws IllegalStateException if the generation fails
+   */
+  public long fork(final Grammar aGrammar, final File aOut, final long[] aStats) {
+    final List<String> cmd = new ArrayList<>();
+    cmd.add(new File(System.getProperty("java.home"), "bin/java").getPath());
+    final String ja = System.getProperty("javacc.forkJvmArgs", "").trim();
+    if (!ja.isEmpty()) {
+      cmd.addAll(Arrays.asList(ja.split("\\s+")));
+    }
+    for (final Map.Entry<Object, Object> e : System.getProperties().entrySet()) {
+      if (((String) e.getKey()).startsWith("javacc.")) {
+        cmd.add("-D" + e.getKey() + "=" + e.getValue());
+      }
+    }
+    cmd.addAll(Arrays.asList("-cp", System.getProperty("java.class.path"), Generator.class.getName(), name,
+        aGrammar.file.getAbsolutePath(), aOut.getAbsolutePath()));
+    aStats[0] = -1;
+    aStats[1] = -1;
+    final StringBuilder sb = new StringBuilder();
+    try {
+      final Process p = new ProcessBuilder(cmd).redirectErrorStream(true).start();
+      try (BufferedReader br = new BufferedReader(new InputStreamReader(p.getInputStream(), StandardCharsets.UTF_8))) {
+        String l;
+        while ((l = br.readLine()) != null) {
+          if (l.startsWith(STATS)) {
+            final String[] v = l.substring(STATS.length()).split(";");
+            aStats[0] = Long.parseLong(v[0]);
+            aStats[1] = Long.parseLong(v[1]);
+          } else {
+            sb.append(l).append('\n');
+          }
+        }
+      }
+      final int rc = p.waitFor();
+      if (rc != 0) {
+        throw new IllegalStateException(name + " fork failed : rc = " + rc + "\n" + sb);
+      }
+    } catch (final IOException e) {
+      throw new IllegalStateException(name + " fork failed : " + e + "\n" + sb, e);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(name + " fork interrupted", e);
+    }
+    final String[] files = aOut.list();
+    return files == null ? 0 : files.length;
+  }
+  
+  /**
+   * Generates the parser of a grammar (in the forked JVM of {@link #fork(Grammar, File, long[])}), and prints the
+   * peak heap and the bytes allocated by the generation.
+   *
+   * @param args the generator name, the grammar file and the output directory
+   * @throws IOException if the grammar cannot be read
+   */
+  public static void main(final String[] args) throws IOException {
+    if (args.length != 3) {
+      System.err.println("Usage: Generator javacc|jtb|javacc21 grammar.jj outDir");
+      System.exit(1);
+    }
+    for (final Generator g : configured()) {
+      if (g.name.equals(args[0])) {
+        final long a = Allocations.current();
+        g.generate(new Grammar(new File(args[1])), new File(args[2]));
+        final long alloc = Allocations.since(a);
+        System.out.println(STATS + Memory.peakHeap() + ";" + alloc);
+        return;
+      }
+    }
+    System.err.println("Generator " + args[0] + " not configured");
+    System.exit(1);
+  }
+  
+  @Override
+  public String toString() {
+    return name + " " + jars;
+  }
+}
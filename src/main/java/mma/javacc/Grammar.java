@@ -0,0 +1,136 @@
+package mma.javacc;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A JavaCC grammar of the benchmarks corpus (src/main/resources/grammars), with the names read from its file.
+ * <p>
+ * The grammars are written in the JavaCC syntax, without actions, so that JavaCC, JTB and JavaCC21 all accept
+ * them. The first production is the start production.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class Grammar {
+  
+  /** The grammars directory property */
+  public static final String   P_GRAMMARS  = "javacc.grammars";
+  /** The default grammars directory */
+  public static final String   DEF_DIR     = "src/main/resources/grammars";
+  
+  private static final Pattern PARSER      = Pattern.compile("PARSER_BEGIN\\s*\\(\\s*(\\w+)\\s*\\)");
+  private static final Pattern PACKAGE     = Pattern.compile("(?m)^\\s*package\\s+([\\w.]+)\\s*;");
+  private static final Pattern PRODUCTION  = Pattern.compile("(?m)^\\s*void\\s+(\\w+)\\s*\\(\\s*\\)\\s*:");
+  
+  /** The grammar name (the file name without extension, in lower case, e.g. java) */
+  public final String          name;
+  /** The grammar file */
+  public final File            file;
+  /** The size of the grammar file, in bytes */
+  public final long            size;
+  /** The package of the generated parser (e.g. mma.grammars.java) */
+  public final String          pkg;
+  /** The simple name of the generated parser class (e.g. JavaParser) */
+  public final String          parser;
+  /** The start production (the first one, e.g. CompilationUnit) */
+  public final String          start;
+  /** The number of BNF productions */
+  public final int             productions;
+  
+  /**
+   * Constructor, reading the names from the grammar file.
+   *
+   * @param aFile the grammar file
+   * @throws IOException if the file cannot be read or is not a JavaCC grammar
+   */
+  public Grammar(final File aFile) throws IOException {
+    file = aFile;
+    size = aFile.length();
+    final String n = aFile.getName();
+    name = n.substring(0, n.lastIndexOf('.')).toLowerCase(Locale.ROOT);
+    final String s = new String(Files.readAllBytes(aFile.toPath()), StandardCharsets.ISO_8859_1);
+    final Matcher pm = PARSER.matcher(s);
+    if (!pm.find()) {
+      throw new IOException("No PARSER_BEGIN in " + aFile);
+    }
+    parser = pm.group(1);
+    final Matcher km = PACKAGE.matcher(s);
+    pkg = km.find(pm.end()) ? km.group(1) : "";
+    final Matcher bm = PRODUCTION.matcher(s);
+    String st = null;
+    int np = 0;
+    while (bm.find()) {
+      if (st == null) {
+        st = bm.group(1);
+      }
+      np++;
+    }
+    if (st == null) {
+      throw new IOException("No BNF production in " + aFile);
+    }
+    start = st;
+    productions = np;
+  }
+  
+  /**
+   * @return the fully qualified name of the generated parser class
+   */
+  public String parserClass() {
+    return pkg.isEmpty() ? parser : pkg + "." + parser;
+  }
+  
+  /**
+   * Loads the grammars of the javacc.grammars directory (default {@value #DEF_DIR}).
+   *
+   * @return the grammars, by increasing size
+   * @throws IOException if a grammar cannot be read or if there is none
+   */
+  public static List<Grammar> load() throws IOException {
+    final File dir = new File(System.getProperty(P_GRAMMARS, DEF_DIR));
+    final File[] files = dir.listFiles();
+    final List<Grammar> grammars = new ArrayList<>();
+    if (files != null) {
+      for (final File f : files) {
+        if (f.getName().endsWith(".jj")) {
+          grammars.add(new Grammar(f));
+        }
+      }
+    }
+    if (grammars.isEmpty()) {
+      throw new IOException("No grammar (*.jj) in " + dir.getAbsolutePath() + " (see " + P_GRAMMARS + ")");
+    }
+    Collections.sort(grammars, Comparator.comparingLong((final Grammar g) -> g.size));
+    return grammars;
+  }
+  
+  /**
+   * @param aName a grammar name
+   * @return the grammar of the javacc.grammars directory with this name
+   * @throws IOException if the grammars cannot be read or if there is none with this name
+   */
+  public static Grammar named(final String aName) throws IOException {
+    for (final Grammar g : load()) {
+      if (g.name.equals(aName)) {
+        return g;
+      }
+    }
+    throw new IOException("No grammar " + aName + " in " + System.getProperty(P_GRAMMARS, DEF_DIR));
+  }
+  
+  @Override
+  public String toString() {
+    return name + " (" + size + " bytes, " + productions + " productions, " + parserClass() + "." + start + ")";
+  }
+}
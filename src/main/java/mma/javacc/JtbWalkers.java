@@ -0,0 +1,265 @@
+package mma.javacc;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.ToIntFunction;
+
+/**
+ * The walkers of the syntax trees of a JTB generated parser, counting the tokens of a tree:
+ * <ul>
+ * <li>{@value #DEPTH_FIRST}: a subclass of the generated <code>DepthFirstVisitor</code> (recursive, void visit
+ * methods), counting in a field
+ * <li>{@value #GJ_RETURN}: an implementation of the generated <code>GJNoArguVisitor&lt;Integer&gt;</code>
+ * (recursive), each visit method returning the sum of the counts of its children (so boxing the counts above the
+ * Integer cache)
+ * <li>{@value #ITERATIVE}: an iterative walker, with an explicit stack of nodes (an array growing as needed), the
+ * generated <code>Visitor</code> interface only pushing the children of a node (in reverse order)
+ * </ul>
+ * The productions and their children being known only once the parser is generated, the walkers sources are
+ * generated from the visit methods of the <code>Visitor</code> interface and the <i>f0</i>, <i>f1</i>... fields
+ * of the syntax tree classes, then compiled against the parser classes (see {@link GeneratedParser}).<br>
+ * The walkers implement {@link ToIntFunction} (the tree root giving the number of tokens), so that they are
+ * called without reflection ; they are not thread safe.
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class JtbWalkers {
+  
+  /** The depth first visitor walker name */
+  public static final String DEPTH_FIRST = "depth_first";
+  /** The GJ return value visitor walker name */
+  public static final String GJ_RETURN   = "gj_return";
+  /** The iterative walker name */
+  public static final String ITERATIVE   = "iterative";
+  
+  /** The JTB node classes which are not productions */
+  private static final String[] NODES    = {
+      "NodeList", "NodeListOptional", "NodeOptional", "NodeSequence", "NodeToken"
+  };
+  
+  private JtbWalkers() {
+    // no instances
+  }
+  
+  /**
+   * Generates, compiles and loads the walkers of a JTB parser.
+   *
+   * @param aParser the JTB parser (generated with the syntaxtree and visitor packages in its grammar package)
+   * @param aDir the work directory (the sources being generated in its src sub directory, and compiled in its
+   *          classes one)
+   * @return the walkers, by name, in the {@value #DEPTH_FIRST}, {@value #GJ_RETURN}, {@value #ITERATIVE} order
+   * @throws IllegalStateException if the parser is not a JTB one or if the walkers cannot be built
+   */
+  @SuppressWarnings("unchecked")
+  public static Map<String, ToIntFunction<Object>> build(final GeneratedParser aParser, final File aDir) {
+    final String pkg = aParser.grammar.pkg;
+    final String wpkg = prefix(pkg) + "walkers";
+    final Map<String, String> sources = new LinkedHashMap<>();
+    try {
+      final Class<?> visitor = Class.forName(prefix(pkg) + "visitor.Visitor", false, aParser.loader());
+      final TreeSet<Class<?>> prods = new TreeSet<>(Comparator.comparing(Class::getName));
+      for (final Method m : visitor.getMethods()) {
+        final Class<?> c = m.getParameterTypes()[0];
+        if (!isNode(c)) {
+          prods.add(c);
+        }
+      }
+      sources.put("DepthFirstCounter", depthFirst(pkg, wpkg));
+      sources.put("GJReturnCounter", gjReturn(pkg, wpkg, prods));
+      sources.put("IterativeCounter", iterative(pkg, wpkg, prods));
+    } catch (final ClassNotFoundException e) {
+      throw new IllegalStateException(aParser + " is not a JTB parser (no Visitor interface)", e);
+    }
+    final File src = new File(aDir, "src");
+    final File classes = new File(aDir, "classes");
+    final File wdir = new File(src, wpkg.replace('.', '/'));
+    wdir.mkdirs();
+    try {
+      for (final Map.Entry<String, String> e : sources.entrySet()) {
+        Files.write(new File(wdir, e.getKey() + ".java").toPath(), e.getValue().getBytes(StandardCharsets.UTF_8));
+      }
+    } catch (final IOException e) {
+      throw new IllegalStateException("Cannot write the walkers in " + wdir, e);
+    }
+    GeneratedParser.compile(src, classes, aParser.classes.getPath(), "the walkers of " + aParser);
+    final Map<String, ToIntFunction<Object>> walkers = new LinkedHashMap<>();
+    try {
+      @SuppressWarnings("resource")
+      final URLClassLoader cl = new URLClassLoader(new URL[] {
+          classes.toURI().toURL()
+      }, aParser.loader());
+      final String[] names = {
+          DEPTH_FIRST, GJ_RETURN, ITERATIVE
+      };
+      int i = 0;
+      for (final String cn : sources.keySet()) {
+        walkers.put(names[i++],
+            (ToIntFunction<Object>) Class.forName(wpkg + "." + cn, true, cl).getConstructor().newInstance());
+      }
+    } catch (final ReflectiveOperationException | MalformedURLException e) {
+      throw new IllegalStateException("Cannot load the walkers of " + aParser, e);
+    }
+    return walkers;
+  }
+  
+  /**
+   * @param aPkg a package, empty for the default one
+   * @return the package followed by a dot, empty for the default one
+   */
+  private static String prefix(final String aPkg) {
+    return aPkg.isEmpty() ? "" : aPkg + ".";
+  }
+  
+  /**
+   * @param aClass a syntax tree class
+   * @return true if it is a JTB node class, false if it is a production one
+   */
+  private static boolean isNode(final Class<?> aClass) {
+    for (final String n : NODES) {
+      if (n.equals(aClass.getSimpleName())) {
+        return true;
+      }
+    }
+    return false;
+  }
+  
+  /**
+   * @param aProd a production class
+   * @return the names of its children fields (f0, f1...), in their order
+   */
+  private static List<String> children(final Class<?> aProd) {
+    final List<String> fields = new ArrayList<>();
+    for (int i = 0;; i++) {
+      try {
+        fields.add(aProd.getField("f" + i).getName());
+      } catch (final NoSuchFieldException e) {
+        return fields;
+      }
+    }
+  }
+  
+  /**
+   * @param aPkg the grammar package
+   * @param aWpkg the walkers package
+   * @param aClass the walker class
+   * @param aSuper the extends and implements clauses
+   * @return the beginning of the walker source
+   */
+  private static StringBuilder header(final String aPkg, final String aWpkg, final String aClass,
+      final String aSuper) {
+    final StringBuilder sb = new StringBuilder(16384);
+    sb.append("// Generated by ").append(JtbWalkers.class.getName()).append("\n\n");
+    sb.append("package ").append(aWpkg).append(";\n\n");
+    sb.append("import ").append(prefix(aPkg)).append("syntaxtree.*;\n");
+    sb.append("import ").append(prefix(aPkg)).append("visitor.*;\n\n");
+    sb.append("public final class ").append(aClass).append(' ').append(aSuper).append(" {\n\n");
+    return sb;
+  }
+  
+  /**
+   * @param aPkg the grammar package
+   * @param aWpkg the walkers package
+   * @return the source of the depth first visitor walker
+   */
+  private static String depthFirst(final String aPkg, final String aWpkg) {
+    final StringBuilder sb = header(aPkg, aWpkg, "DepthFirstCounter",
+        "extends DepthFirstVisitor implements java.util.function.ToIntFunction<Object>");
+    sb.append("  private int tokens;\n\n");
+    sb.append("  @Override\n  public void visit(final NodeToken n) {\n    tokens++;\n  }\n\n");
+    sb.append("  @Override\n  public int applyAsInt(final Object aRoot) {\n    tokens = 0;\n");
+    sb.append("    ((Node) aRoot).accept(this);\n    return tokens;\n  }\n}\n");
+    return sb.toString();
+  }
+  
+  /**
+   * @param aPkg the grammar package
+   * @param aWpkg the walkers package
+   * @param aProds the production classes
+   * @return the source of the GJ return value visitor walker
+   */
+  private static String gjReturn(final String aPkg, final String aWpkg, final TreeSet<Class<?>> aProds) {
+    final StringBuilder sb = header(aPkg, aWpkg, "GJReturnCounter",
+        "implements GJNoArguVisitor<Integer>, java.util.function.ToIntFunction<Object>");
+    sb.append("  private static final Integer ZERO = Integer.valueOf(0);\n");
+    sb.append("  private static final Integer ONE = Integer.valueOf(1);\n\n");
+    sb.append("  @Override\n  public int applyAsInt(final Object aRoot) {\n");
+    sb.append("    return ((Node) aRoot).accept(this).intValue();\n  }\n\n");
+    sb.append("  private Integer sum(final NodeListInterface n) {\n    int s = 0;\n");
+    sb.append("    for (int i = 0; i < n.size(); i++) {\n      s += n.elementAt(i).accept(this).intValue();\n");
+    sb.append("    }\n    return Integer.valueOf(s);\n  }\n\n");
+    for (final String n : new String[] {
+        "NodeList", "NodeListOptional", "NodeSequence"
+    }) {
+      sb.append("  @Override\n  public Integer visit(final ").append(n).append(" n) {\n");
+      sb.append("    return sum(n);\n  }\n\n");
+    }
+    sb.append("  @Override\n  public Integer visit(final NodeOptional n) {\n");
+    sb.append("    return n.present() ? n.node.accept(this) : ZERO;\n  }\n\n");
+    sb.append("  @Override\n  public Integer visit(final NodeToken n) {\n    return ONE;\n  }\n");
+    for (final Class<?> c : aProds) {
+      sb.append("\n  @Override\n  public Integer visit(final ").append(c.getSimpleName()).append(" n) {\n");
+      final List<String> fields = children(c);
+      if (fields.size() == 1) {
+        sb.append("    return n.f0.accept(this);\n  }\n");
+        continue;
+      }
+      sb.append("    return Integer.valueOf(");
+      for (int i = 0; i < fields.size(); i++) {
+        sb.append(i == 0 ? "" : "\n        + ").append("n.").append(fields.get(i)).append(".accept(this).intValue()");
+      }
+      sb.append(fields.isEmpty() ? "0);\n  }\n" : ");\n  }\n");
+    }
+    return sb.append("}\n").toString();
+  }
+  
+  /**
+   * @param aPkg the grammar package
+   * @param aWpkg the walkers package
+   * @param aProds the production classes
+   * @return the source of the iterative walker
+   */
+  private static String iterative(final String aPkg, final String aWpkg, final TreeSet<Class<?>> aProds) {
+    final StringBuilder sb = header(aPkg, aWpkg, "IterativeCounter",
+        "implements Visitor, java.util.function.ToIntFunction<Object>");
+    sb.append("  private Node[] stack = new Node[256];\n  private int sp;\n  private int tokens;\n\n");
+    sb.append("  private void push(final Node n) {\n    if (sp == stack.length) {\n");
+    sb.append("      stack = java.util.Arrays.copyOf(stack, 2 * sp);\n    }\n    stack[sp++] = n;\n  }\n\n");
+    sb.append("  @Override\n  public int applyAsInt(final Object aRoot) {\n    tokens = 0;\n    sp = 0;\n");
+    sb.append("    push((Node) aRoot);\n    while (sp > 0) {\n      final Node n = stack[--sp];\n");
+    sb.append("      stack[sp] = null;\n      n.accept(this);\n    }\n    return tokens;\n  }\n\n");
+    sb.append("  private void pushAll(final NodeListInterface n) {\n");
+    sb.append("    for (int i = n.size() - 1; i >= 0; i--) {\n      push(n.elementAt(i));\n    }\n  }\n\n");
+    for (final String n : new String[] {
+        "NodeList", "NodeListOptional", "NodeSequence"
+    }) {
+      sb.append("  @Override\n  public void visit(final ").append(n).append(" n) {\n");
+      sb.append("    pushAll(n);\n  }\n\n");
+    }
+    sb.append("  @Override\n  public void visit(final NodeOptional n) {\n    if (n.present()) {\n");
+    sb.append("      push(n.node);\n    }\n  }\n\n");
+    sb.append("  @Override\n  public void visit(final NodeToken n) {\n    tokens++;\n  }\n");
+    for (final Class<?> c : aProds) {
+      sb.append("\n  @Override\n  public void visit(final ").append(c.getSimpleName()).append(" n) {\n");
+      final List<String> fields = children(c);
+      for (int i = fields.size() - 1; i >= 0; i--) {
+        sb.append("    push(n.").append(fields.get(i)).append(");\n");
+      }
+      sb.append("  }\n");
+    }
+    return sb.append("}\n").toString();
+  }
+}
@@ -0,0 +1,59 @@
+package mma.javacc;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A JavaCC character stream over a UTF-8 file mapped in memory and decoded in bulk (a single
+ * {@link java.nio.charset.CharsetDecoder#decode(java.nio.ByteBuffer)} call), then read as an
+ * {@link ArrayCharStream}.
+ * <p>
+ * The mapping avoids the copies of the file reading through a {@link java.io.Reader}, and the bulk decoding the
+ * per buffer decoding calls ; the decoded characters are held in memory until the end of the lexing. The mapping
+ * is released by the garbage collector.
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public class MappedCharStream extends ArrayCharStream {
+  
+  /**
+   * Constructor.
+   *
+   * @param aFile the file (UTF-8, the malformed input being replaced)
+   * @throws IOException if the file cannot be mapped
+   */
+  public MappedCharStream(final Path aFile) throws IOException {
+    this(decode(aFile));
+  }
+  
+  /**
+   * Constructor.
+   *
+   * @param aChars the decoded characters
+   */
+  private MappedCharStream(final CharBuffer aChars) {
+    super(aChars.array(), aChars.arrayOffset() + aChars.position(), aChars.arrayOffset() + aChars.limit());
+  }
+  
+  /**
+   * @param aFile a UTF-8 file
+   * @return its characters
+   * @throws IOException if the file cannot be mapped
+   */
+  static CharBuffer decode(final Path aFile) throws IOException {
+    try (FileChannel fc = FileChannel.open(aFile, StandardOpenOption.READ)) {
+      final MappedByteBuffer mb = fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size());
+      return StandardCharsets.UTF_8.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+          .onUnmappableCharacter(CodingErrorAction.REPLACE).decode(mb);
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package mma.javacc;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the peak heap usage of the JVM, through the {@link MemoryPoolMXBean}s of the heap pools, and the time
+ * spent by the garbage collectors, through the {@link GarbageCollectorMXBean}s.
+ * <p>
+ * The peak is the sum of the peaks of the pools (eden, survivor and old generation ones), which may be reached
+ * at different times, so it is an upper bound of the real peak. As the pools keep their peak since the JVM start
+ * or the last reset, a measure runs the garbage collector and resets the peaks before the measured code.<br>
+ * The garbage collection time is the accumulated duration of the collections (including the concurrent ones for
+ * some collectors, e.g. G1 cycles), so it is compared between runs of the same collector only.<br>
+ * The bytes allocated by all the threads are read through the HotSpot extension of the {@link ThreadMXBean}, for
+ * the code run by thread pools (the virtual threads allocations being counted in their carrier threads).
+ * </p>
+ *
+ * @author Marc MAZAS - 2026
+ *
+ * @version 1.0 : creation <br>
+ */
+public final class Memory {
+  
+  private static final List<MemoryPoolMXBean> HEAP_POOLS = new ArrayList<>();
+  
+  static {
+    for (final MemoryPoolMXBean p : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (p.getType() == MemoryType.HEAP && p.isValid()) {
+        HEAP_POOLS.add(p);
+      }
+    }
+  }
+  
+  private Memory() {
+    // no instances
+  }
+  
+  /**
+   * Runs the garbage collector and resets the peaks of the heap pools to their current usage.
+   */
+  public static void resetPeakHeap() {
+    System.gc();
+    for (final MemoryPoolMXBean p : HEAP_POOLS) {
+      p.resetPeakUsage();
+    }
+  }
+  
+  /**
+   * @return the sum of the peak usages of the heap pools since the JVM start or the last reset, in bytes
+   */
+  public static long peakHeap() {
+    long l = 0;
+    for (final MemoryPoolMXBean p : HEAP_POOLS) {
+      l += p.getPeakUsage().getUsed();
+    }
+    return l;
+  }
+  
+  /**
+   * Runs the garbage collector and reads the used heap, e.g. to compute the size of the objects retained between
+   * two calls (not meaningful if the explicit garbage collections are disabled).
+   *
+   * @return the sum of the used sizes of the heap pools, in bytes
+   */
+  public static long usedHeap() {
+    // twice, as a collection may leave the garbage of the previous ones
+    System.gc();
+    System.gc();
+    long l = 0;
+    for (final MemoryPoolMXBean p : HEAP_POOLS) {
+      l += p.getUsage().getUsed();
+    }
+    return l;
+  }
+  
+  /**
+   * @return the accumulated time of the garbage collections since the JVM start, in ms (-1 if unknown)
+   */
+  public static long gcMillis() {
+    long l = -1;
+    for (final GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      final long t = gc.getCollectionTime();
+      if (t >= 0) {
+        l = Math.max(l, 0) + t;
+      }
+    }
+    return l;
+  }
+  
+  /**
+   * @return the number of garbage collections since the JVM start
+   */
+  public static long gcCount() {
+    long l = 0;
+    for (final GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      l += Math.max(0, gc.getCollectionCount());
+    }
+    return l;
+  }
+  
+  /**
+   * @return the bytes allocated by the live platform threads since their start, per thread id, null if not
+   *         supported
+   */
+  public static Map<Long, Long> allocatedBytes() {
+    final ThreadMXBean tb = ManagementFactory.getThreadMXBean();
+    if (!(tb instanceof com.sun.management.ThreadMXBean)
+        || !((com.sun.management.ThreadMXBean) tb).isThreadAllocatedMemorySupported()) {
+      return null;
+    }
+    final long[] ids = tb.getAllThreadIds();
+    final long[] bytes = ((com.sun.management.ThreadMXBean) tb).getThreadAllocatedBytes(ids);
+    final Map<Long, Long> m = new HashMap<>();
+    for (int i = 0; i < ids.length; i++) {
+      if (bytes[i] >= 0) {
+        m.put(Long.valueOf(ids[i]), Long.valueOf(bytes[i]));
+      }
+    }
+    return m;
+  }
+  
+  /**
+   * Sums the bytes allocated by the live platform threads since a previous read, per thread (so that the threads
+   * which ended meanwhile do not count) ; the allocations of the threads which ended before this read are lost, so
+   * the threads of the measured code must outlive it.
+   *
+   * @param aStart a value previously returned by {@link #allocatedBytes()}
+   * @return the bytes allocated since then, -1 if not supported
+   */
+  public static long allocatedSince(final Map<Long, Long> aStart) {
+    final Map<Long, Long> now = allocatedBytes();
+    if (aStart == null || now == null) {
+      return -1;
+    }
+    long l = 0;
+    for (final Map.Entry<Long, Long> e : now.entrySet()) {
+      final Long b = aStart.get(e.getKey());
+      l += Math.max(0, e.getValue().longValue() - (b == null ? 0 : b.longValue()));
+    }
+    return l;
+  }
+}